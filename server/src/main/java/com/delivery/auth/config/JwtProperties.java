@@ -10,6 +10,8 @@ import org.springframework.validation.annotation.Validated;
 public record JwtProperties(
         @NotBlank String secret,
         @Min(1) long accessTokenExpirationSeconds,
-        @Min(1) long refreshTokenExpirationSeconds
+        @Min(1) long refreshTokenExpirationSeconds,
+        boolean selfContainedAccessToken,
+        @Min(0) long verifiedTokenCacheMaxSize
 ) {
 }
@@ -0,0 +1,113 @@
+package com.delivery.auth.config;
+
+import com.delivery.auth.model.LoginAuditOverflowPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.auth.login-audit")
+public class LoginAuditProperties {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1_000L;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+    private static final int DEFAULT_PARTITION_MONTHS_AHEAD = 3;
+
+    private boolean asyncEnabled = true;
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+    private LoginAuditOverflowPolicy overflowPolicy = LoginAuditOverflowPolicy.CALLER_RUNS;
+    private boolean partitionMaintenanceEnabled = true;
+    private int partitionMonthsAhead = DEFAULT_PARTITION_MONTHS_AHEAD;
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            this.queueCapacity = DEFAULT_QUEUE_CAPACITY;
+            return;
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            return;
+        }
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        if (flushIntervalMillis <= 0) {
+            this.flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+            return;
+        }
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        if (shutdownTimeoutMillis <= 0) {
+            this.shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+            return;
+        }
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    public LoginAuditOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(LoginAuditOverflowPolicy overflowPolicy) {
+        if (overflowPolicy == null) {
+            this.overflowPolicy = LoginAuditOverflowPolicy.CALLER_RUNS;
+            return;
+        }
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public boolean isPartitionMaintenanceEnabled() {
+        return partitionMaintenanceEnabled;
+    }
+
+    public void setPartitionMaintenanceEnabled(boolean partitionMaintenanceEnabled) {
+        this.partitionMaintenanceEnabled = partitionMaintenanceEnabled;
+    }
+
+    public int getPartitionMonthsAhead() {
+        return partitionMonthsAhead;
+    }
+
+    public void setPartitionMonthsAhead(int partitionMonthsAhead) {
+        if (partitionMonthsAhead <= 0) {
+            this.partitionMonthsAhead = DEFAULT_PARTITION_MONTHS_AHEAD;
+            return;
+        }
+        this.partitionMonthsAhead = partitionMonthsAhead;
+    }
+}
@@ -0,0 +1,66 @@
+package com.delivery.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.auth.password-hashing")
+public class PasswordHashingProperties {
+
+    private static final int DEFAULT_BCRYPT_STRENGTH = 10;
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 5_000L;
+
+    private int bcryptStrength = DEFAULT_BCRYPT_STRENGTH;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        if (bcryptStrength < 4 || bcryptStrength > 31) {
+            this.bcryptStrength = DEFAULT_BCRYPT_STRENGTH;
+            return;
+        }
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        if (poolSize <= 0) {
+            this.poolSize = Runtime.getRuntime().availableProcessors();
+            return;
+        }
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            this.queueCapacity = DEFAULT_QUEUE_CAPACITY;
+            return;
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public void setTimeoutMillis(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            this.timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+            return;
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+}
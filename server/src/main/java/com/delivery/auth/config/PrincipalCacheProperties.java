@@ -0,0 +1,62 @@
+package com.delivery.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.auth.principal-cache")
+public class PrincipalCacheProperties {
+
+    private static final long DEFAULT_MAX_SIZE = 10_000L;
+    private static final long DEFAULT_TTL_SECONDS = 60L;
+    private static final long DEFAULT_SECURITY_EPOCH_TTL_SECONDS = 5L;
+
+    private boolean enabled = true;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private long ttlSeconds = DEFAULT_TTL_SECONDS;
+    private long securityEpochTtlSeconds = DEFAULT_SECURITY_EPOCH_TTL_SECONDS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        if (maxSize <= 0) {
+            this.maxSize = DEFAULT_MAX_SIZE;
+            return;
+        }
+        this.maxSize = maxSize;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            this.ttlSeconds = DEFAULT_TTL_SECONDS;
+            return;
+        }
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public long getSecurityEpochTtlSeconds() {
+        return securityEpochTtlSeconds;
+    }
+
+    public void setSecurityEpochTtlSeconds(long securityEpochTtlSeconds) {
+        if (securityEpochTtlSeconds <= 0) {
+            this.securityEpochTtlSeconds = DEFAULT_SECURITY_EPOCH_TTL_SECONDS;
+            return;
+        }
+        this.securityEpochTtlSeconds = securityEpochTtlSeconds;
+    }
+}
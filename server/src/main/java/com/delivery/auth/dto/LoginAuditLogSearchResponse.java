@@ -0,0 +1,11 @@
+package com.delivery.auth.dto;
+
+import java.util.List;
+
+public record LoginAuditLogSearchResponse(
+        List<LoginAuditLogResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -111,6 +111,10 @@ public class UserEntity {
         return status;
     }
 
+    public void changePasswordHash(String passwordHash) {
+        this.passwordHash = Objects.requireNonNull(passwordHash);
+    }
+
     public void changeDisplayName(String displayName) {
         this.displayName = Objects.requireNonNull(displayName);
     }
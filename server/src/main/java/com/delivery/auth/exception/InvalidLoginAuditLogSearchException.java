@@ -0,0 +1,8 @@
+package com.delivery.auth.exception;
+
+public class InvalidLoginAuditLogSearchException extends RuntimeException {
+
+    public InvalidLoginAuditLogSearchException(String message) {
+        super(message);
+    }
+}
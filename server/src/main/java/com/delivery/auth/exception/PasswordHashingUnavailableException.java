@@ -0,0 +1,8 @@
+package com.delivery.auth.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
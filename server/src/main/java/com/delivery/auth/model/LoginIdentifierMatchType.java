@@ -0,0 +1,6 @@
+package com.delivery.auth.model;
+
+public enum LoginIdentifierMatchType {
+    EXACT,
+    PREFIX
+}
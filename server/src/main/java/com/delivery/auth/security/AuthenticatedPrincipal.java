@@ -0,0 +1,25 @@
+package com.delivery.auth.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+public record AuthenticatedPrincipal(
+        Long userId,
+        String loginId,
+        String email,
+        String status,
+        boolean phoneVerified,
+        List<String> roleCodes
+) {
+
+    public AuthenticatedPrincipal {
+        roleCodes = roleCodes == null ? List.of() : List.copyOf(roleCodes);
+    }
+
+    public List<SimpleGrantedAuthority> authorities() {
+        return roleCodes.stream()
+                .map(roleCode -> new SimpleGrantedAuthority("ROLE_" + roleCode))
+                .toList();
+    }
+}
@@ -1,27 +1,54 @@
 package com.delivery.auth.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 
 import javax.crypto.SecretKey;
 
 import com.delivery.auth.config.JwtProperties;
 import com.delivery.auth.entity.UserEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_TYPE = "type";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_PHONE_VERIFIED = "phoneVerified";
+    private static final String CLAIM_SECURITY_EPOCH = "securityEpoch";
+    private static final String CLAIM_EMAIL = "email";
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "authVerifiedToken";
+
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokenCache;
 
-    public JwtTokenProvider(JwtProperties jwtProperties) {
+    public JwtTokenProvider(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
         this.jwtProperties = jwtProperties;
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokenCache = jwtProperties.verifiedTokenCacheMaxSize() > 0
+                ? buildVerifiedTokenCache(jwtProperties.verifiedTokenCacheMaxSize(), meterRegistry)
+                : null;
     }
 
     public String generateAccessToken(UserEntity user) {
@@ -29,8 +56,30 @@ public class JwtTokenProvider {
         Instant expiresAt = now.plusSeconds(jwtProperties.accessTokenExpirationSeconds());
         return Jwts.builder()
                 .subject(user.getLoginId())
-                .claim("uid", user.getId())
-                .claim("type", "access")
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_TYPE, "access")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiresAt))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    public String generateSelfContainedAccessToken(
+            UserEntity user,
+            List<String> roleCodes,
+            boolean phoneVerified,
+            long securityEpoch
+    ) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusSeconds(jwtProperties.accessTokenExpirationSeconds());
+        return Jwts.builder()
+                .subject(user.getLoginId())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_TYPE, "access")
+                .claim(CLAIM_ROLES, List.copyOf(roleCodes))
+                .claim(CLAIM_PHONE_VERIFIED, phoneVerified)
+                .claim(CLAIM_SECURITY_EPOCH, securityEpoch)
+                .claim(CLAIM_EMAIL, user.getEmail())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiresAt))
                 .signWith(secretKey)
@@ -42,8 +91,8 @@ public class JwtTokenProvider {
         Instant expiresAt = now.plusSeconds(jwtProperties.refreshTokenExpirationSeconds());
         return Jwts.builder()
                 .subject(user.getLoginId())
-                .claim("uid", user.getId())
-                .claim("type", "refresh")
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_TYPE, "refresh")
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiresAt))
                 .signWith(secretKey)
@@ -51,11 +100,88 @@ public class JwtTokenProvider {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (verifiedTokenCache == null) {
+            return verify(token);
+        }
+        return verifiedTokenCache.get(digest(token), ignored -> verify(token));
+    }
+
+    public boolean isSelfContainedAccessTokenEnabled() {
+        return jwtProperties.selfContainedAccessToken();
+    }
+
+    public boolean isSelfContained(Claims claims) {
+        return isSelfContainedAccessTokenEnabled()
+                && claims.containsKey(CLAIM_SECURITY_EPOCH)
+                && claims.containsKey(CLAIM_ROLES);
+    }
+
+    public Long getUserId(Claims claims) {
+        return claims.get(CLAIM_USER_ID, Long.class);
+    }
+
+    public Long getSecurityEpoch(Claims claims) {
+        return claims.get(CLAIM_SECURITY_EPOCH, Long.class);
+    }
+
+    public AuthenticatedPrincipal toPrincipal(Claims claims) {
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        Boolean phoneVerified = claims.get(CLAIM_PHONE_VERIFIED, Boolean.class);
+        return new AuthenticatedPrincipal(
+                getUserId(claims),
+                claims.getSubject(),
+                claims.get(CLAIM_EMAIL, String.class),
+                null,
+                Boolean.TRUE.equals(phoneVerified),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList()
+        );
+    }
+
+    private Claims verify(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", exception);
+        }
+    }
+
+    private static Cache<String, Claims> buildVerifiedTokenCache(long maxSize, MeterRegistry meterRegistry) {
+        Cache<String, Claims> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, VERIFIED_TOKEN_CACHE_NAME);
+        return cache;
+    }
+
+    private static long remainingNanos(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0L;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        return remainingMillis <= 0 ? 0L : Duration.ofMillis(remainingMillis).toNanos();
     }
 
     public long accessTokenExpirationSeconds() {
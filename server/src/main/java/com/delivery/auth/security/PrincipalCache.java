@@ -0,0 +1,95 @@
+package com.delivery.auth.security;
+
+import com.delivery.auth.config.PrincipalCacheProperties;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "authPrincipal";
+
+    private final UserRepository userRepository;
+    private final PrincipalCacheProperties principalCacheProperties;
+    private final Cache<String, AuthenticatedPrincipal> cache;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            PrincipalCacheProperties principalCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.principalCacheProperties = principalCacheProperties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(principalCacheProperties.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(principalCacheProperties.getTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<AuthenticatedPrincipal> get(String loginId) {
+        if (!StringUtils.hasText(loginId)) {
+            return Optional.empty();
+        }
+        if (!principalCacheProperties.isEnabled()) {
+            return Optional.ofNullable(load(loginId));
+        }
+        return Optional.ofNullable(cache.get(loginId, this::load));
+    }
+
+    public void evict(String loginId) {
+        if (!StringUtils.hasText(loginId)) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> cache.invalidate(loginId));
+    }
+
+    public void evictByUserId(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> cache.asMap().values().removeIf(principal -> userId.equals(principal.userId())));
+    }
+
+    private AuthenticatedPrincipal load(String loginId) {
+        UserEntity user = userRepository.findByLoginId(loginId).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        List<String> roleCodes = userRepository.findRoleCodesByLoginId(loginId);
+        return new AuthenticatedPrincipal(
+                user.getId(),
+                user.getLoginId(),
+                user.getEmail(),
+                user.getStatus(),
+                user.getPhoneVerifiedAt() != null && StringUtils.hasText(user.getPhoneE164()),
+                roleCodes
+        );
+    }
+
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.delivery.auth.security;
+
+import com.delivery.auth.config.PrincipalCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class UserSecurityEpochRegistry {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PrincipalCache principalCache;
+    private final Cache<Long, Long> epochs;
+
+    public UserSecurityEpochRegistry(
+            JdbcTemplate jdbcTemplate,
+            PrincipalCache principalCache,
+            PrincipalCacheProperties principalCacheProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.principalCache = principalCache;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(principalCacheProperties.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(principalCacheProperties.getSecurityEpochTtlSeconds()))
+                .build();
+    }
+
+    public Long currentEpoch(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return epochs.get(userId, this::load);
+    }
+
+    public boolean isCurrent(Long userId, Long epoch) {
+        if (epoch == null) {
+            return false;
+        }
+        return epoch.equals(currentEpoch(userId));
+    }
+
+    public void bump(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE users SET security_epoch = security_epoch + 1 WHERE id = ?", userId);
+        principalCache.evictByUserId(userId);
+        epochs.invalidate(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                epochs.invalidate(userId);
+            }
+        });
+    }
+
+    private Long load(Long userId) {
+        List<Long> values = jdbcTemplate.query(
+                "SELECT security_epoch FROM users WHERE id = ?",
+                (rs, rowNum) -> rs.getLong("security_epoch"),
+                userId
+        );
+        return values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -17,10 +17,11 @@ import com.delivery.auth.exception.PhoneNumberUpdateNotAllowedException;
 import com.delivery.auth.repository.AuthIdentityRepository;
 import com.delivery.auth.repository.UserRepository;
 import com.delivery.auth.security.JwtTokenProvider;
+import com.delivery.auth.security.UserSecurityEpochRegistry;
+import com.delivery.waste.service.WasteRequestViewProjector;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.transaction.Transactional;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -32,22 +33,28 @@ public class AuthService {
     private static final String LOCAL_PROVIDER = "LOCAL";
     private final UserRepository userRepository;
     private final AuthIdentityRepository authIdentityRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final LoginAuditLogService loginAuditLogService;
+    private final UserSecurityEpochRegistry userSecurityEpochRegistry;
+    private final WasteRequestViewProjector wasteRequestViewProjector;
 
     public AuthService(
             UserRepository userRepository,
             AuthIdentityRepository authIdentityRepository,
-            PasswordEncoder passwordEncoder,
+            PasswordHashingService passwordHashingService,
             JwtTokenProvider jwtTokenProvider,
-            LoginAuditLogService loginAuditLogService
+            LoginAuditLogService loginAuditLogService,
+            UserSecurityEpochRegistry userSecurityEpochRegistry,
+            WasteRequestViewProjector wasteRequestViewProjector
     ) {
         this.userRepository = userRepository;
         this.authIdentityRepository = authIdentityRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.loginAuditLogService = loginAuditLogService;
+        this.userSecurityEpochRegistry = userSecurityEpochRegistry;
+        this.wasteRequestViewProjector = wasteRequestViewProjector;
     }
 
     @Transactional
@@ -60,7 +67,7 @@ public class AuthService {
         UserEntity user = new UserEntity(
                 loginId,
                 loginId,
-                passwordEncoder.encode(request.password()),
+                passwordHashingService.encode(request.password()),
                 request.displayName(),
                 "ACTIVE"
         );
@@ -78,10 +85,13 @@ public class AuthService {
                     return new LoginIdentifierNotFoundException();
                 });
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.password(), user.getPasswordHash())) {
             loginAuditLogService.record(identifier, ipAddress, userAgent, "PASSWORD_MISMATCH");
             throw new LoginPasswordMismatchException();
         }
+        if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+            user.changePasswordHash(passwordHashingService.encode(request.password()));
+        }
 
         loginAuditLogService.record(identifier, ipAddress, userAgent, "SUCCESS");
         return issueTokens(user);
@@ -127,6 +137,7 @@ public class AuthService {
 
         if (StringUtils.hasText(request.displayName())) {
             user.changeDisplayName(request.displayName().trim());
+            wasteRequestViewProjector.markUserChanged(user.getId());
         }
 
         List<String> roles = userRepository.findRoleCodesByLoginId(email);
@@ -136,7 +147,7 @@ public class AuthService {
     private AuthTokenResponse issueTokens(UserEntity user) {
         return new AuthTokenResponse(
                 "Bearer",
-                jwtTokenProvider.generateAccessToken(user),
+                generateAccessToken(user),
                 jwtTokenProvider.accessTokenExpirationSeconds(),
                 jwtTokenProvider.generateRefreshToken(user),
                 jwtTokenProvider.refreshTokenExpirationSeconds(),
@@ -144,6 +155,19 @@ public class AuthService {
         );
     }
 
+    private String generateAccessToken(UserEntity user) {
+        if (!jwtTokenProvider.isSelfContainedAccessTokenEnabled()) {
+            return jwtTokenProvider.generateAccessToken(user);
+        }
+        Long securityEpoch = userSecurityEpochRegistry.currentEpoch(user.getId());
+        return jwtTokenProvider.generateSelfContainedAccessToken(
+                user,
+                userRepository.findRoleCodesByLoginId(user.getLoginId()),
+                !isPhoneVerificationRequired(user),
+                securityEpoch == null ? 0L : securityEpoch
+        );
+    }
+
     private boolean isPhoneVerificationRequired(UserEntity user) {
         return user.getPhoneVerifiedAt() == null || !StringUtils.hasText(user.getPhoneE164());
     }
@@ -0,0 +1,78 @@
+package com.delivery.auth.service;
+
+import com.delivery.auth.config.LoginAuditProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Service
+public class LoginAuditLogPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAuditLogPartitionMaintainer.class);
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-'01 00:00:00'");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginAuditProperties loginAuditProperties;
+
+    public LoginAuditLogPartitionMaintainer(JdbcTemplate jdbcTemplate, LoginAuditProperties loginAuditProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loginAuditProperties = loginAuditProperties;
+    }
+
+    @Scheduled(
+            cron = "${app.auth.login-audit.partition-maintenance-cron:0 30 3 * * *}",
+            zone = "UTC"
+    )
+    public void ensureUpcomingPartitions() {
+        if (!loginAuditProperties.isPartitionMaintenanceEnabled() || !isMySql()) {
+            return;
+        }
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                """
+                SELECT PARTITION_NAME
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = 'login_audit_logs'
+                  AND PARTITION_NAME IS NOT NULL
+                """,
+                String.class
+        );
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        for (int offset = 0; offset <= loginAuditProperties.getPartitionMonthsAhead(); offset++) {
+            YearMonth month = currentMonth.plusMonths(offset);
+            String partitionName = month.format(PARTITION_NAME_FORMAT);
+            if (partitions.contains(partitionName)) {
+                continue;
+            }
+            jdbcTemplate.execute(
+                    "ALTER TABLE login_audit_logs REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                            + "PARTITION " + partitionName + " VALUES LESS THAN (UNIX_TIMESTAMP('"
+                            + month.plusMonths(1).format(BOUNDARY_FORMAT) + "')), "
+                            + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)"
+            );
+            log.info("login audit log partition added partition={}", partitionName);
+        }
+    }
+
+    private boolean isMySql() {
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        return productName != null && productName.toLowerCase().contains("mysql");
+    }
+}
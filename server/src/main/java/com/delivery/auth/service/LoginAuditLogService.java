@@ -1,32 +1,61 @@
 package com.delivery.auth.service;
 
 import com.delivery.auth.dto.LoginAuditLogResponse;
+import com.delivery.auth.dto.LoginAuditLogSearchResponse;
 import com.delivery.auth.entity.LoginAuditLogEntity;
+import com.delivery.auth.exception.InvalidLoginAuditLogSearchException;
+import com.delivery.auth.model.LoginIdentifierMatchType;
 import com.delivery.auth.repository.LoginAuditLogRepository;
+import com.delivery.web.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class LoginAuditLogService {
 
     private static final int IDENTIFIER_MAX_LENGTH = 255;
     private static final int IP_ADDRESS_MAX_LENGTH = 64;
     private static final int USER_AGENT_MAX_LENGTH = 500;
+    private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(93);
+    private static final int DEFAULT_SEARCH_SIZE = 50;
+    private static final int MAX_SEARCH_SIZE = 200;
 
     private final LoginAuditLogRepository loginAuditLogRepository;
+    private final LoginAuditLogWriter loginAuditLogWriter;
+    private final JdbcTemplate jdbcTemplate;
 
-    public LoginAuditLogService(LoginAuditLogRepository loginAuditLogRepository) {
+    public LoginAuditLogService(
+            LoginAuditLogRepository loginAuditLogRepository,
+            LoginAuditLogWriter loginAuditLogWriter,
+            JdbcTemplate jdbcTemplate
+    ) {
         this.loginAuditLogRepository = loginAuditLogRepository;
+        this.loginAuditLogWriter = loginAuditLogWriter;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Transactional
     public void record(String loginIdentifier, String ipAddress, String userAgent, String result) {
+        String trimmedIdentifier = trimToMax(loginIdentifier, IDENTIFIER_MAX_LENGTH);
+        String trimmedIpAddress = trimToMax(ipAddress, IP_ADDRESS_MAX_LENGTH);
+        String trimmedUserAgent = trimToMax(userAgent, USER_AGENT_MAX_LENGTH);
+        if (loginAuditLogWriter.isAsyncEnabled()) {
+            loginAuditLogWriter.enqueue(trimmedIdentifier, trimmedIpAddress, trimmedUserAgent, result);
+            return;
+        }
         loginAuditLogRepository.save(new LoginAuditLogEntity(
-                trimToMax(loginIdentifier, IDENTIFIER_MAX_LENGTH),
-                trimToMax(ipAddress, IP_ADDRESS_MAX_LENGTH),
-                trimToMax(userAgent, USER_AGENT_MAX_LENGTH),
+                trimmedIdentifier,
+                trimmedIpAddress,
+                trimmedUserAgent,
                 result
         ));
     }
@@ -53,6 +82,112 @@ public class LoginAuditLogService {
         return page.map(this::toResponse);
     }
 
+    public LoginAuditLogSearchResponse searchLogs(
+            Instant from,
+            Instant to,
+            String identifier,
+            String match,
+            String result,
+            String cursor,
+            Integer size
+    ) {
+        if (from == null || to == null) {
+            throw new InvalidLoginAuditLogSearchException("from, to 조회 기간은 필수입니다.");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidLoginAuditLogSearchException("from은 to보다 이전이어야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new InvalidLoginAuditLogSearchException("조회 기간은 최대 " + MAX_SEARCH_WINDOW.toDays() + "일입니다.");
+        }
+
+        String normalizedIdentifier = normalizeIdentifier(identifier);
+        LoginIdentifierMatchType matchType = parseMatchType(match);
+        String normalizedResult = normalizeResult(result);
+        KeysetCursor searchCursor = KeysetCursor.decode(
+                cursor,
+                () -> new InvalidLoginAuditLogSearchException("cursor 값이 올바르지 않습니다.")
+        );
+        int pageSize = normalizeSearchSize(size);
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, login_identifier, ip_address, user_agent, result, created_at
+                FROM login_audit_logs
+                WHERE created_at >= ?
+                  AND created_at < ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.from(from));
+        args.add(Timestamp.from(to));
+        if (normalizedIdentifier != null) {
+            if (matchType == LoginIdentifierMatchType.EXACT) {
+                sql.append("  AND login_identifier = ?\n");
+                args.add(normalizedIdentifier);
+            } else {
+                sql.append("  AND login_identifier LIKE ? ESCAPE '!'\n");
+                args.add(escapeLike(normalizedIdentifier) + "%");
+            }
+        }
+        if (normalizedResult != null) {
+            sql.append("  AND result = ?\n");
+            args.add(normalizedResult);
+        }
+        if (searchCursor != null) {
+            sql.append("  AND (created_at < ? OR (created_at = ? AND id < ?))\n");
+            args.add(Timestamp.from(searchCursor.at()));
+            args.add(Timestamp.from(searchCursor.at()));
+            args.add(searchCursor.id());
+        }
+        sql.append("ORDER BY created_at DESC, id DESC\nLIMIT ?");
+        args.add(pageSize + 1);
+
+        List<LoginAuditLogResponse> rows = jdbcTemplate.query(
+                sql.toString(),
+                (rs, rowNum) -> new LoginAuditLogResponse(
+                        rs.getLong("id"),
+                        rs.getString("login_identifier"),
+                        rs.getString("ip_address"),
+                        rs.getString("user_agent"),
+                        rs.getString("result"),
+                        rs.getTimestamp("created_at").toInstant()
+                ),
+                args.toArray()
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<LoginAuditLogResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = KeysetCursor.next(content, hasNext, last -> new KeysetCursor(last.createdAt(), last.id()));
+        return new LoginAuditLogSearchResponse(List.copyOf(content), content.size(), hasNext, nextCursor);
+    }
+
+    private LoginIdentifierMatchType parseMatchType(String value) {
+        String normalized = normalizeResult(value);
+        if (normalized == null) {
+            return LoginIdentifierMatchType.PREFIX;
+        }
+        try {
+            return LoginIdentifierMatchType.valueOf(normalized);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidLoginAuditLogSearchException("match는 EXACT 또는 PREFIX만 허용됩니다.");
+        }
+    }
+
+    private int normalizeSearchSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SEARCH_SIZE;
+        }
+        if (size <= 0 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidLoginAuditLogSearchException("size는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
     private String normalizeIdentifier(String value) {
         if (value == null) {
             return null;
@@ -0,0 +1,188 @@
+package com.delivery.auth.service;
+
+import com.delivery.auth.config.LoginAuditProperties;
+import com.delivery.auth.model.LoginAuditOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginAuditLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAuditLogWriter.class);
+    private static final String INSERT_SQL = """
+            INSERT INTO login_audit_logs (login_identifier, ip_address, user_agent, result, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginAuditProperties loginAuditProperties;
+    private final BlockingQueue<PendingLoginAudit> queue;
+    private final Object flushSignal = new Object();
+    private final Object flushLock = new Object();
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LoginAuditLogWriter(
+            JdbcTemplate jdbcTemplate,
+            LoginAuditProperties loginAuditProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loginAuditProperties = loginAuditProperties;
+        this.queue = new ArrayBlockingQueue<>(loginAuditProperties.getQueueCapacity());
+        Gauge.builder("auth.login_audit.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.login_audit.flush")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("auth.login_audit.overflow")
+                .tag("policy", LoginAuditOverflowPolicy.DROP.name())
+                .register(meterRegistry);
+        this.callerRunsCounter = Counter.builder("auth.login_audit.overflow")
+                .tag("policy", LoginAuditOverflowPolicy.CALLER_RUNS.name())
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("auth.login_audit.write.failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!loginAuditProperties.isAsyncEnabled()) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runWorker, "login-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+            try {
+                worker.join(loginAuditProperties.getShutdownTimeoutMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    public boolean isAsyncEnabled() {
+        return loginAuditProperties.isAsyncEnabled();
+    }
+
+    public void enqueue(String loginIdentifier, String ipAddress, String userAgent, String result) {
+        PendingLoginAudit entry = new PendingLoginAudit(loginIdentifier, ipAddress, userAgent, result, Instant.now());
+        if (!running || !queue.offer(entry)) {
+            handleOverflow(entry);
+            return;
+        }
+        if (queue.size() >= loginAuditProperties.getBatchSize()) {
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+        }
+    }
+
+    public int flush() {
+        synchronized (flushLock) {
+            int written = 0;
+            List<PendingLoginAudit> batch = new ArrayList<>(loginAuditProperties.getBatchSize());
+            while (queue.drainTo(batch, loginAuditProperties.getBatchSize()) > 0) {
+                written += writeBatch(batch);
+                batch.clear();
+            }
+            return written;
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    private void runWorker() {
+        while (running) {
+            synchronized (flushSignal) {
+                if (running && queue.size() < loginAuditProperties.getBatchSize()) {
+                    try {
+                        flushSignal.wait(loginAuditProperties.getFlushIntervalMillis());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            try {
+                flush();
+            } catch (RuntimeException exception) {
+                log.warn("login audit flush failed", exception);
+            }
+        }
+    }
+
+    private void handleOverflow(PendingLoginAudit entry) {
+        if (running && loginAuditProperties.getOverflowPolicy() == LoginAuditOverflowPolicy.DROP) {
+            droppedCounter.increment();
+            log.warn("login audit queue is full; dropping entry result={}", entry.result());
+            return;
+        }
+        if (running) {
+            callerRunsCounter.increment();
+        }
+        writeBatch(List.of(entry));
+    }
+
+    private int writeBatch(List<PendingLoginAudit> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, entry) -> {
+                statement.setString(1, entry.loginIdentifier());
+                statement.setString(2, entry.ipAddress());
+                statement.setString(3, entry.userAgent());
+                statement.setString(4, entry.result());
+                statement.setTimestamp(5, Timestamp.from(entry.createdAt()));
+            });
+            return batch.size();
+        } catch (RuntimeException exception) {
+            failedCounter.increment(batch.size());
+            log.warn("login audit batch insert failed size={}", batch.size(), exception);
+            return 0;
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record PendingLoginAudit(
+            String loginIdentifier,
+            String ipAddress,
+            String userAgent,
+            String result,
+            Instant createdAt
+    ) {
+    }
+}
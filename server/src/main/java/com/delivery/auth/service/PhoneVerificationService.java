@@ -10,6 +10,7 @@ import com.delivery.auth.exception.PhoneVerificationException;
 import com.delivery.auth.model.PhoneVerificationStatus;
 import com.delivery.auth.repository.UserPhoneVerificationRepository;
 import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.security.UserSecurityEpochRegistry;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,17 +32,20 @@ public class PhoneVerificationService {
     private final UserPhoneVerificationRepository userPhoneVerificationRepository;
     private final PhoneVerificationProperties phoneVerificationProperties;
     private final PortOneIdentityVerificationClient portOneIdentityVerificationClient;
+    private final UserSecurityEpochRegistry userSecurityEpochRegistry;
 
     public PhoneVerificationService(
             UserRepository userRepository,
             UserPhoneVerificationRepository userPhoneVerificationRepository,
             PhoneVerificationProperties phoneVerificationProperties,
-            PortOneIdentityVerificationClient portOneIdentityVerificationClient
+            PortOneIdentityVerificationClient portOneIdentityVerificationClient,
+            UserSecurityEpochRegistry userSecurityEpochRegistry
     ) {
         this.userRepository = userRepository;
         this.userPhoneVerificationRepository = userPhoneVerificationRepository;
         this.phoneVerificationProperties = phoneVerificationProperties;
         this.portOneIdentityVerificationClient = portOneIdentityVerificationClient;
+        this.userSecurityEpochRegistry = userSecurityEpochRegistry;
     }
 
     @Transactional
@@ -163,6 +167,7 @@ public class PhoneVerificationService {
                 ciBytes,
                 diBytes
         );
+        userSecurityEpochRegistry.bump(user.getId());
         log.info(
                 "phoneVerification.complete verified userId={} identityVerificationId={} phoneNumber={} verifiedAt={}",
                 user.getId(),
@@ -9,6 +9,7 @@ import com.delivery.auth.exception.SysAdminGrantTargetNotAllowedException;
 import com.delivery.auth.exception.SysAdminSelfRoleChangeNotAllowedException;
 import com.delivery.auth.exception.UserNotFoundException;
 import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.security.UserSecurityEpochRegistry;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,10 +33,16 @@ public class RoleManagementService {
 
     private final UserRepository userRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final UserSecurityEpochRegistry userSecurityEpochRegistry;
 
-    public RoleManagementService(UserRepository userRepository, JdbcTemplate jdbcTemplate) {
+    public RoleManagementService(
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            UserSecurityEpochRegistry userSecurityEpochRegistry
+    ) {
         this.userRepository = userRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.userSecurityEpochRegistry = userSecurityEpochRegistry;
     }
 
     @Transactional
@@ -57,6 +64,7 @@ public class RoleManagementService {
                     roleId
             );
         }
+        userSecurityEpochRegistry.bump(userId);
     }
 
     @Transactional
@@ -78,6 +86,7 @@ public class RoleManagementService {
                 userId,
                 OPS_ADMIN
         );
+        userSecurityEpochRegistry.bump(userId);
     }
 
     @Transactional
@@ -183,6 +192,7 @@ public class RoleManagementService {
                     roleId
             );
         }
+        userSecurityEpochRegistry.bump(userId);
     }
 
     @Transactional
@@ -207,6 +217,7 @@ public class RoleManagementService {
                 userId,
                 SYS_ADMIN
         );
+        userSecurityEpochRegistry.bump(userId);
         recordRoleChangeAudit(actor.getId(), userId, SYS_ADMIN, ACTION_REVOKE);
     }
 
@@ -1,6 +1,7 @@
 package com.delivery.auth.web;
 
 import com.delivery.auth.dto.LoginAuditLogResponse;
+import com.delivery.auth.dto.LoginAuditLogSearchResponse;
 import com.delivery.auth.service.LoginAuditLogService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+
 @RestController
 @RequestMapping("/ops-admin/login-audit-logs")
 public class OpsAdminLoginAuditLogController {
@@ -30,4 +33,17 @@ public class OpsAdminLoginAuditLogController {
     ) {
         return ResponseEntity.ok(loginAuditLogService.getLogs(identifier, result, pageable));
     }
+
+    @GetMapping("/search")
+    public ResponseEntity<LoginAuditLogSearchResponse> searchLogs(
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String identifier,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String result,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(loginAuditLogService.searchLogs(from, to, identifier, match, result, cursor, size));
+    }
 }
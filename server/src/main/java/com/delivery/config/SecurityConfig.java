@@ -49,9 +49,11 @@ public class SecurityConfig {
                 .accessDeniedHandler(accessDeniedHandler)
             )
             .authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/health").permitAll()
+                .requestMatchers("/health", "/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("SYS_ADMIN")
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/auth/register", "/auth/login", "/auth/refresh").permitAll()
+                .requestMatchers(HttpMethod.POST, "/stub/payment-gateway/**").permitAll()
                 .requestMatchers(HttpMethod.PATCH, "/user/profile").hasAnyRole("USER", "DRIVER", "OPS_ADMIN", "SYS_ADMIN")
                 .requestMatchers("/uploads/files/**").authenticated()
                 .requestMatchers("/uploads").hasAnyRole("USER", "DRIVER", "OPS_ADMIN", "SYS_ADMIN")
@@ -0,0 +1,39 @@
+package com.delivery.config.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.id-allocation")
+public class IdAllocationProperties {
+
+    private static final int DEFAULT_BLOCK_SIZE = 50;
+    private static final int DEFAULT_POOL_SIZE = 2;
+
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private int poolSize = DEFAULT_POOL_SIZE;
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            this.blockSize = DEFAULT_BLOCK_SIZE;
+            return;
+        }
+        this.blockSize = blockSize;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        if (poolSize <= 0) {
+            this.poolSize = DEFAULT_POOL_SIZE;
+            return;
+        }
+        this.poolSize = poolSize;
+    }
+}
@@ -0,0 +1,86 @@
+package com.delivery.config.id;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class IdBlockAllocator {
+
+    private static final String RESERVE_SQL = "UPDATE id_sequences SET next_val = next_val + ? WHERE sequence_name = ?";
+    private static final String CURRENT_SQL = "SELECT next_val FROM id_sequences WHERE sequence_name = ?";
+    private static final String POOL_NAME = "id-allocation";
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private final HikariDataSource reservationDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdAllocationProperties idAllocationProperties;
+    private final MeterRegistry meterRegistry;
+
+    public IdBlockAllocator(
+            DataSourceProperties dataSourceProperties,
+            IdAllocationProperties idAllocationProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.reservationDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.reservationDataSource.setPoolName(POOL_NAME);
+        this.reservationDataSource.setMaximumPoolSize(idAllocationProperties.getPoolSize());
+        this.reservationDataSource.setMinimumIdle(0);
+        this.jdbcTemplate = new JdbcTemplate(reservationDataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(reservationDataSource));
+        this.idAllocationProperties = idAllocationProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public long next(String sequenceName) {
+        Block block = blocks.computeIfAbsent(sequenceName, ignored -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                int blockSize = idAllocationProperties.getBlockSize();
+                long limit = reserve(sequenceName, blockSize);
+                block.next = limit - blockSize;
+                block.limit = limit;
+            }
+            return block.next++;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        reservationDataSource.close();
+    }
+
+    private long reserve(String sequenceName, int blockSize) {
+        Long limit = transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update(RESERVE_SQL, blockSize, sequenceName);
+            if (updated != 1) {
+                throw new IllegalStateException("Unknown id sequence: " + sequenceName);
+            }
+            return jdbcTemplate.queryForObject(CURRENT_SQL, Long.class, sequenceName);
+        });
+        Counter.builder("id.block.reservations")
+                .tag("sequence", sequenceName)
+                .register(meterRegistry)
+                .increment();
+        return limit;
+    }
+
+    private static final class Block {
+
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,6 @@
+package com.delivery.config.id;
+
+public interface IdentifierAssignedCallback {
+
+    void onIdentifierAssigned(Long id);
+}
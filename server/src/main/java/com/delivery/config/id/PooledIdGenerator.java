@@ -0,0 +1,80 @@
+package com.delivery.config.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.spi.BeanInstanceProducer;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+public class PooledIdGenerator implements BeforeExecutionGenerator {
+
+    private static final BeanContainer.LifecycleOptions SHARED_BEAN = new BeanContainer.LifecycleOptions() {
+        @Override
+        public boolean canUseCachedReferences() {
+            return true;
+        }
+
+        @Override
+        public boolean useJpaCompliantCreation() {
+            return false;
+        }
+    };
+
+    private static final BeanInstanceProducer NO_FALLBACK = new BeanInstanceProducer() {
+        @Override
+        public <B> B produceBeanInstance(Class<B> beanType) {
+            throw new IllegalStateException(beanType.getName() + " is not available from the bean container");
+        }
+
+        @Override
+        public <B> B produceBeanInstance(String name, Class<B> beanType) {
+            return produceBeanInstance(beanType);
+        }
+    };
+
+    private final String sequenceName;
+    private final BeanContainer beanContainer;
+    private volatile IdBlockAllocator idBlockAllocator;
+
+    public PooledIdGenerator(PooledId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.value();
+        ManagedBeanRegistry beanRegistry = context.getServiceRegistry().getService(ManagedBeanRegistry.class);
+        this.beanContainer = beanRegistry == null ? null : beanRegistry.getBeanContainer();
+        if (beanContainer == null) {
+            throw new IllegalStateException("PooledIdGenerator requires a bean container");
+        }
+    }
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session,
+            Object owner,
+            Object currentValue,
+            EventType eventType
+    ) {
+        Long id = allocator().next(sequenceName);
+        if (owner instanceof IdentifierAssignedCallback callback) {
+            callback.onIdentifierAssigned(id);
+        }
+        return id;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+
+    private IdBlockAllocator allocator() {
+        IdBlockAllocator allocator = idBlockAllocator;
+        if (allocator == null) {
+            allocator = beanContainer.getBean(IdBlockAllocator.class, SHARED_BEAN, NO_FALLBACK).getBeanInstance();
+            idBlockAllocator = allocator;
+        }
+        return allocator;
+    }
+}
@@ -1,7 +1,7 @@
 package com.delivery.config.logging;
 
-import com.delivery.auth.entity.UserEntity;
-import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.security.AuthenticatedPrincipal;
+import com.delivery.config.security.ResolvedPrincipalHolder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,12 +26,6 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
     private static final String REQUEST_ID_MDC_KEY = "requestId";
 
-    private final UserRepository userRepository;
-
-    public ApiRequestLoggingFilter(UserRepository userRepository) {
-        this.userRepository = userRepository;
-    }
-
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -47,7 +41,7 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         } finally {
             long durationMs = System.currentTimeMillis() - startedAt;
-            RequestActor actor = resolveActor();
+            RequestActor actor = resolveActor(request);
             log.info(
                     "requestId={} method={} uri={} status={} durationMs={} clientIp={} userId={} userLoginId={} userEmail={}",
                     requestId,
@@ -83,7 +77,17 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
         return remoteAddr == null ? "" : remoteAddr;
     }
 
-    private RequestActor resolveActor() {
+    private RequestActor resolveActor(HttpServletRequest request) {
+        Optional<AuthenticatedPrincipal> resolved = ResolvedPrincipalHolder.get(request);
+        if (resolved.isPresent()) {
+            AuthenticatedPrincipal principal = resolved.get();
+            return new RequestActor(
+                    String.valueOf(principal.userId()),
+                    principal.loginId(),
+                    principal.email() == null ? "" : principal.email()
+            );
+        }
+
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             return RequestActor.anonymous();
@@ -94,11 +98,7 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
             return RequestActor.anonymous();
         }
 
-        Optional<UserEntity> user = userRepository.findByLoginId(loginId);
-        if (user.isEmpty()) {
-            return new RequestActor("", loginId, "");
-        }
-        return new RequestActor(String.valueOf(user.get().getId()), loginId, user.get().getEmail());
+        return new RequestActor("", loginId, "");
     }
 
     private record RequestActor(String userId, String userLoginId, String userEmail) {
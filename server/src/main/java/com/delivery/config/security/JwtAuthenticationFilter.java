@@ -1,10 +1,12 @@
 package com.delivery.config.security;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Optional;
 
-import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.security.AuthenticatedPrincipal;
 import com.delivery.auth.security.JwtTokenProvider;
+import com.delivery.auth.security.PrincipalCache;
+import com.delivery.auth.security.UserSecurityEpochRegistry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -12,7 +14,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,11 +23,17 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final UserSecurityEpochRegistry userSecurityEpochRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            PrincipalCache principalCache,
+            UserSecurityEpochRegistry userSecurityEpochRegistry
+    ) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.userSecurityEpochRegistry = userSecurityEpochRegistry;
     }
 
     @Override
@@ -43,17 +50,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 Object tokenType = claims.get("type");
                 if ("access".equals(tokenType)) {
                     String loginId = claims.getSubject();
-                    userRepository.findByLoginId(loginId).ifPresent(user -> {
-                        List<SimpleGrantedAuthority> authorities = userRepository.findRoleCodesByLoginId(loginId)
-                                .stream()
-                                .map(roleCode -> new SimpleGrantedAuthority("ROLE_" + roleCode))
-                                .toList();
+                    resolvePrincipal(loginId, claims).ifPresent(principal -> {
                         UsernamePasswordAuthenticationToken authentication =
                                 new UsernamePasswordAuthenticationToken(
                                         loginId,
                                         null,
-                                        authorities
+                                        principal.authorities()
                                 );
+                        authentication.setDetails(principal);
+                        ResolvedPrincipalHolder.bind(request, principal);
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                     });
                 }
@@ -63,4 +68,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private Optional<AuthenticatedPrincipal> resolvePrincipal(String loginId, Claims claims) {
+        if (!jwtTokenProvider.isSelfContained(claims)) {
+            return principalCache.get(loginId);
+        }
+        Long userId = jwtTokenProvider.getUserId(claims);
+        if (!userSecurityEpochRegistry.isCurrent(userId, jwtTokenProvider.getSecurityEpoch(claims))) {
+            return Optional.empty();
+        }
+        return Optional.of(jwtTokenProvider.toPrincipal(claims));
+    }
 }
@@ -0,0 +1,50 @@
+package com.delivery.config.security;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class PathPrefixMatcher {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private final Set<String> exactPaths;
+    private final String[] prefixes;
+
+    private PathPrefixMatcher(Set<String> exactPaths, String[] prefixes) {
+        this.exactPaths = exactPaths;
+        this.prefixes = prefixes;
+    }
+
+    static PathPrefixMatcher of(List<String> patterns) {
+        Set<String> exactPaths = new HashSet<>();
+        Set<String> prefixes = new HashSet<>();
+        for (String pattern : patterns) {
+            if (pattern.endsWith(ANY_SUFFIX)) {
+                String base = pattern.substring(0, pattern.length() - ANY_SUFFIX.length());
+                exactPaths.add(base);
+                prefixes.add(base + "/");
+            } else if (pattern.contains("*") || pattern.contains("?") || pattern.contains("{")) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+            } else {
+                exactPaths.add(pattern);
+            }
+        }
+        return new PathPrefixMatcher(Set.copyOf(exactPaths), prefixes.toArray(String[]::new));
+    }
+
+    boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -16,7 +16,6 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -29,24 +28,23 @@ public class PhoneVerificationGuardFilter extends OncePerRequestFilter {
     private static final String ERROR_CODE = "PHONE_VERIFICATION_REQUIRED";
     private static final String ERROR_MESSAGE = "휴대폰 본인인증이 필요합니다.";
 
-    private static final List<String> PROTECTED_PATTERNS = List.of(
+    private static final PathPrefixMatcher PROTECTED_PATHS = PathPrefixMatcher.of(List.of(
             "/user/**",
             "/driver/**",
             "/ops-admin/**",
             "/sys-admin/**",
             "/uploads",
             "/uploads/**"
-    );
+    ));
 
-    private static final List<String> ALLOWED_PATTERNS = List.of(
+    private static final PathPrefixMatcher ALLOWED_PATHS = PathPrefixMatcher.of(List.of(
             "/user/phone-verifications/**",
             "/me"
-    );
+    ));
 
     private final UserRepository userRepository;
     private final PhoneVerificationProperties phoneVerificationProperties;
     private final ObjectMapper objectMapper;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     public PhoneVerificationGuardFilter(
             UserRepository userRepository,
@@ -75,7 +73,7 @@ public class PhoneVerificationGuardFilter extends OncePerRequestFilter {
         }
 
         String requestPath = request.getRequestURI();
-        if (!isProtectedPath(requestPath) || isAllowedPath(requestPath)) {
+        if (!PROTECTED_PATHS.matches(requestPath) || ALLOWED_PATHS.matches(requestPath)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -88,9 +86,7 @@ public class PhoneVerificationGuardFilter extends OncePerRequestFilter {
             return;
         }
 
-        String loginId = authentication.getName();
-        UserEntity user = userRepository.findByLoginId(loginId).orElse(null);
-        if (user == null || isVerified(user)) {
+        if (isVerified(request, authentication)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -107,12 +103,15 @@ public class PhoneVerificationGuardFilter extends OncePerRequestFilter {
         response.getWriter().write(objectMapper.writeValueAsString(error));
     }
 
-    private boolean isProtectedPath(String requestPath) {
-        return PROTECTED_PATTERNS.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestPath));
+    private boolean isVerified(HttpServletRequest request, Authentication authentication) {
+        return ResolvedPrincipalHolder.get(request)
+                .map(principal -> principal.phoneVerified())
+                .orElseGet(() -> isVerified(authentication.getName()));
     }
 
-    private boolean isAllowedPath(String requestPath) {
-        return ALLOWED_PATTERNS.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestPath));
+    private boolean isVerified(String loginId) {
+        UserEntity user = userRepository.findByLoginId(loginId).orElse(null);
+        return user == null || isVerified(user);
     }
 
     private boolean isVerified(UserEntity user) {
@@ -0,0 +1,25 @@
+package com.delivery.config.security;
+
+import com.delivery.auth.security.AuthenticatedPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+public final class ResolvedPrincipalHolder {
+
+    private static final String ATTRIBUTE_NAME = ResolvedPrincipalHolder.class.getName() + ".PRINCIPAL";
+
+    private ResolvedPrincipalHolder() {
+    }
+
+    public static void bind(HttpServletRequest request, AuthenticatedPrincipal principal) {
+        request.setAttribute(ATTRIBUTE_NAME, principal);
+    }
+
+    public static Optional<AuthenticatedPrincipal> get(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE_NAME) instanceof AuthenticatedPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+}
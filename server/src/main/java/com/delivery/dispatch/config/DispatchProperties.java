@@ -0,0 +1,86 @@
+package com.delivery.dispatch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@ConfigurationProperties(prefix = "app.dispatch")
+public class DispatchProperties {
+
+    private static final long DEFAULT_INTERVAL_MILLIS = 30_000L;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final int DEFAULT_MAX_OPEN_ASSIGNMENTS_PER_DRIVER = 20;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private boolean enabled = false;
+    private long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxOpenAssignmentsPerDriver = DEFAULT_MAX_OPEN_ASSIGNMENTS_PER_DRIVER;
+    private String systemActorLoginId;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            this.intervalMillis = DEFAULT_INTERVAL_MILLIS;
+            return;
+        }
+        this.intervalMillis = intervalMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            return;
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxOpenAssignmentsPerDriver() {
+        return maxOpenAssignmentsPerDriver;
+    }
+
+    public void setMaxOpenAssignmentsPerDriver(int maxOpenAssignmentsPerDriver) {
+        if (maxOpenAssignmentsPerDriver <= 0) {
+            this.maxOpenAssignmentsPerDriver = DEFAULT_MAX_OPEN_ASSIGNMENTS_PER_DRIVER;
+            return;
+        }
+        this.maxOpenAssignmentsPerDriver = maxOpenAssignmentsPerDriver;
+    }
+
+    public String getSystemActorLoginId() {
+        return systemActorLoginId;
+    }
+
+    public void setSystemActorLoginId(String systemActorLoginId) {
+        this.systemActorLoginId = StringUtils.hasText(systemActorLoginId) ? systemActorLoginId.trim() : null;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        if (shutdownTimeoutMillis < 0) {
+            this.shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+            return;
+        }
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+}
@@ -0,0 +1,10 @@
+package com.delivery.dispatch.dto;
+
+public record DispatchDecisionItem(
+        Long requestId,
+        Long serviceAreaId,
+        Long driverId,
+        String matchType,
+        String result
+) {
+}
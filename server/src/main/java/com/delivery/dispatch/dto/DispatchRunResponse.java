@@ -0,0 +1,17 @@
+package com.delivery.dispatch.dto;
+
+import java.util.List;
+
+public record DispatchRunResponse(
+        boolean dryRun,
+        int scannedCount,
+        int assignedCount,
+        int unmatchedCount,
+        int conflictCount,
+        int driverCount,
+        long indexBuildMillis,
+        long decisionLatencyAvgNanos,
+        long decisionLatencyMaxNanos,
+        List<DispatchDecisionItem> decisions
+) {
+}
@@ -0,0 +1,11 @@
+package com.delivery.dispatch.dto;
+
+import com.delivery.servicearea.dto.ServiceAreaResponse;
+
+import java.util.List;
+
+public record DriverServiceAreasResponse(
+        Long driverId,
+        List<ServiceAreaResponse> serviceAreas
+) {
+}
@@ -0,0 +1,11 @@
+package com.delivery.dispatch.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record UpdateDriverServiceAreasRequest(
+        @NotNull @Size(max = 500) List<@NotNull Long> serviceAreaIds
+) {
+}
@@ -0,0 +1,298 @@
+package com.delivery.dispatch.service;
+
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.exception.InvalidCredentialsException;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.dispatch.config.DispatchProperties;
+import com.delivery.dispatch.dto.DispatchDecisionItem;
+import com.delivery.dispatch.dto.DispatchRunResponse;
+import com.delivery.waste.service.WasteAssignmentBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class DispatchEngine {
+
+    private static final String REQUESTED = "REQUESTED";
+    private static final String ASSIGNED = "ASSIGNED";
+    private static final String DRIVER = "DRIVER";
+    private static final String ACTIVE = "ACTIVE";
+    private static final String ASSIGNMENT_ACTION_AUTO_ASSIGNED = "AUTO_ASSIGNED";
+    private static final String RESULT_ASSIGNED = "ASSIGNED";
+    private static final String RESULT_PLANNED = "PLANNED";
+    private static final String RESULT_CONFLICT = "CONFLICT";
+    private static final int MAX_RUN_LIMIT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final WasteAssignmentBatchWriter wasteAssignmentBatchWriter;
+    private final DispatchProperties dispatchProperties;
+    private final MeterRegistry meterRegistry;
+    private final Timer decisionTimer;
+
+    public DispatchEngine(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            UserRepository userRepository,
+            WasteAssignmentBatchWriter wasteAssignmentBatchWriter,
+            DispatchProperties dispatchProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.wasteAssignmentBatchWriter = wasteAssignmentBatchWriter;
+        this.dispatchProperties = dispatchProperties;
+        this.meterRegistry = meterRegistry;
+        this.decisionTimer = Timer.builder("dispatch.decision.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public DispatchRunResponse run(String actorLoginId, boolean dryRun, Integer limit) {
+        UserEntity actor = userRepository.findByLoginId(actorLoginId)
+                .orElseThrow(InvalidCredentialsException::new);
+        List<PendingRequest> pendingRequests = findPendingRequests(normalizeLimit(limit));
+        if (pendingRequests.isEmpty()) {
+            return new DispatchRunResponse(dryRun, 0, 0, 0, 0, 0, 0L, 0L, 0L, List.of());
+        }
+
+        long indexStartedAt = System.nanoTime();
+        DriverDispatchIndex index = buildIndex(pendingRequests);
+        long indexBuildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - indexStartedAt);
+
+        List<PlannedDecision> decisions = new ArrayList<>(pendingRequests.size());
+        long totalDecisionNanos = 0L;
+        long maxDecisionNanos = 0L;
+        for (PendingRequest pendingRequest : pendingRequests) {
+            long startedAt = System.nanoTime();
+            DriverDispatchIndex.Decision decision = index.decide(pendingRequest.serviceAreaId());
+            long elapsed = System.nanoTime() - startedAt;
+            decisionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            totalDecisionNanos += elapsed;
+            maxDecisionNanos = Math.max(maxDecisionNanos, elapsed);
+            decisions.add(new PlannedDecision(pendingRequest, decision));
+        }
+
+        Set<Long> conflictedRequestIds = dryRun
+                ? Collections.emptySet()
+                : applyAssignments(decisions, actor.getId());
+
+        int assigned = 0;
+        int unmatched = 0;
+        int conflicts = 0;
+        List<DispatchDecisionItem> items = new ArrayList<>(decisions.size());
+        for (PlannedDecision planned : decisions) {
+            DriverDispatchIndex.Decision decision = planned.decision();
+            String result;
+            if (!decision.isMatched()) {
+                result = decision.unmatchedReason();
+                unmatched++;
+            } else if (conflictedRequestIds.contains(planned.request().id())) {
+                result = RESULT_CONFLICT;
+                conflicts++;
+            } else {
+                result = dryRun ? RESULT_PLANNED : RESULT_ASSIGNED;
+                assigned++;
+            }
+            items.add(new DispatchDecisionItem(
+                    planned.request().id(),
+                    planned.request().serviceAreaId(),
+                    decision.driverId(),
+                    decision.matchType(),
+                    result
+            ));
+        }
+        if (!dryRun) {
+            countResult(RESULT_ASSIGNED, assigned);
+            countResult("UNMATCHED", unmatched);
+            countResult(RESULT_CONFLICT, conflicts);
+        }
+
+        return new DispatchRunResponse(
+                dryRun,
+                pendingRequests.size(),
+                assigned,
+                unmatched,
+                conflicts,
+                index.driverCount(),
+                indexBuildMillis,
+                totalDecisionNanos / pendingRequests.size(),
+                maxDecisionNanos,
+                items
+        );
+    }
+
+    private List<PendingRequest> findPendingRequests(int limit) {
+        return jdbcTemplate.query(
+                """
+                SELECT w.id, w.service_area_id, w.version
+                FROM waste_requests w
+                WHERE w.status = ?
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM waste_assignments a
+                      WHERE a.request_id = w.id
+                  )
+                ORDER BY w.created_at ASC, w.id ASC
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new PendingRequest(
+                        rs.getLong("id"),
+                        rs.getObject("service_area_id", Long.class),
+                        rs.getLong("version")
+                ),
+                REQUESTED,
+                limit
+        );
+    }
+
+    private DriverDispatchIndex buildIndex(List<PendingRequest> pendingRequests) {
+        DriverDispatchIndex index = new DriverDispatchIndex(dispatchProperties.getMaxOpenAssignmentsPerDriver());
+        jdbcTemplate.query(
+                """
+                SELECT dsa.driver_id, s.id AS service_area_id, s.city, s.district
+                FROM driver_service_areas dsa
+                JOIN service_areas s ON s.id = dsa.service_area_id
+                JOIN users u ON u.id = dsa.driver_id
+                WHERE s.is_active = TRUE
+                  AND u.status = ?
+                  AND EXISTS (
+                      SELECT 1
+                      FROM user_roles ur
+                      JOIN roles r ON r.id = ur.role_id
+                      WHERE ur.user_id = u.id
+                        AND r.code = ?
+                  )
+                ORDER BY dsa.driver_id ASC
+                """,
+                rs -> {
+                    index.addCoverage(
+                            rs.getLong("driver_id"),
+                            rs.getLong("service_area_id"),
+                            rs.getString("city"),
+                            rs.getString("district")
+                    );
+                },
+                ACTIVE,
+                DRIVER
+        );
+
+        Set<Long> serviceAreaIds = new LinkedHashSet<>();
+        for (PendingRequest pendingRequest : pendingRequests) {
+            if (pendingRequest.serviceAreaId() != null) {
+                serviceAreaIds.add(pendingRequest.serviceAreaId());
+            }
+        }
+        if (!serviceAreaIds.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(serviceAreaIds.size(), "?"));
+            jdbcTemplate.query(
+                    "SELECT id, city, district FROM service_areas WHERE is_active = TRUE AND id IN (" + placeholders + ")",
+                    rs -> {
+                        index.addServiceArea(rs.getLong("id"), rs.getString("city"), rs.getString("district"));
+                    },
+                    serviceAreaIds.toArray()
+            );
+        }
+
+        if (index.driverCount() > 0) {
+            jdbcTemplate.query(
+                    """
+                    SELECT a.driver_id, COUNT(*) AS open_assignments
+                    FROM waste_assignments a
+                    JOIN waste_requests w ON w.id = a.request_id
+                    WHERE w.status = ?
+                    GROUP BY a.driver_id
+                    """,
+                    rs -> {
+                        index.setOpenAssignments(rs.getLong("driver_id"), rs.getInt("open_assignments"));
+                    },
+                    ASSIGNED
+            );
+        }
+        return index;
+    }
+
+    private Set<Long> applyAssignments(List<PlannedDecision> decisions, Long actorUserId) {
+        List<PlannedDecision> matched = decisions.stream()
+                .filter(planned -> planned.decision().isMatched())
+                .toList();
+        if (matched.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            List<WasteAssignmentBatchWriter.StatusChange> statusChanges = new ArrayList<>(matched.size());
+            for (PlannedDecision planned : matched) {
+                statusChanges.add(new WasteAssignmentBatchWriter.StatusChange(
+                        planned.request().id(),
+                        planned.request().serviceAreaId(),
+                        REQUESTED,
+                        ASSIGNED,
+                        planned.request().version()
+                ));
+            }
+            int[] updatedCounts = wasteAssignmentBatchWriter.updateStatuses(statusChanges, now);
+
+            Set<Long> conflicted = new LinkedHashSet<>();
+            List<WasteAssignmentBatchWriter.StatusChange> appliedStatusChanges = new ArrayList<>(matched.size());
+            List<WasteAssignmentBatchWriter.AssignmentChange> assignmentChanges = new ArrayList<>(matched.size());
+            for (int i = 0; i < matched.size(); i++) {
+                PlannedDecision planned = matched.get(i);
+                if (updatedCounts[i] == 0) {
+                    conflicted.add(planned.request().id());
+                    continue;
+                }
+                appliedStatusChanges.add(statusChanges.get(i));
+                assignmentChanges.add(new WasteAssignmentBatchWriter.AssignmentChange(
+                        planned.request().id(),
+                        null,
+                        planned.decision().driverId(),
+                        ASSIGNMENT_ACTION_AUTO_ASSIGNED
+                ));
+            }
+            wasteAssignmentBatchWriter.insertStatusLogs(appliedStatusChanges, actorUserId, now);
+            wasteAssignmentBatchWriter.applyAssignments(assignmentChanges, actorUserId, now);
+            return conflicted;
+        });
+    }
+
+    private int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return dispatchProperties.getBatchSize();
+        }
+        return Math.min(limit, MAX_RUN_LIMIT);
+    }
+
+    private void countResult(String result, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        Counter.builder("dispatch.requests")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private record PendingRequest(Long id, Long serviceAreaId, long version) {
+    }
+
+    private record PlannedDecision(PendingRequest request, DriverDispatchIndex.Decision decision) {
+    }
+}
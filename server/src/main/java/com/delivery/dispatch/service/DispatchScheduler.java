@@ -0,0 +1,129 @@
+package com.delivery.dispatch.service;
+
+import com.delivery.dispatch.config.DispatchProperties;
+import com.delivery.dispatch.dto.DispatchRunResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class DispatchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchScheduler.class);
+
+    private final DispatchEngine dispatchEngine;
+    private final DispatchProperties dispatchProperties;
+    private final Object wakeUpSignal = new Object();
+
+    private volatile boolean running;
+    private boolean wakeUpRequested;
+    private Thread coordinator;
+
+    public DispatchScheduler(DispatchEngine dispatchEngine, DispatchProperties dispatchProperties) {
+        this.dispatchEngine = dispatchEngine;
+        this.dispatchProperties = dispatchProperties;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!dispatchProperties.isEnabled()) {
+            log.debug("dispatch scheduler is disabled");
+            return;
+        }
+        if (dispatchProperties.getSystemActorLoginId() == null) {
+            log.warn("dispatch scheduler is not started because app.dispatch.system-actor-login-id is empty");
+            return;
+        }
+        running = true;
+        coordinator = new Thread(this::runCoordinator, "dispatch-coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (coordinator != null) {
+            wakeUp();
+            try {
+                coordinator.join(dispatchProperties.getShutdownTimeoutMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void wakeUp() {
+        if (!running) {
+            return;
+        }
+        synchronized (wakeUpSignal) {
+            wakeUpRequested = true;
+            wakeUpSignal.notifyAll();
+        }
+    }
+
+    public void wakeUpAfterCommit() {
+        if (!running) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+            return;
+        }
+        wakeUp();
+    }
+
+    private void runCoordinator() {
+        while (running) {
+            synchronized (wakeUpSignal) {
+                if (running && !wakeUpRequested) {
+                    try {
+                        wakeUpSignal.wait(dispatchProperties.getIntervalMillis());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                wakeUpRequested = false;
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                dispatchPending();
+            } catch (RuntimeException exception) {
+                log.warn("dispatch run failed", exception);
+            }
+        }
+    }
+
+    private void dispatchPending() {
+        int batchSize = dispatchProperties.getBatchSize();
+        while (running) {
+            DispatchRunResponse result = dispatchEngine.run(dispatchProperties.getSystemActorLoginId(), false, batchSize);
+            if (result.scannedCount() > 0) {
+                log.info(
+                        "dispatch run processed scanned={} assigned={} unmatched={} conflicts={} decisionLatencyAvgNanos={}",
+                        result.scannedCount(),
+                        result.assignedCount(),
+                        result.unmatchedCount(),
+                        result.conflictCount(),
+                        result.decisionLatencyAvgNanos()
+                );
+            }
+            if (result.scannedCount() < batchSize || result.assignedCount() == 0) {
+                return;
+            }
+        }
+    }
+}
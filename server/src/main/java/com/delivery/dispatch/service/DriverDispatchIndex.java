@@ -0,0 +1,130 @@
+package com.delivery.dispatch.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+class DriverDispatchIndex {
+
+    static final String MATCH_SERVICE_AREA = "SERVICE_AREA";
+    static final String MATCH_DISTRICT = "DISTRICT";
+    static final String UNMATCHED_NO_SERVICE_AREA = "NO_SERVICE_AREA";
+    static final String UNMATCHED_NO_DRIVER = "NO_DRIVER";
+    static final String UNMATCHED_DRIVER_CAPACITY_FULL = "DRIVER_CAPACITY_FULL";
+
+    private final int maxOpenAssignmentsPerDriver;
+    private final Map<Long, Integer> driverSlots = new HashMap<>();
+    private final List<Long> driverIds = new ArrayList<>();
+    private int[] loads = new int[16];
+    private final Map<Long, Set<Integer>> slotsByServiceArea = new HashMap<>();
+    private final Map<String, Set<Integer>> slotsByDistrict = new HashMap<>();
+    private final Map<Long, String> districtByServiceArea = new HashMap<>();
+
+    DriverDispatchIndex(int maxOpenAssignmentsPerDriver) {
+        this.maxOpenAssignmentsPerDriver = maxOpenAssignmentsPerDriver;
+    }
+
+    void addServiceArea(Long serviceAreaId, String city, String district) {
+        districtByServiceArea.put(serviceAreaId, districtKey(city, district));
+    }
+
+    void addCoverage(Long driverId, Long serviceAreaId, String city, String district) {
+        int slot = slotOf(driverId);
+        addServiceArea(serviceAreaId, city, district);
+        slotsByServiceArea.computeIfAbsent(serviceAreaId, ignored -> new LinkedHashSet<>()).add(slot);
+        slotsByDistrict.computeIfAbsent(districtKey(city, district), ignored -> new LinkedHashSet<>()).add(slot);
+    }
+
+    void setOpenAssignments(Long driverId, int openAssignments) {
+        Integer slot = driverSlots.get(driverId);
+        if (slot != null) {
+            loads[slot] = openAssignments;
+        }
+    }
+
+    int driverCount() {
+        return driverIds.size();
+    }
+
+    int openAssignments(Long driverId) {
+        Integer slot = driverSlots.get(driverId);
+        return slot == null ? 0 : loads[slot];
+    }
+
+    Decision decide(Long serviceAreaId) {
+        if (serviceAreaId == null || !districtByServiceArea.containsKey(serviceAreaId)) {
+            return Decision.unmatched(UNMATCHED_NO_SERVICE_AREA);
+        }
+        Set<Integer> areaSlots = slotsByServiceArea.get(serviceAreaId);
+        int slot = leastLoaded(areaSlots);
+        if (slot >= 0) {
+            return assign(slot, MATCH_SERVICE_AREA);
+        }
+        Set<Integer> districtSlots = slotsByDistrict.get(districtByServiceArea.get(serviceAreaId));
+        slot = leastLoaded(districtSlots);
+        if (slot >= 0) {
+            return assign(slot, MATCH_DISTRICT);
+        }
+        boolean hasCandidates = (areaSlots != null && !areaSlots.isEmpty())
+                || (districtSlots != null && !districtSlots.isEmpty());
+        return Decision.unmatched(hasCandidates ? UNMATCHED_DRIVER_CAPACITY_FULL : UNMATCHED_NO_DRIVER);
+    }
+
+    private Decision assign(int slot, String matchType) {
+        loads[slot]++;
+        return new Decision(driverIds.get(slot), matchType, null);
+    }
+
+    private int leastLoaded(Set<Integer> slots) {
+        if (slots == null) {
+            return -1;
+        }
+        int selected = -1;
+        for (int slot : slots) {
+            if (loads[slot] >= maxOpenAssignmentsPerDriver) {
+                continue;
+            }
+            if (selected < 0
+                    || loads[slot] < loads[selected]
+                    || (loads[slot] == loads[selected] && driverIds.get(slot) < driverIds.get(selected))) {
+                selected = slot;
+            }
+        }
+        return selected;
+    }
+
+    private int slotOf(Long driverId) {
+        Integer existing = driverSlots.get(driverId);
+        if (existing != null) {
+            return existing;
+        }
+        int slot = driverIds.size();
+        driverIds.add(driverId);
+        driverSlots.put(driverId, slot);
+        if (slot >= loads.length) {
+            int[] grown = new int[loads.length * 2];
+            System.arraycopy(loads, 0, grown, 0, loads.length);
+            loads = grown;
+        }
+        return slot;
+    }
+
+    private String districtKey(String city, String district) {
+        return city.trim().toLowerCase(Locale.ROOT) + "|" + district.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Decision(Long driverId, String matchType, String unmatchedReason) {
+
+        static Decision unmatched(String reason) {
+            return new Decision(null, null, reason);
+        }
+
+        boolean isMatched() {
+            return driverId != null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.delivery.dispatch.service;
+
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.exception.UserNotFoundException;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.dispatch.dto.DriverServiceAreasResponse;
+import com.delivery.servicearea.dto.ServiceAreaResponse;
+import com.delivery.servicearea.entity.ServiceAreaEntity;
+import com.delivery.servicearea.exception.ServiceAreaNotFoundException;
+import com.delivery.servicearea.repository.ServiceAreaRepository;
+import com.delivery.waste.exception.DriverRoleRequiredException;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class DriverServiceAreaService {
+
+    private static final String DRIVER = "DRIVER";
+    private static final String ACTIVE = "ACTIVE";
+
+    private final UserRepository userRepository;
+    private final ServiceAreaRepository serviceAreaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public DriverServiceAreaService(
+            UserRepository userRepository,
+            ServiceAreaRepository serviceAreaRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        this.userRepository = userRepository;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public DriverServiceAreasResponse getServiceAreas(Long driverId) {
+        UserEntity driver = findDriver(driverId);
+        List<Long> serviceAreaIds = jdbcTemplate.queryForList(
+                "SELECT service_area_id FROM driver_service_areas WHERE driver_id = ? ORDER BY service_area_id",
+                Long.class,
+                driver.getId()
+        );
+        return toResponse(driver.getId(), serviceAreaRepository.findAllById(serviceAreaIds));
+    }
+
+    @Transactional
+    public DriverServiceAreasResponse replaceServiceAreas(Long driverId, List<Long> serviceAreaIds) {
+        UserEntity driver = findDriver(driverId);
+        Set<Long> requestedIds = new LinkedHashSet<>(serviceAreaIds);
+        List<ServiceAreaEntity> serviceAreas = serviceAreaRepository.findAllById(requestedIds);
+        if (serviceAreas.size() != requestedIds.size()) {
+            throw new ServiceAreaNotFoundException();
+        }
+
+        jdbcTemplate.update("DELETE FROM driver_service_areas WHERE driver_id = ?", driver.getId());
+        List<Object[]> rows = new ArrayList<>(requestedIds.size());
+        for (Long serviceAreaId : requestedIds) {
+            rows.add(new Object[]{driver.getId(), serviceAreaId});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO driver_service_areas (driver_id, service_area_id) VALUES (?, ?)",
+                    rows
+            );
+        }
+        return toResponse(driver.getId(), serviceAreas);
+    }
+
+    private UserEntity findDriver(Long driverId) {
+        UserEntity driver = userRepository.findById(driverId)
+                .orElseThrow(UserNotFoundException::new);
+        boolean isDriver = userRepository.countRoleByUserIdAndRoleCode(driver.getId(), DRIVER) > 0;
+        if (!isDriver || !ACTIVE.equalsIgnoreCase(driver.getStatus())) {
+            throw new DriverRoleRequiredException();
+        }
+        return driver;
+    }
+
+    private DriverServiceAreasResponse toResponse(Long driverId, List<ServiceAreaEntity> serviceAreas) {
+        List<ServiceAreaResponse> content = serviceAreas.stream()
+                .sorted(Comparator.comparing(ServiceAreaEntity::getId))
+                .map(entity -> new ServiceAreaResponse(
+                        entity.getId(),
+                        entity.getCity(),
+                        entity.getDistrict(),
+                        entity.getDong(),
+                        entity.isActive(),
+                        entity.getCreatedAt(),
+                        entity.getUpdatedAt()
+                ))
+                .toList();
+        return new DriverServiceAreasResponse(driverId, content);
+    }
+}
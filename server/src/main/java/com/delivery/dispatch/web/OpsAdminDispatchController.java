@@ -0,0 +1,56 @@
+package com.delivery.dispatch.web;
+
+import com.delivery.dispatch.dto.DispatchRunResponse;
+import com.delivery.dispatch.dto.DriverServiceAreasResponse;
+import com.delivery.dispatch.dto.UpdateDriverServiceAreasRequest;
+import com.delivery.dispatch.service.DispatchEngine;
+import com.delivery.dispatch.service.DriverServiceAreaService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/ops-admin/dispatch")
+public class OpsAdminDispatchController {
+
+    private final DispatchEngine dispatchEngine;
+    private final DriverServiceAreaService driverServiceAreaService;
+
+    public OpsAdminDispatchController(
+            DispatchEngine dispatchEngine,
+            DriverServiceAreaService driverServiceAreaService
+    ) {
+        this.dispatchEngine = dispatchEngine;
+        this.driverServiceAreaService = driverServiceAreaService;
+    }
+
+    @PostMapping("/runs")
+    public ResponseEntity<DispatchRunResponse> run(
+            Authentication authentication,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(dispatchEngine.run(authentication.getName(), dryRun, limit));
+    }
+
+    @GetMapping("/drivers/{driverId}/service-areas")
+    public ResponseEntity<DriverServiceAreasResponse> getDriverServiceAreas(@PathVariable Long driverId) {
+        return ResponseEntity.ok(driverServiceAreaService.getServiceAreas(driverId));
+    }
+
+    @PutMapping("/drivers/{driverId}/service-areas")
+    public ResponseEntity<DriverServiceAreasResponse> replaceDriverServiceAreas(
+            @PathVariable Long driverId,
+            @Valid @RequestBody UpdateDriverServiceAreasRequest request
+    ) {
+        return ResponseEntity.ok(driverServiceAreaService.replaceServiceAreas(driverId, request.serviceAreaIds()));
+    }
+}
@@ -3,6 +3,7 @@ package com.delivery.driver.service;
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.auth.exception.InvalidCredentialsException;
 import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.security.UserSecurityEpochRegistry;
 import com.delivery.driver.dto.CreateDriverApplicationRequest;
 import com.delivery.driver.dto.DriverApplicationResponse;
 import com.delivery.driver.entity.DriverApplicationEntity;
@@ -33,17 +34,20 @@ public class DriverApplicationService {
     private final DriverApplicationRepository driverApplicationRepository;
     private final ObjectMapper objectMapper;
     private final JdbcTemplate jdbcTemplate;
+    private final UserSecurityEpochRegistry userSecurityEpochRegistry;
 
     public DriverApplicationService(
             UserRepository userRepository,
             DriverApplicationRepository driverApplicationRepository,
             ObjectMapper objectMapper,
-            JdbcTemplate jdbcTemplate
+            JdbcTemplate jdbcTemplate,
+            UserSecurityEpochRegistry userSecurityEpochRegistry
     ) {
         this.userRepository = userRepository;
         this.driverApplicationRepository = driverApplicationRepository;
         this.objectMapper = objectMapper;
         this.jdbcTemplate = jdbcTemplate;
+        this.userSecurityEpochRegistry = userSecurityEpochRegistry;
     }
 
     @Transactional
@@ -132,6 +136,7 @@ public class DriverApplicationService {
                     driverRoleId
             );
         }
+        userSecurityEpochRegistry.bump(userId);
     }
 
     private Long ensureDriverRole() {
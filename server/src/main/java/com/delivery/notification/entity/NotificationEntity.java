@@ -1,14 +1,13 @@
 package com.delivery.notification.entity;
 
 import com.delivery.auth.entity.UserEntity;
+import com.delivery.config.id.PooledId;
 import com.delivery.notification.model.NotificationType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -23,7 +22,7 @@ import java.util.Objects;
 public class NotificationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("notifications")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,132 @@
+package com.delivery.outbox.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    private static final int DEFAULT_DISPATCHER_THREADS = 4;
+    private static final long DEFAULT_POLL_INTERVAL_MILLIS = 1_000L;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 1_000L;
+    private static final long DEFAULT_MAX_RETRY_BACKOFF_MILLIS = 300_000L;
+    private static final long DEFAULT_LEASE_MILLIS = 60_000L;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private boolean asyncEnabled = true;
+    private int dispatcherThreads = DEFAULT_DISPATCHER_THREADS;
+    private long pollIntervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+    private long maxRetryBackoffMillis = DEFAULT_MAX_RETRY_BACKOFF_MILLIS;
+    private long leaseMillis = DEFAULT_LEASE_MILLIS;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public int getDispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    public void setDispatcherThreads(int dispatcherThreads) {
+        if (dispatcherThreads <= 0) {
+            this.dispatcherThreads = DEFAULT_DISPATCHER_THREADS;
+            return;
+        }
+        this.dispatcherThreads = dispatcherThreads;
+    }
+
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    public void setPollIntervalMillis(long pollIntervalMillis) {
+        if (pollIntervalMillis <= 0) {
+            this.pollIntervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+            return;
+        }
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            return;
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+            return;
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
+    public void setRetryBackoffMillis(long retryBackoffMillis) {
+        if (retryBackoffMillis < 0) {
+            this.retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+            return;
+        }
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    public long getMaxRetryBackoffMillis() {
+        return maxRetryBackoffMillis;
+    }
+
+    public void setMaxRetryBackoffMillis(long maxRetryBackoffMillis) {
+        if (maxRetryBackoffMillis < 0) {
+            this.maxRetryBackoffMillis = DEFAULT_MAX_RETRY_BACKOFF_MILLIS;
+            return;
+        }
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+    }
+
+    public long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    public void setLeaseMillis(long leaseMillis) {
+        if (leaseMillis <= 0) {
+            this.leaseMillis = DEFAULT_LEASE_MILLIS;
+            return;
+        }
+        this.leaseMillis = leaseMillis;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        if (shutdownTimeoutMillis < 0) {
+            this.shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+            return;
+        }
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+}
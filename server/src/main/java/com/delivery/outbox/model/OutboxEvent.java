@@ -0,0 +1,13 @@
+package com.delivery.outbox.model;
+
+import java.time.Instant;
+
+public record OutboxEvent(
+        Long id,
+        Long aggregateId,
+        OutboxEventType eventType,
+        String actorLoginId,
+        int attempts,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.delivery.outbox.model;
+
+public enum OutboxEventType {
+    WASTE_REQUEST_CREATED_NOTIFICATION,
+    WASTE_REQUEST_MEASURED_NOTIFICATION,
+    WASTE_REQUEST_AUTO_PAYMENT,
+    WASTE_REQUEST_PAYMENT_COMPLETED_NOTIFICATION
+}
@@ -0,0 +1,316 @@
+package com.delivery.outbox.service;
+
+import com.delivery.outbox.config.OutboxProperties;
+import com.delivery.outbox.model.OutboxEvent;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.waste.service.WasteRequestUpdateExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final String EXECUTOR_NAME = "outboxDispatcher";
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final String SELECT_DUE_SQL = """
+            SELECT e.id, e.aggregate_id, e.event_type, e.actor_login_id, e.attempts, e.created_at
+            FROM outbox_events e
+            WHERE e.status = 'PENDING'
+              AND e.next_attempt_at <= ?
+              AND (e.locked_until IS NULL OR e.locked_until < ?)
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM outbox_events p
+                  WHERE p.aggregate_id = e.aggregate_id
+                    AND p.status = 'PENDING'
+                    AND p.id < e.id
+              )
+            ORDER BY e.id
+            LIMIT ?
+            """;
+    private static final String CLAIM_SQL = """
+            UPDATE outbox_events
+            SET locked_until = ?
+            WHERE id = ?
+              AND status = 'PENDING'
+              AND (locked_until IS NULL OR locked_until < ?)
+            """;
+    private static final String COMPLETE_SQL = """
+            UPDATE outbox_events
+            SET status = 'DONE', attempts = attempts + 1, locked_until = NULL, last_error = NULL, processed_at = ?
+            WHERE id = ?
+            """;
+    private static final String RETRY_SQL = """
+            UPDATE outbox_events
+            SET attempts = ?, next_attempt_at = ?, locked_until = NULL, last_error = ?
+            WHERE id = ?
+            """;
+    private static final String FAIL_SQL = """
+            UPDATE outbox_events
+            SET status = 'FAILED', attempts = ?, locked_until = NULL, last_error = ?, processed_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxProperties outboxProperties;
+    private final OutboxEventHandler outboxEventHandler;
+    private final WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Object wakeUpSignal = new Object();
+
+    private volatile boolean running;
+    private boolean wakeUpRequested;
+    private Thread coordinator;
+    private ExecutorService workers;
+
+    public OutboxDispatcher(
+            JdbcTemplate jdbcTemplate,
+            OutboxProperties outboxProperties,
+            OutboxEventHandler outboxEventHandler,
+            WasteRequestUpdateExecutor wasteRequestUpdateExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxProperties = outboxProperties;
+        this.outboxEventHandler = outboxEventHandler;
+        this.wasteRequestUpdateExecutor = wasteRequestUpdateExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!outboxProperties.isAsyncEnabled()) {
+            return;
+        }
+        AtomicInteger threadSequence = new AtomicInteger();
+        workers = ExecutorServiceMetrics.monitor(
+                meterRegistry,
+                Executors.newFixedThreadPool(outboxProperties.getDispatcherThreads(), runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-dispatcher-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                EXECUTOR_NAME
+        );
+        running = true;
+        coordinator = new Thread(this::runCoordinator, "outbox-dispatcher-coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (coordinator != null) {
+            wakeUp();
+            try {
+                coordinator.join(outboxProperties.getShutdownTimeoutMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    public void wakeUp() {
+        synchronized (wakeUpSignal) {
+            wakeUpRequested = true;
+            wakeUpSignal.notifyAll();
+        }
+    }
+
+    public synchronized int dispatchPending() {
+        int delivered = 0;
+        while (true) {
+            List<OutboxEvent> events = claimDueEvents();
+            if (events.isEmpty()) {
+                return delivered;
+            }
+            int roundDelivered = deliverAll(events);
+            delivered += roundDelivered;
+            if (roundDelivered == 0) {
+                return delivered;
+            }
+        }
+    }
+
+    private void runCoordinator() {
+        while (running) {
+            synchronized (wakeUpSignal) {
+                if (running && !wakeUpRequested) {
+                    try {
+                        wakeUpSignal.wait(outboxProperties.getPollIntervalMillis());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                wakeUpRequested = false;
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                dispatchPending();
+            } catch (RuntimeException exception) {
+                log.warn("outbox dispatch failed", exception);
+            }
+        }
+    }
+
+    private List<OutboxEvent> claimDueEvents() {
+        Instant now = Instant.now();
+        Timestamp nowTimestamp = Timestamp.from(now);
+        List<OutboxEvent> candidates = jdbcTemplate.query(
+                SELECT_DUE_SQL,
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("id"),
+                        rs.getLong("aggregate_id"),
+                        OutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getString("actor_login_id"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toInstant()
+                ),
+                nowTimestamp,
+                nowTimestamp,
+                outboxProperties.getBatchSize()
+        );
+
+        Timestamp lockedUntil = Timestamp.from(now.plusMillis(outboxProperties.getLeaseMillis()));
+        List<OutboxEvent> claimed = new ArrayList<>(candidates.size());
+        for (OutboxEvent candidate : candidates) {
+            if (jdbcTemplate.update(CLAIM_SQL, lockedUntil, candidate.id(), nowTimestamp) == 1) {
+                claimed.add(candidate);
+            }
+        }
+        return claimed;
+    }
+
+    private int deliverAll(List<OutboxEvent> events) {
+        if (workers == null) {
+            int delivered = 0;
+            for (OutboxEvent event : events) {
+                if (deliver(event)) {
+                    delivered += 1;
+                }
+            }
+            return delivered;
+        }
+
+        List<Future<Boolean>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            futures.add(workers.submit(() -> deliver(event)));
+        }
+        int delivered = 0;
+        for (Future<Boolean> future : futures) {
+            try {
+                if (future.get()) {
+                    delivered += 1;
+                }
+            } catch (ExecutionException exception) {
+                log.warn("outbox delivery task failed", exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return delivered;
+            }
+        }
+        return delivered;
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        try {
+            wasteRequestUpdateExecutor.execute("outbox", () -> {
+                outboxEventHandler.handle(event.eventType(), event.aggregateId(), event.actorLoginId());
+                jdbcTemplate.update(COMPLETE_SQL, Timestamp.from(Instant.now()), event.id());
+                return null;
+            });
+        } catch (RuntimeException exception) {
+            scheduleRetry(event, exception);
+            return false;
+        }
+
+        dispatchedCounter(event.eventType(), "delivered").increment();
+        Timer.builder("outbox.events.lag")
+                .tag("type", event.eventType().name())
+                .register(meterRegistry)
+                .record(Duration.between(event.createdAt(), Instant.now()));
+        return true;
+    }
+
+    private void scheduleRetry(OutboxEvent event, RuntimeException exception) {
+        int attempts = event.attempts() + 1;
+        String lastError = truncate(exception.getClass().getSimpleName() + ": " + exception.getMessage());
+        if (attempts >= outboxProperties.getMaxAttempts()) {
+            jdbcTemplate.update(FAIL_SQL, attempts, lastError, Timestamp.from(Instant.now()), event.id());
+            dispatchedCounter(event.eventType(), "failed").increment();
+            log.warn(
+                    "outbox event failed permanently id={} type={} aggregateId={} attempts={}",
+                    event.id(),
+                    event.eventType(),
+                    event.aggregateId(),
+                    attempts,
+                    exception
+            );
+            return;
+        }
+
+        Instant nextAttemptAt = Instant.now().plusMillis(backoffMillis(attempts));
+        jdbcTemplate.update(RETRY_SQL, attempts, Timestamp.from(nextAttemptAt), lastError, event.id());
+        dispatchedCounter(event.eventType(), "retried").increment();
+        log.warn(
+                "outbox event delivery failed id={} type={} aggregateId={} attempts={} reason={}",
+                event.id(),
+                event.eventType(),
+                event.aggregateId(),
+                attempts,
+                exception.getMessage()
+        );
+    }
+
+    private long backoffMillis(int attempts) {
+        long baseMillis = outboxProperties.getRetryBackoffMillis();
+        if (baseMillis == 0) {
+            return 0L;
+        }
+        long delay = baseMillis << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, outboxProperties.getMaxRetryBackoffMillis());
+        return delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private String truncate(String value) {
+        if (value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private Counter dispatchedCounter(OutboxEventType eventType, String result) {
+        return Counter.builder("outbox.events.dispatched")
+                .tag("type", eventType.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
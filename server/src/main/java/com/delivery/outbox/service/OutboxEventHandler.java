@@ -0,0 +1,48 @@
+package com.delivery.outbox.service;
+
+import com.delivery.notification.service.WasteRequestCreatedNotificationService;
+import com.delivery.notification.service.WasteRequestMeasuredNotificationService;
+import com.delivery.notification.service.WasteRequestPaymentCompletedNotificationService;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.payment.service.PaymentAutomationService;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.exception.WasteRequestNotFoundException;
+import com.delivery.waste.repository.WasteRequestRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxEventHandler {
+
+    private final WasteRequestRepository wasteRequestRepository;
+    private final WasteRequestCreatedNotificationService wasteRequestCreatedNotificationService;
+    private final WasteRequestMeasuredNotificationService wasteRequestMeasuredNotificationService;
+    private final WasteRequestPaymentCompletedNotificationService wasteRequestPaymentCompletedNotificationService;
+    private final PaymentAutomationService paymentAutomationService;
+
+    public OutboxEventHandler(
+            WasteRequestRepository wasteRequestRepository,
+            WasteRequestCreatedNotificationService wasteRequestCreatedNotificationService,
+            WasteRequestMeasuredNotificationService wasteRequestMeasuredNotificationService,
+            WasteRequestPaymentCompletedNotificationService wasteRequestPaymentCompletedNotificationService,
+            PaymentAutomationService paymentAutomationService
+    ) {
+        this.wasteRequestRepository = wasteRequestRepository;
+        this.wasteRequestCreatedNotificationService = wasteRequestCreatedNotificationService;
+        this.wasteRequestMeasuredNotificationService = wasteRequestMeasuredNotificationService;
+        this.wasteRequestPaymentCompletedNotificationService = wasteRequestPaymentCompletedNotificationService;
+        this.paymentAutomationService = paymentAutomationService;
+    }
+
+    public void handle(OutboxEventType eventType, Long wasteRequestId, String actorLoginId) {
+        WasteRequestEntity request = wasteRequestRepository.findById(wasteRequestId)
+                .orElseThrow(WasteRequestNotFoundException::new);
+        switch (eventType) {
+            case WASTE_REQUEST_CREATED_NOTIFICATION -> wasteRequestCreatedNotificationService.notifyCreated(request);
+            case WASTE_REQUEST_MEASURED_NOTIFICATION -> wasteRequestMeasuredNotificationService.notifyMeasured(request);
+            case WASTE_REQUEST_AUTO_PAYMENT ->
+                    paymentAutomationService.attemptAutoPaymentAfterMeasured(request, actorLoginId);
+            case WASTE_REQUEST_PAYMENT_COMPLETED_NOTIFICATION ->
+                    wasteRequestPaymentCompletedNotificationService.notifyPaymentCompleted(request);
+        }
+    }
+}
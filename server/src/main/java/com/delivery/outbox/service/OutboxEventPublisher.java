@@ -0,0 +1,67 @@
+package com.delivery.outbox.service;
+
+import com.delivery.outbox.config.OutboxProperties;
+import com.delivery.outbox.model.OutboxEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Component
+public class OutboxEventPublisher {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (aggregate_id, event_type, actor_login_id, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, 'PENDING', 0, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxProperties outboxProperties;
+    private final ObjectProvider<OutboxEventHandler> outboxEventHandler;
+    private final ObjectProvider<OutboxDispatcher> outboxDispatcher;
+    private final MeterRegistry meterRegistry;
+
+    public OutboxEventPublisher(
+            JdbcTemplate jdbcTemplate,
+            OutboxProperties outboxProperties,
+            ObjectProvider<OutboxEventHandler> outboxEventHandler,
+            ObjectProvider<OutboxDispatcher> outboxDispatcher,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxProperties = outboxProperties;
+        this.outboxEventHandler = outboxEventHandler;
+        this.outboxDispatcher = outboxDispatcher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void publish(OutboxEventType eventType, Long wasteRequestId, String actorLoginId) {
+        Counter.builder("outbox.events.published")
+                .tag("type", eventType.name())
+                .register(meterRegistry)
+                .increment();
+        if (!outboxProperties.isAsyncEnabled()) {
+            outboxEventHandler.getObject().handle(eventType, wasteRequestId, actorLoginId);
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_SQL, wasteRequestId, eventType.name(), actorLoginId, now, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxDispatcher.getObject().wakeUp();
+                }
+            });
+            return;
+        }
+        outboxDispatcher.getObject().wakeUp();
+    }
+}
@@ -0,0 +1,90 @@
+package com.delivery.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.payment.batch")
+public class PaymentBatchProperties {
+
+    private static final int DEFAULT_WORKER_THREADS = 4;
+    private static final int DEFAULT_CHUNK_SIZE = 50;
+    private static final long DEFAULT_LEASE_MILLIS = 60_000L;
+    private static final long DEFAULT_POLL_INTERVAL_MILLIS = 5_000L;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private boolean asyncEnabled = true;
+    private int workerThreads = DEFAULT_WORKER_THREADS;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private long leaseMillis = DEFAULT_LEASE_MILLIS;
+    private long pollIntervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        if (workerThreads <= 0) {
+            this.workerThreads = DEFAULT_WORKER_THREADS;
+            return;
+        }
+        this.workerThreads = workerThreads;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            this.chunkSize = DEFAULT_CHUNK_SIZE;
+            return;
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    public void setLeaseMillis(long leaseMillis) {
+        if (leaseMillis <= 0) {
+            this.leaseMillis = DEFAULT_LEASE_MILLIS;
+            return;
+        }
+        this.leaseMillis = leaseMillis;
+    }
+
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    public void setPollIntervalMillis(long pollIntervalMillis) {
+        if (pollIntervalMillis <= 0) {
+            this.pollIntervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+            return;
+        }
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        if (shutdownTimeoutMillis < 0) {
+            this.shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+            return;
+        }
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+}
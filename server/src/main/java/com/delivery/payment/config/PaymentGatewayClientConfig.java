@@ -0,0 +1,32 @@
+package com.delivery.payment.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class PaymentGatewayClientConfig {
+
+    @Bean
+    @Qualifier("paymentGatewayRestTemplate")
+    public RestTemplate paymentGatewayRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            PaymentGatewayProperties paymentGatewayProperties
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(paymentGatewayProperties.getConnectTimeoutMillis()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(paymentGatewayProperties.getReadTimeoutMillis()));
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+}
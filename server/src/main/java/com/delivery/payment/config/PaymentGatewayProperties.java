@@ -0,0 +1,133 @@
+package com.delivery.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.payment.gateway")
+public class PaymentGatewayProperties {
+
+    private static final String DEFAULT_PROVIDER = "MOCK";
+    private static final String DEFAULT_BASE_URL = "https://api.tosspayments.com";
+    private static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 2_000L;
+    private static final long DEFAULT_READ_TIMEOUT_MILLIS = 5_000L;
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 32;
+    private static final long DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 500L;
+    private static final int DEFAULT_CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_CIRCUIT_OPEN_MILLIS = 30_000L;
+
+    private String provider = DEFAULT_PROVIDER;
+    private String baseUrl = DEFAULT_BASE_URL;
+    private String secretKey = "";
+    private long connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+    private long readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+    private int maxConcurrentCalls = DEFAULT_MAX_CONCURRENT_CALLS;
+    private long acquireTimeoutMillis = DEFAULT_ACQUIRE_TIMEOUT_MILLIS;
+    private int circuitFailureThreshold = DEFAULT_CIRCUIT_FAILURE_THRESHOLD;
+    private long circuitOpenMillis = DEFAULT_CIRCUIT_OPEN_MILLIS;
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        if (provider == null || provider.isBlank()) {
+            this.provider = DEFAULT_PROVIDER;
+            return;
+        }
+        this.provider = provider.trim();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            this.baseUrl = DEFAULT_BASE_URL;
+            return;
+        }
+        String trimmed = baseUrl.trim();
+        this.baseUrl = trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey == null ? "" : secretKey.trim();
+    }
+
+    public long getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(long connectTimeoutMillis) {
+        if (connectTimeoutMillis <= 0) {
+            this.connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+            return;
+        }
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public long getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public void setReadTimeoutMillis(long readTimeoutMillis) {
+        if (readTimeoutMillis <= 0) {
+            this.readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+            return;
+        }
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0) {
+            this.maxConcurrentCalls = DEFAULT_MAX_CONCURRENT_CALLS;
+            return;
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) {
+        if (acquireTimeoutMillis < 0) {
+            this.acquireTimeoutMillis = DEFAULT_ACQUIRE_TIMEOUT_MILLIS;
+            return;
+        }
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public int getCircuitFailureThreshold() {
+        return circuitFailureThreshold;
+    }
+
+    public void setCircuitFailureThreshold(int circuitFailureThreshold) {
+        if (circuitFailureThreshold <= 0) {
+            this.circuitFailureThreshold = DEFAULT_CIRCUIT_FAILURE_THRESHOLD;
+            return;
+        }
+        this.circuitFailureThreshold = circuitFailureThreshold;
+    }
+
+    public long getCircuitOpenMillis() {
+        return circuitOpenMillis;
+    }
+
+    public void setCircuitOpenMillis(long circuitOpenMillis) {
+        if (circuitOpenMillis <= 0) {
+            this.circuitOpenMillis = DEFAULT_CIRCUIT_OPEN_MILLIS;
+            return;
+        }
+        this.circuitOpenMillis = circuitOpenMillis;
+    }
+}
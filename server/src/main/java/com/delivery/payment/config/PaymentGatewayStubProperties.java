@@ -0,0 +1,90 @@
+package com.delivery.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.payment.gateway.stub")
+public class PaymentGatewayStubProperties {
+
+    private static final long DEFAULT_MIN_LATENCY_MILLIS = 50L;
+    private static final long DEFAULT_MAX_LATENCY_MILLIS = 300L;
+    private static final double DEFAULT_ERROR_RATE = 0.0d;
+    private static final double DEFAULT_DECLINE_RATE = 0.0d;
+    private static final long DEFAULT_MAX_IDEMPOTENCY_ENTRIES = 100_000L;
+
+    private boolean enabled;
+    private long minLatencyMillis = DEFAULT_MIN_LATENCY_MILLIS;
+    private long maxLatencyMillis = DEFAULT_MAX_LATENCY_MILLIS;
+    private double errorRate = DEFAULT_ERROR_RATE;
+    private double declineRate = DEFAULT_DECLINE_RATE;
+    private long maxIdempotencyEntries = DEFAULT_MAX_IDEMPOTENCY_ENTRIES;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMinLatencyMillis() {
+        return minLatencyMillis;
+    }
+
+    public void setMinLatencyMillis(long minLatencyMillis) {
+        if (minLatencyMillis < 0) {
+            this.minLatencyMillis = DEFAULT_MIN_LATENCY_MILLIS;
+            return;
+        }
+        this.minLatencyMillis = minLatencyMillis;
+    }
+
+    public long getMaxLatencyMillis() {
+        return Math.max(maxLatencyMillis, minLatencyMillis);
+    }
+
+    public void setMaxLatencyMillis(long maxLatencyMillis) {
+        if (maxLatencyMillis < 0) {
+            this.maxLatencyMillis = DEFAULT_MAX_LATENCY_MILLIS;
+            return;
+        }
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public void setErrorRate(double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            this.errorRate = DEFAULT_ERROR_RATE;
+            return;
+        }
+        this.errorRate = errorRate;
+    }
+
+    public double getDeclineRate() {
+        return declineRate;
+    }
+
+    public void setDeclineRate(double declineRate) {
+        if (declineRate < 0 || declineRate > 1) {
+            this.declineRate = DEFAULT_DECLINE_RATE;
+            return;
+        }
+        this.declineRate = declineRate;
+    }
+
+    public long getMaxIdempotencyEntries() {
+        return maxIdempotencyEntries;
+    }
+
+    public void setMaxIdempotencyEntries(long maxIdempotencyEntries) {
+        if (maxIdempotencyEntries <= 0) {
+            this.maxIdempotencyEntries = DEFAULT_MAX_IDEMPOTENCY_ENTRIES;
+            return;
+        }
+        this.maxIdempotencyEntries = maxIdempotencyEntries;
+    }
+}
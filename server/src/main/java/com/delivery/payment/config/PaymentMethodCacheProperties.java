@@ -0,0 +1,48 @@
+package com.delivery.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.payment.method-cache")
+public class PaymentMethodCacheProperties {
+
+    private static final long DEFAULT_MAX_SIZE = 10_000L;
+    private static final long DEFAULT_TTL_SECONDS = 30L;
+
+    private boolean enabled = true;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private long ttlSeconds = DEFAULT_TTL_SECONDS;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        if (maxSize <= 0) {
+            this.maxSize = DEFAULT_MAX_SIZE;
+            return;
+        }
+        this.maxSize = maxSize;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            this.ttlSeconds = DEFAULT_TTL_SECONDS;
+            return;
+        }
+        this.ttlSeconds = ttlSeconds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.delivery.payment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+@ConfigurationProperties(prefix = "app.payment.retry")
+public class PaymentRetryProperties {
+
+    private static final long DEFAULT_INTERVAL_MILLIS = 60_000L;
+    private static final int DEFAULT_BATCH_SIZE = 20;
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 300_000L;
+    private static final long DEFAULT_MAX_BACKOFF_MILLIS = 21_600_000L;
+    private static final long DEFAULT_LEASE_MILLIS = 300_000L;
+
+    private boolean enabled = false;
+    private long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+    private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+    private long leaseMillis = DEFAULT_LEASE_MILLIS;
+    private String systemActorLoginId;
+    private String nodeId;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public void setIntervalMillis(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            this.intervalMillis = DEFAULT_INTERVAL_MILLIS;
+            return;
+        }
+        this.intervalMillis = intervalMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            return;
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+            return;
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getInitialBackoffMillis() {
+        return initialBackoffMillis;
+    }
+
+    public void setInitialBackoffMillis(long initialBackoffMillis) {
+        if (initialBackoffMillis < 0) {
+            this.initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+            return;
+        }
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public void setMaxBackoffMillis(long maxBackoffMillis) {
+        if (maxBackoffMillis < 0) {
+            this.maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+            return;
+        }
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    public void setLeaseMillis(long leaseMillis) {
+        if (leaseMillis <= 0) {
+            this.leaseMillis = DEFAULT_LEASE_MILLIS;
+            return;
+        }
+        this.leaseMillis = leaseMillis;
+    }
+
+    public String getSystemActorLoginId() {
+        return systemActorLoginId;
+    }
+
+    public void setSystemActorLoginId(String systemActorLoginId) {
+        this.systemActorLoginId = StringUtils.hasText(systemActorLoginId) ? systemActorLoginId.trim() : null;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId.trim() : null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.delivery.payment.dto;
+
+import java.util.List;
+
+public record FailedPaymentPageResponse(
+        List<FailedPaymentResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
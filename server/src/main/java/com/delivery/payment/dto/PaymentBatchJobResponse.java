@@ -0,0 +1,18 @@
+package com.delivery.payment.dto;
+
+import java.time.Instant;
+
+public record PaymentBatchJobResponse(
+        Long jobId,
+        String status,
+        String requestedBy,
+        int requestedCount,
+        int processedCount,
+        int succeededCount,
+        int failedCount,
+        int skippedCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant completedAt
+) {
+}
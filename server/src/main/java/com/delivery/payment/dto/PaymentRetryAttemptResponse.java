@@ -0,0 +1,18 @@
+package com.delivery.payment.dto;
+
+import java.time.Instant;
+
+public record PaymentRetryAttemptResponse(
+        Long id,
+        Long paymentId,
+        Long wasteRequestId,
+        int attemptNo,
+        String outcome,
+        String failureCode,
+        String failureMessage,
+        Instant nextRetryAt,
+        String nodeId,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.delivery.payment.dto;
+
+public record PaymentRetryRunResponse(
+        int claimedCount,
+        int succeededCount,
+        int failedCount,
+        int pendingCount,
+        int skippedCount,
+        int errorCount
+) {
+}
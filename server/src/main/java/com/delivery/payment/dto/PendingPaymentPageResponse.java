@@ -0,0 +1,11 @@
+package com.delivery.payment.dto;
+
+import java.util.List;
+
+public record PendingPaymentPageResponse(
+        List<PendingPaymentResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -1,8 +1,10 @@
 package com.delivery.payment.entity;
 
 import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.entity.WasteRequestViewListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -17,6 +19,7 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(WasteRequestViewListener.class)
 @Table(name = "payments")
 public class PaymentEntity {
 
@@ -56,6 +59,15 @@ public class PaymentEntity {
     @Column(name = "failure_message", length = 1000)
     private String failureMessage;
 
+    @Column(name = "charge_attempts", nullable = false)
+    private int chargeAttempts;
+
+    @Column(name = "retry_attempts", nullable = false)
+    private int retryAttempts;
+
+    @Column(name = "next_retry_at")
+    private Instant nextRetryAt;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -96,6 +108,17 @@ public class PaymentEntity {
         this.failureMessage = failureMessage;
     }
 
+    public void markDeclined(String failureCode, String failureMessage) {
+        markFailure(failureCode, failureMessage);
+        this.chargeAttempts += 1;
+    }
+
+    public void markChargeUnknown(String failureCode, String failureMessage) {
+        this.status = "PENDING";
+        this.failureCode = failureCode;
+        this.failureMessage = failureMessage;
+    }
+
     public void markPendingForRetry(PaymentMethodEntity paymentMethod) {
         this.paymentMethod = paymentMethod;
         this.status = "PENDING";
@@ -104,6 +127,16 @@ public class PaymentEntity {
         this.failureMessage = null;
     }
 
+    public void recordRetryAttempt(Instant nextRetryAt) {
+        this.retryAttempts += 1;
+        this.nextRetryAt = nextRetryAt;
+    }
+
+    public void resetRetrySchedule() {
+        this.retryAttempts = 0;
+        this.nextRetryAt = null;
+    }
+
     @PrePersist
     void onCreate() {
         Instant now = Instant.now();
@@ -160,6 +193,18 @@ public class PaymentEntity {
         return failureMessage;
     }
 
+    public int getChargeAttempts() {
+        return chargeAttempts;
+    }
+
+    public int getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    public Instant getNextRetryAt() {
+        return nextRetryAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
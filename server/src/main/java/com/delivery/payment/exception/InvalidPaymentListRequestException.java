@@ -0,0 +1,8 @@
+package com.delivery.payment.exception;
+
+public class InvalidPaymentListRequestException extends RuntimeException {
+
+    public InvalidPaymentListRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.delivery.payment.exception;
+
+public class PaymentBatchJobNotFoundException extends RuntimeException {
+
+    public PaymentBatchJobNotFoundException() {
+        super("결제 일괄 실행 작업을 찾을 수 없습니다.");
+    }
+}
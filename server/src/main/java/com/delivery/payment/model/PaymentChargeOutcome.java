@@ -0,0 +1,7 @@
+package com.delivery.payment.model;
+
+public enum PaymentChargeOutcome {
+    APPROVED,
+    DECLINED,
+    UNKNOWN
+}
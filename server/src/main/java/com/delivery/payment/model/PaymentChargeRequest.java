@@ -0,0 +1,12 @@
+package com.delivery.payment.model;
+
+public record PaymentChargeRequest(
+        String idempotencyKey,
+        String providerOrderId,
+        String customerKey,
+        String billingKey,
+        Long amount,
+        String currency,
+        String orderName
+) {
+}
@@ -0,0 +1,21 @@
+package com.delivery.payment.model;
+
+public record PaymentChargeResult(
+        PaymentChargeOutcome outcome,
+        String paymentKey,
+        String failureCode,
+        String failureMessage
+) {
+
+    public static PaymentChargeResult approved(String paymentKey) {
+        return new PaymentChargeResult(PaymentChargeOutcome.APPROVED, paymentKey, null, null);
+    }
+
+    public static PaymentChargeResult declined(String failureCode, String failureMessage) {
+        return new PaymentChargeResult(PaymentChargeOutcome.DECLINED, null, failureCode, failureMessage);
+    }
+
+    public static PaymentChargeResult unknown(String failureCode, String failureMessage) {
+        return new PaymentChargeResult(PaymentChargeOutcome.UNKNOWN, null, failureCode, failureMessage);
+    }
+}
@@ -0,0 +1,18 @@
+package com.delivery.payment.model;
+
+import com.delivery.payment.entity.PaymentMethodEntity;
+
+public record PaymentMethodSnapshot(
+        Long id,
+        String customerKey,
+        String billingKeyOrToken
+) {
+
+    public static PaymentMethodSnapshot from(PaymentMethodEntity paymentMethod) {
+        return new PaymentMethodSnapshot(
+                paymentMethod.getId(),
+                paymentMethod.getCustomerKey(),
+                paymentMethod.getBillingKeyOrToken()
+        );
+    }
+}
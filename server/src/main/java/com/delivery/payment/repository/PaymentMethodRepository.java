@@ -4,6 +4,7 @@ import com.delivery.auth.entity.UserEntity;
 import com.delivery.payment.entity.PaymentMethodEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,10 @@ public interface PaymentMethodRepository extends JpaRepository<PaymentMethodEnti
             String status,
             String methodType
     );
+
+    List<PaymentMethodEntity> findAllByUserIdInAndStatusAndMethodTypeOrderByCreatedAtDesc(
+            Collection<Long> userIds,
+            String status,
+            String methodType
+    );
 }
@@ -1,13 +1,17 @@
 package com.delivery.payment.repository;
 
+import com.delivery.payment.dto.FailedPaymentResponse;
+import com.delivery.payment.dto.PendingPaymentResponse;
 import com.delivery.payment.entity.PaymentEntity;
 import com.delivery.waste.entity.WasteRequestEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Collection;
-import java.util.List;
+import java.time.Instant;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<PaymentEntity, Long> {
@@ -18,9 +22,87 @@ public interface PaymentRepository extends JpaRepository<PaymentEntity, Long> {
 
     Optional<PaymentEntity> findByProviderOrderId(String providerOrderId);
 
-    Page<PaymentEntity> findAllByStatusOrderByUpdatedAtDesc(String status, Pageable pageable);
+    @Query(
+            value = """
+                    SELECT new com.delivery.payment.dto.FailedPaymentResponse(
+                        p.id, w.id, w.user.id, p.amount, p.currency, p.failureCode, p.failureMessage, p.updatedAt
+                    )
+                    FROM PaymentEntity p
+                    JOIN p.wasteRequest w
+                    WHERE p.status = :status
+                    ORDER BY p.updatedAt DESC, p.id DESC
+                    """,
+            countQuery = "SELECT COUNT(p) FROM PaymentEntity p WHERE p.status = :status"
+    )
+    Page<FailedPaymentResponse> findFailedPaymentViews(@Param("status") String status, Pageable pageable);
 
-    List<PaymentEntity> findAllByStatusAndWasteRequestIdIn(String status, Collection<Long> wasteRequestIds);
+    @Query("""
+            SELECT new com.delivery.payment.dto.FailedPaymentResponse(
+                p.id, w.id, w.user.id, p.amount, p.currency, p.failureCode, p.failureMessage, p.updatedAt
+            )
+            FROM PaymentEntity p
+            JOIN p.wasteRequest w
+            WHERE p.status = :status
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    Slice<FailedPaymentResponse> findFailedPaymentViewsFirst(@Param("status") String status, Pageable pageable);
 
-    List<PaymentEntity> findAllByStatusOrderByUpdatedAtAsc(String status);
+    @Query("""
+            SELECT new com.delivery.payment.dto.FailedPaymentResponse(
+                p.id, w.id, w.user.id, p.amount, p.currency, p.failureCode, p.failureMessage, p.updatedAt
+            )
+            FROM PaymentEntity p
+            JOIN p.wasteRequest w
+            WHERE p.status = :status
+              AND (p.updatedAt < :cursorUpdatedAt OR (p.updatedAt = :cursorUpdatedAt AND p.id < :cursorId))
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    Slice<FailedPaymentResponse> findFailedPaymentViewsBefore(
+            @Param("status") String status,
+            @Param("cursorUpdatedAt") Instant cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query(
+            value = """
+                    SELECT new com.delivery.payment.dto.PendingPaymentResponse(
+                        p.id, w.id, w.user.id, p.amount, p.currency, p.updatedAt
+                    )
+                    FROM PaymentEntity p
+                    JOIN p.wasteRequest w
+                    WHERE p.status = :status
+                    ORDER BY p.updatedAt DESC, p.id DESC
+                    """,
+            countQuery = "SELECT COUNT(p) FROM PaymentEntity p WHERE p.status = :status"
+    )
+    Page<PendingPaymentResponse> findPendingPaymentViews(@Param("status") String status, Pageable pageable);
+
+    @Query("""
+            SELECT new com.delivery.payment.dto.PendingPaymentResponse(
+                p.id, w.id, w.user.id, p.amount, p.currency, p.updatedAt
+            )
+            FROM PaymentEntity p
+            JOIN p.wasteRequest w
+            WHERE p.status = :status
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    Slice<PendingPaymentResponse> findPendingPaymentViewsFirst(@Param("status") String status, Pageable pageable);
+
+    @Query("""
+            SELECT new com.delivery.payment.dto.PendingPaymentResponse(
+                p.id, w.id, w.user.id, p.amount, p.currency, p.updatedAt
+            )
+            FROM PaymentEntity p
+            JOIN p.wasteRequest w
+            WHERE p.status = :status
+              AND (p.updatedAt < :cursorUpdatedAt OR (p.updatedAt = :cursorUpdatedAt AND p.id < :cursorId))
+            ORDER BY p.updatedAt DESC, p.id DESC
+            """)
+    Slice<PendingPaymentResponse> findPendingPaymentViewsBefore(
+            @Param("status") String status,
+            @Param("cursorUpdatedAt") Instant cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,114 @@
+package com.delivery.payment.service;
+
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.payment.config.PaymentMethodCacheProperties;
+import com.delivery.payment.entity.PaymentMethodEntity;
+import com.delivery.payment.model.PaymentMethodSnapshot;
+import com.delivery.payment.model.PaymentMethodType;
+import com.delivery.payment.repository.PaymentMethodRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class DefaultPaymentMethodResolver {
+
+    private static final String CACHE_NAME = "defaultPaymentMethod";
+    private static final String STATUS_ACTIVE = "ACTIVE";
+
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final PaymentMethodCacheProperties paymentMethodCacheProperties;
+    private final Cache<Long, PaymentMethodSnapshot> cache;
+
+    public DefaultPaymentMethodResolver(
+            PaymentMethodRepository paymentMethodRepository,
+            PaymentMethodCacheProperties paymentMethodCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.paymentMethodCacheProperties = paymentMethodCacheProperties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(paymentMethodCacheProperties.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(paymentMethodCacheProperties.getTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<PaymentMethodSnapshot> resolve(UserEntity user) {
+        if (!paymentMethodCacheProperties.isEnabled() || user.getId() == null) {
+            return load(user);
+        }
+        PaymentMethodSnapshot cached = cache.getIfPresent(user.getId());
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<PaymentMethodSnapshot> loaded = load(user);
+        loaded.ifPresent(method -> cache.put(user.getId(), method));
+        return loaded;
+    }
+
+    public PaymentMethodEntity attach(PaymentMethodSnapshot paymentMethod) {
+        return paymentMethodRepository.getReferenceById(paymentMethod.id());
+    }
+
+    public void preload(Collection<Long> userIds) {
+        if (!paymentMethodCacheProperties.isEnabled() || userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> distinctUserIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctUserIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PaymentMethodSnapshot> latestByUserId = new HashMap<>();
+        for (PaymentMethodEntity method : paymentMethodRepository.findAllByUserIdInAndStatusAndMethodTypeOrderByCreatedAtDesc(
+                distinctUserIds,
+                STATUS_ACTIVE,
+                PaymentMethodType.CARD.name()
+        )) {
+            latestByUserId.putIfAbsent(method.getUser().getId(), PaymentMethodSnapshot.from(method));
+        }
+        cache.invalidateAll(distinctUserIds);
+        cache.putAll(latestByUserId);
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+
+    private Optional<PaymentMethodSnapshot> load(UserEntity user) {
+        return paymentMethodRepository.findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(
+                user,
+                STATUS_ACTIVE,
+                PaymentMethodType.CARD.name()
+        ).map(PaymentMethodSnapshot::from);
+    }
+}
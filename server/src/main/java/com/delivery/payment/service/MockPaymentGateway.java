@@ -0,0 +1,18 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.model.PaymentChargeRequest;
+import com.delivery.payment.model.PaymentChargeResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(prefix = "app.payment.gateway", name = "provider", havingValue = "MOCK", matchIfMissing = true)
+public class MockPaymentGateway implements PaymentGateway {
+
+    @Override
+    public PaymentChargeResult charge(PaymentChargeRequest request) {
+        return PaymentChargeResult.approved("mock_payment_key_" + UUID.randomUUID());
+    }
+}
@@ -1,43 +1,47 @@
 package com.delivery.payment.service;
 
-import com.delivery.notification.service.WasteRequestPaymentCompletedNotificationService;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.outbox.service.OutboxEventPublisher;
 import com.delivery.payment.entity.PaymentEntity;
-import com.delivery.payment.entity.PaymentMethodEntity;
-import com.delivery.payment.model.PaymentMethodType;
-import com.delivery.payment.repository.PaymentMethodRepository;
+import com.delivery.payment.model.PaymentChargeOutcome;
+import com.delivery.payment.model.PaymentMethodSnapshot;
 import com.delivery.payment.repository.PaymentRepository;
 import com.delivery.waste.entity.WasteRequestEntity;
 import com.delivery.waste.service.WasteStatusTransitionService;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class PaymentAutomationService {
 
-    private static final String STATUS_ACTIVE = "ACTIVE";
     private static final String STATUS_PAYMENT_PENDING = "PAYMENT_PENDING";
+    private static final String STATUS_PAYMENT_FAILED = "PAYMENT_FAILED";
     private static final String STATUS_PAID = "PAID";
     private static final String STATUS_COMPLETED = "COMPLETED";
     private static final String STATUS_PENDING = "PENDING";
     private static final String PROVIDER_TOSS = "TOSS";
 
     private final PaymentRepository paymentRepository;
-    private final PaymentMethodRepository paymentMethodRepository;
+    private final DefaultPaymentMethodResolver defaultPaymentMethodResolver;
     private final WasteStatusTransitionService wasteStatusTransitionService;
-    private final WasteRequestPaymentCompletedNotificationService wasteRequestPaymentCompletedNotificationService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final PaymentChargeService paymentChargeService;
 
     public PaymentAutomationService(
             PaymentRepository paymentRepository,
-            PaymentMethodRepository paymentMethodRepository,
+            DefaultPaymentMethodResolver defaultPaymentMethodResolver,
             WasteStatusTransitionService wasteStatusTransitionService,
-            WasteRequestPaymentCompletedNotificationService wasteRequestPaymentCompletedNotificationService
+            OutboxEventPublisher outboxEventPublisher,
+            PaymentChargeService paymentChargeService
     ) {
         this.paymentRepository = paymentRepository;
-        this.paymentMethodRepository = paymentMethodRepository;
+        this.defaultPaymentMethodResolver = defaultPaymentMethodResolver;
         this.wasteStatusTransitionService = wasteStatusTransitionService;
-        this.wasteRequestPaymentCompletedNotificationService = wasteRequestPaymentCompletedNotificationService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.paymentChargeService = paymentChargeService;
     }
 
     @Transactional
@@ -46,35 +50,51 @@ public class PaymentAutomationService {
             return;
         }
 
-        wasteStatusTransitionService.transition(request.getId(), STATUS_PAYMENT_PENDING, actorEmail);
-
-        PaymentMethodEntity paymentMethod = paymentMethodRepository
-                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(
-                        request.getUser(),
-                        STATUS_ACTIVE,
-                        PaymentMethodType.CARD.name()
-                )
-                .orElse(null);
+        PaymentMethodSnapshot paymentMethod = defaultPaymentMethodResolver.resolve(request.getUser()).orElse(null);
 
         PaymentEntity payment = new PaymentEntity(
                 request,
-                paymentMethod,
+                paymentMethod == null ? null : defaultPaymentMethodResolver.attach(paymentMethod),
                 PROVIDER_TOSS,
                 createProviderOrderId(request.getId()),
                 STATUS_PENDING,
                 request.getFinalAmount(),
                 request.getCurrency()
         );
-        paymentRepository.save(payment);
 
         if (paymentMethod == null) {
+            wasteStatusTransitionService.transition(request.getId(), STATUS_PAYMENT_PENDING, actorEmail);
+            paymentRepository.save(payment);
+            return;
+        }
+
+        PaymentChargeOutcome outcome = paymentChargeService.charge(payment, paymentMethod);
+        if (outcome == PaymentChargeOutcome.DECLINED) {
+            wasteStatusTransitionService.transitionPath(
+                    request.getId(),
+                    List.of(STATUS_PAYMENT_PENDING, STATUS_PAYMENT_FAILED),
+                    actorEmail
+            );
+            paymentRepository.save(payment);
+            return;
+        }
+        if (outcome == PaymentChargeOutcome.UNKNOWN) {
+            wasteStatusTransitionService.transition(request.getId(), STATUS_PAYMENT_PENDING, actorEmail);
+            paymentRepository.save(payment);
             return;
         }
 
-        payment.markSuccess("mock_payment_key_" + UUID.randomUUID());
-        wasteStatusTransitionService.transition(request.getId(), STATUS_PAID, actorEmail);
-        WasteRequestEntity completed = wasteStatusTransitionService.transition(request.getId(), STATUS_COMPLETED, actorEmail);
-        wasteRequestPaymentCompletedNotificationService.notifyPaymentCompleted(completed);
+        WasteRequestEntity completed = wasteStatusTransitionService.transitionPath(
+                request.getId(),
+                List.of(STATUS_PAYMENT_PENDING, STATUS_PAID, STATUS_COMPLETED),
+                actorEmail
+        );
+        paymentRepository.save(payment);
+        outboxEventPublisher.publish(
+                OutboxEventType.WASTE_REQUEST_PAYMENT_COMPLETED_NOTIFICATION,
+                completed.getId(),
+                actorEmail
+        );
     }
 
     private String createProviderOrderId(Long requestId) {
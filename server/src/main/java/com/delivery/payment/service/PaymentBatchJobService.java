@@ -0,0 +1,579 @@
+package com.delivery.payment.service;
+
+import com.delivery.config.id.IdBlockAllocator;
+import com.delivery.payment.config.PaymentBatchProperties;
+import com.delivery.payment.dto.PaymentBatchJobResponse;
+import com.delivery.payment.dto.PendingPaymentBatchExecuteRequest;
+import com.delivery.payment.dto.PendingPaymentBatchExecuteResponse;
+import com.delivery.payment.exception.PaymentBatchJobNotFoundException;
+import com.delivery.waste.service.WasteRequestUpdateExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class PaymentBatchJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentBatchJobService.class);
+    private static final String EXECUTOR_NAME = "paymentBatchWorkers";
+    private static final String SEQUENCE_NAME = "payment_batch_jobs";
+    private static final String OPERATION = "pendingPaymentBatch";
+    private static final String JOB_STATUS_RUNNING = "RUNNING";
+    private static final String RESULT_SUCCEEDED = "SUCCEEDED";
+    private static final String RESULT_FAILED = "FAILED";
+    private static final String RESULT_SKIPPED = "SKIPPED";
+    private static final int RESUME_BATCH_SIZE = 10;
+    private static final int TARGET_LOOKUP_CHUNK_SIZE = 500;
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final String SELECT_ALL_TARGETS_SQL = """
+            SELECT id, waste_request_id, updated_at
+            FROM payments
+            WHERE status = 'PENDING'
+            ORDER BY updated_at, id
+            """;
+    private static final String SELECT_TARGETS_BY_REQUEST_SQL = """
+            SELECT id, waste_request_id, updated_at
+            FROM payments
+            WHERE status = 'PENDING'
+              AND waste_request_id IN (%s)
+            """;
+    private static final String INSERT_JOB_SQL = """
+            INSERT INTO payment_batch_jobs (id, status, requested_by, requested_count, locked_until, created_at, updated_at)
+            VALUES (?, 'RUNNING', ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ITEM_SQL = """
+            INSERT INTO payment_batch_job_items (job_id, seq, waste_request_id, payment_id)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String SELECT_RESUMABLE_JOBS_SQL = """
+            SELECT id, requested_by
+            FROM payment_batch_jobs
+            WHERE status = 'RUNNING'
+              AND (locked_until IS NULL OR locked_until < ?)
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String CLAIM_JOB_SQL = """
+            UPDATE payment_batch_jobs
+            SET locked_until = ?, updated_at = ?
+            WHERE id = ?
+              AND status = 'RUNNING'
+              AND (locked_until IS NULL OR locked_until < ?)
+            """;
+    private static final String EXTEND_LEASE_SQL = """
+            UPDATE payment_batch_jobs
+            SET locked_until = ?, updated_at = ?
+            WHERE id = ?
+              AND status = 'RUNNING'
+            """;
+    private static final String COMPLETE_JOB_SQL = """
+            UPDATE payment_batch_jobs
+            SET status = 'COMPLETED', locked_until = NULL, updated_at = ?, completed_at = ?
+            WHERE id = ?
+              AND status = 'RUNNING'
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM payment_batch_job_items i
+                  WHERE i.job_id = ?
+                    AND i.result IS NULL
+              )
+            """;
+    private static final String SELECT_NEXT_ITEMS_SQL = """
+            SELECT i.seq, i.waste_request_id, i.payment_id, wr.user_id
+            FROM payment_batch_job_items i
+            JOIN waste_requests wr ON wr.id = i.waste_request_id
+            WHERE i.job_id = ?
+              AND i.result IS NULL
+              AND i.seq > ?
+            ORDER BY i.seq
+            LIMIT ?
+            """;
+    private static final String CLAIM_ITEM_SQL = """
+            UPDATE payment_batch_job_items
+            SET processed_at = ?
+            WHERE job_id = ?
+              AND seq = ?
+              AND result IS NULL
+            """;
+    private static final String COMPLETE_ITEM_SQL = """
+            UPDATE payment_batch_job_items
+            SET result = ?, waste_status = ?, payment_status = ?, message = ?, processed_at = ?
+            WHERE job_id = ?
+              AND seq = ?
+            """;
+    private static final String FAIL_ITEM_SQL = """
+            UPDATE payment_batch_job_items
+            SET result = 'FAILED',
+                waste_status = (SELECT w.status FROM waste_requests w WHERE w.id = ?),
+                payment_status = (SELECT p.status FROM payments p WHERE p.id = ?),
+                message = ?,
+                processed_at = ?
+            WHERE job_id = ?
+              AND seq = ?
+              AND result IS NULL
+            """;
+    private static final String SELECT_JOB_SQL = """
+            SELECT id, status, requested_by, requested_count, created_at, updated_at, completed_at
+            FROM payment_batch_jobs
+            WHERE id = ?
+            """;
+    private static final String COUNT_RESULTS_SQL = """
+            SELECT result, COUNT(*) AS item_count
+            FROM payment_batch_job_items
+            WHERE job_id = ?
+              AND result IS NOT NULL
+            GROUP BY result
+            """;
+    private static final String SELECT_RESULTS_SQL = """
+            SELECT waste_request_id, payment_id, result, waste_status, payment_status, message
+            FROM payment_batch_job_items
+            WHERE job_id = ?
+              AND result IS NOT NULL
+            ORDER BY seq
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+    private final PaymentFailureHandlingService paymentFailureHandlingService;
+    private final DefaultPaymentMethodResolver defaultPaymentMethodResolver;
+    private final WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
+    private final PaymentBatchProperties paymentBatchProperties;
+    private final MeterRegistry meterRegistry;
+    private final Object wakeUpSignal = new Object();
+
+    private volatile boolean running;
+    private boolean wakeUpRequested;
+    private Thread coordinator;
+    private ExecutorService workers;
+
+    public PaymentBatchJobService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            IdBlockAllocator idBlockAllocator,
+            PaymentFailureHandlingService paymentFailureHandlingService,
+            DefaultPaymentMethodResolver defaultPaymentMethodResolver,
+            WasteRequestUpdateExecutor wasteRequestUpdateExecutor,
+            PaymentBatchProperties paymentBatchProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idBlockAllocator = idBlockAllocator;
+        this.paymentFailureHandlingService = paymentFailureHandlingService;
+        this.defaultPaymentMethodResolver = defaultPaymentMethodResolver;
+        this.wasteRequestUpdateExecutor = wasteRequestUpdateExecutor;
+        this.paymentBatchProperties = paymentBatchProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadSequence = new AtomicInteger();
+        workers = ExecutorServiceMetrics.monitor(
+                meterRegistry,
+                Executors.newFixedThreadPool(paymentBatchProperties.getWorkerThreads(), runnable -> {
+                    Thread thread = new Thread(runnable, "payment-batch-worker-" + threadSequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                EXECUTOR_NAME
+        );
+        if (!paymentBatchProperties.isAsyncEnabled()) {
+            return;
+        }
+        running = true;
+        coordinator = new Thread(this::runCoordinator, "payment-batch-coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (coordinator != null) {
+            wakeUp();
+            try {
+                coordinator.join(paymentBatchProperties.getShutdownTimeoutMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    public PendingPaymentBatchExecuteResponse executePendingPaymentsBatch(
+            PendingPaymentBatchExecuteRequest batchRequest,
+            String actorLoginId
+    ) {
+        Long jobId = createJob(batchRequest, actorLoginId, true);
+        runJob(jobId, actorLoginId);
+        return getJobResults(jobId);
+    }
+
+    public PaymentBatchJobResponse startPendingPaymentsBatch(
+            PendingPaymentBatchExecuteRequest batchRequest,
+            String actorLoginId
+    ) {
+        if (!paymentBatchProperties.isAsyncEnabled()) {
+            Long jobId = createJob(batchRequest, actorLoginId, true);
+            runJob(jobId, actorLoginId);
+            return getJob(jobId);
+        }
+
+        Long jobId = createJob(batchRequest, actorLoginId, false);
+        wakeUp();
+        return getJob(jobId);
+    }
+
+    public PaymentBatchJobResponse getJob(Long jobId) {
+        JobRow job = findJob(jobId);
+        ResultCounts counts = countResults(jobId);
+        return new PaymentBatchJobResponse(
+                job.id(),
+                job.status(),
+                job.requestedBy(),
+                job.requestedCount(),
+                counts.processed(),
+                counts.succeeded(),
+                counts.failed(),
+                counts.skipped(),
+                job.createdAt(),
+                job.updatedAt(),
+                job.completedAt()
+        );
+    }
+
+    public PendingPaymentBatchExecuteResponse getJobResults(Long jobId) {
+        JobRow job = findJob(jobId);
+        List<PendingPaymentBatchExecuteResponse.Item> results = jdbcTemplate.query(
+                SELECT_RESULTS_SQL,
+                (rs, rowNum) -> new PendingPaymentBatchExecuteResponse.Item(
+                        rs.getLong("waste_request_id"),
+                        rs.getLong("payment_id"),
+                        rs.getString("result"),
+                        rs.getString("waste_status"),
+                        rs.getString("payment_status"),
+                        rs.getString("message")
+                ),
+                jobId
+        );
+        ResultCounts counts = countResults(jobId);
+        return new PendingPaymentBatchExecuteResponse(
+                job.requestedCount(),
+                counts.succeeded(),
+                counts.failed(),
+                counts.skipped(),
+                results
+        );
+    }
+
+    public void wakeUp() {
+        synchronized (wakeUpSignal) {
+            wakeUpRequested = true;
+            wakeUpSignal.notifyAll();
+        }
+    }
+
+    public int resumePendingJobs() {
+        Instant now = Instant.now();
+        Timestamp nowTimestamp = Timestamp.from(now);
+        List<JobClaim> candidates = jdbcTemplate.query(
+                SELECT_RESUMABLE_JOBS_SQL,
+                (rs, rowNum) -> new JobClaim(rs.getLong("id"), rs.getString("requested_by")),
+                nowTimestamp,
+                RESUME_BATCH_SIZE
+        );
+
+        int resumed = 0;
+        for (JobClaim candidate : candidates) {
+            Timestamp lockedUntil = Timestamp.from(now.plusMillis(paymentBatchProperties.getLeaseMillis()));
+            if (jdbcTemplate.update(CLAIM_JOB_SQL, lockedUntil, nowTimestamp, candidate.id(), nowTimestamp) != 1) {
+                continue;
+            }
+            runJob(candidate.id(), candidate.requestedBy());
+            resumed += 1;
+        }
+        return resumed;
+    }
+
+    private void runCoordinator() {
+        while (running) {
+            synchronized (wakeUpSignal) {
+                if (running && !wakeUpRequested) {
+                    try {
+                        wakeUpSignal.wait(paymentBatchProperties.getPollIntervalMillis());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                wakeUpRequested = false;
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                if (resumePendingJobs() > 0) {
+                    wakeUp();
+                }
+            } catch (RuntimeException exception) {
+                log.warn("payment batch job resume failed", exception);
+            }
+        }
+    }
+
+    private Long createJob(PendingPaymentBatchExecuteRequest batchRequest, String actorLoginId, boolean leased) {
+        List<Target> targets = resolveTargets(batchRequest);
+        Long jobId = idBlockAllocator.next(SEQUENCE_NAME);
+        Instant now = Instant.now();
+        Timestamp nowTimestamp = Timestamp.from(now);
+        Timestamp lockedUntil = leased ? Timestamp.from(now.plusMillis(paymentBatchProperties.getLeaseMillis())) : null;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_JOB_SQL, jobId, actorLoginId, targets.size(), lockedUntil, nowTimestamp, nowTimestamp);
+            List<Object[]> batchArgs = new ArrayList<>(targets.size());
+            for (int index = 0; index < targets.size(); index++) {
+                Target target = targets.get(index);
+                batchArgs.add(new Object[]{jobId, index + 1, target.wasteRequestId(), target.paymentId()});
+            }
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, batchArgs);
+            }
+        });
+        return jobId;
+    }
+
+    private List<Target> resolveTargets(PendingPaymentBatchExecuteRequest batchRequest) {
+        if (batchRequest == null || batchRequest.wasteRequestIds() == null || batchRequest.wasteRequestIds().isEmpty()) {
+            return jdbcTemplate.query(SELECT_ALL_TARGETS_SQL, this::toTarget);
+        }
+
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(batchRequest.wasteRequestIds()));
+        uniqueIds.removeIf(Objects::isNull);
+        List<Target> targets = new ArrayList<>();
+        for (int from = 0; from < uniqueIds.size(); from += TARGET_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(from + TARGET_LOOKUP_CHUNK_SIZE, uniqueIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            targets.addAll(jdbcTemplate.query(
+                    SELECT_TARGETS_BY_REQUEST_SQL.formatted(placeholders),
+                    this::toTarget,
+                    chunk.toArray()
+            ));
+        }
+        targets.sort(Comparator.comparing(Target::updatedAt).thenComparing(Target::paymentId));
+        return targets;
+    }
+
+    private Target toTarget(ResultSet rs, int rowNum) throws SQLException {
+        return new Target(
+                rs.getLong("id"),
+                rs.getLong("waste_request_id"),
+                rs.getTimestamp("updated_at").toInstant()
+        );
+    }
+
+    private void runJob(Long jobId, String actorLoginId) {
+        int lastSeq = 0;
+        while (true) {
+            List<JobItem> items = jdbcTemplate.query(
+                    SELECT_NEXT_ITEMS_SQL,
+                    (rs, rowNum) -> new JobItem(
+                            rs.getInt("seq"),
+                            rs.getLong("waste_request_id"),
+                            rs.getLong("payment_id"),
+                            rs.getLong("user_id")
+                    ),
+                    jobId,
+                    lastSeq,
+                    paymentBatchProperties.getChunkSize()
+            );
+            if (items.isEmpty()) {
+                break;
+            }
+            defaultPaymentMethodResolver.preload(items.stream().map(JobItem::userId).toList());
+            if (!processChunk(jobId, items, actorLoginId)) {
+                return;
+            }
+            lastSeq = items.get(items.size() - 1).seq();
+
+            Instant now = Instant.now();
+            jdbcTemplate.update(
+                    EXTEND_LEASE_SQL,
+                    Timestamp.from(now.plusMillis(paymentBatchProperties.getLeaseMillis())),
+                    Timestamp.from(now),
+                    jobId
+            );
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(COMPLETE_JOB_SQL, now, now, jobId, jobId);
+    }
+
+    private boolean processChunk(Long jobId, List<JobItem> items, String actorLoginId) {
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (JobItem item : items) {
+            futures.add(workers.submit(() -> processItem(jobId, item, actorLoginId)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException exception) {
+                log.warn("payment batch item task failed jobId={}", jobId, exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void processItem(Long jobId, JobItem item, String actorLoginId) {
+        try {
+            PendingPaymentBatchExecuteResponse.Item result = wasteRequestUpdateExecutor.execute(OPERATION, () -> {
+                Timestamp now = Timestamp.from(Instant.now());
+                if (jdbcTemplate.update(CLAIM_ITEM_SQL, now, jobId, item.seq()) == 0) {
+                    return null;
+                }
+                PendingPaymentBatchExecuteResponse.Item executed =
+                        paymentFailureHandlingService.executePendingPaymentItem(item.paymentId(), actorLoginId);
+                jdbcTemplate.update(
+                        COMPLETE_ITEM_SQL,
+                        executed.result(),
+                        executed.wasteStatus(),
+                        executed.paymentStatus(),
+                        executed.message(),
+                        now,
+                        jobId,
+                        item.seq()
+                );
+                return executed;
+            });
+            if (result != null) {
+                itemCounter(result.result()).increment();
+            }
+        } catch (RuntimeException exception) {
+            log.warn(
+                    "payment batch item failed jobId={} wasteRequestId={} paymentId={} reason={}",
+                    jobId,
+                    item.wasteRequestId(),
+                    item.paymentId(),
+                    exception.getMessage()
+            );
+            jdbcTemplate.update(
+                    FAIL_ITEM_SQL,
+                    item.wasteRequestId(),
+                    item.paymentId(),
+                    truncate(exception.getClass().getSimpleName() + ": " + exception.getMessage()),
+                    Timestamp.from(Instant.now()),
+                    jobId,
+                    item.seq()
+            );
+            itemCounter(RESULT_FAILED).increment();
+        }
+    }
+
+    private JobRow findJob(Long jobId) {
+        return jdbcTemplate.query(
+                        SELECT_JOB_SQL,
+                        (rs, rowNum) -> new JobRow(
+                                rs.getLong("id"),
+                                rs.getString("status"),
+                                rs.getString("requested_by"),
+                                rs.getInt("requested_count"),
+                                toInstant(rs.getTimestamp("created_at")),
+                                toInstant(rs.getTimestamp("updated_at")),
+                                toInstant(rs.getTimestamp("completed_at"))
+                        ),
+                        jobId
+                )
+                .stream()
+                .findFirst()
+                .orElseThrow(PaymentBatchJobNotFoundException::new);
+    }
+
+    private ResultCounts countResults(Long jobId) {
+        int[] counts = new int[3];
+        jdbcTemplate.query(COUNT_RESULTS_SQL, rs -> {
+            int itemCount = rs.getInt("item_count");
+            switch (rs.getString("result")) {
+                case RESULT_SUCCEEDED -> counts[0] += itemCount;
+                case RESULT_FAILED -> counts[1] += itemCount;
+                case RESULT_SKIPPED -> counts[2] += itemCount;
+                default -> {
+                }
+            }
+        }, jobId);
+        return new ResultCounts(counts[0], counts[1], counts[2]);
+    }
+
+    private Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private String truncate(String value) {
+        if (value.length() <= MAX_MESSAGE_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private Counter itemCounter(String result) {
+        return Counter.builder("payment.batch.items")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Target(Long paymentId, Long wasteRequestId, Instant updatedAt) {
+    }
+
+    private record JobItem(int seq, Long wasteRequestId, Long paymentId, Long userId) {
+    }
+
+    private record JobClaim(Long id, String requestedBy) {
+    }
+
+    private record JobRow(
+            Long id,
+            String status,
+            String requestedBy,
+            int requestedCount,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant completedAt
+    ) {
+    }
+
+    private record ResultCounts(int succeeded, int failed, int skipped) {
+
+        int processed() {
+            return succeeded + failed + skipped;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.entity.PaymentEntity;
+import com.delivery.payment.model.PaymentChargeOutcome;
+import com.delivery.payment.model.PaymentChargeRequest;
+import com.delivery.payment.model.PaymentChargeResult;
+import com.delivery.payment.model.PaymentMethodSnapshot;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.service.WasteOrderNoPolicy;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PaymentChargeService {
+
+    private static final String ORDER_NAME_PREFIX = "\uD3D0\uAE30\uBB3C \uC218\uAC70 ";
+
+    private final PaymentGateway paymentGateway;
+
+    public PaymentChargeService(PaymentGateway paymentGateway) {
+        this.paymentGateway = paymentGateway;
+    }
+
+    public PaymentChargeOutcome charge(PaymentEntity payment, PaymentMethodSnapshot paymentMethod) {
+        WasteRequestEntity request = payment.getWasteRequest();
+        PaymentChargeResult result = paymentGateway.charge(new PaymentChargeRequest(
+                idempotencyKey(payment),
+                payment.getProviderOrderId(),
+                paymentMethod.customerKey(),
+                paymentMethod.billingKeyOrToken(),
+                payment.getAmount(),
+                payment.getCurrency(),
+                ORDER_NAME_PREFIX + WasteOrderNoPolicy.resolve(request.getOrderNo(), request.getId())
+        ));
+
+        switch (result.outcome()) {
+            case APPROVED -> payment.markSuccess(result.paymentKey());
+            case DECLINED -> payment.markDeclined(result.failureCode(), result.failureMessage());
+            case UNKNOWN -> payment.markChargeUnknown(result.failureCode(), result.failureMessage());
+        }
+        return result.outcome();
+    }
+
+    private String idempotencyKey(PaymentEntity payment) {
+        return payment.getProviderOrderId() + "-" + payment.getChargeAttempts();
+    }
+}
@@ -3,17 +3,20 @@ package com.delivery.payment.service;
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.auth.exception.InvalidCredentialsException;
 import com.delivery.auth.repository.UserRepository;
-import com.delivery.notification.service.WasteRequestPaymentCompletedNotificationService;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.outbox.service.OutboxEventPublisher;
+import com.delivery.payment.dto.FailedPaymentPageResponse;
 import com.delivery.payment.dto.FailedPaymentResponse;
 import com.delivery.payment.dto.PaymentMethodStatusResponse;
-import com.delivery.payment.dto.PendingPaymentBatchExecuteRequest;
 import com.delivery.payment.dto.PendingPaymentBatchExecuteResponse;
+import com.delivery.payment.dto.PendingPaymentPageResponse;
 import com.delivery.payment.dto.PendingPaymentResponse;
 import com.delivery.payment.entity.PaymentEntity;
-import com.delivery.payment.entity.PaymentMethodEntity;
+import com.delivery.payment.exception.InvalidPaymentListRequestException;
 import com.delivery.payment.exception.PaymentNotFoundException;
 import com.delivery.payment.exception.PaymentRetryConflictException;
-import com.delivery.payment.model.PaymentMethodType;
+import com.delivery.payment.model.PaymentChargeOutcome;
+import com.delivery.payment.model.PaymentMethodSnapshot;
 import com.delivery.payment.repository.PaymentMethodRepository;
 import com.delivery.payment.repository.PaymentRepository;
 import com.delivery.waste.dto.WasteRequestResponse;
@@ -21,18 +24,18 @@ import com.delivery.waste.entity.WasteRequestEntity;
 import com.delivery.waste.exception.WasteRequestNotFoundException;
 import com.delivery.waste.repository.WasteRequestRepository;
 import com.delivery.waste.service.WasteOrderNoPolicy;
+import com.delivery.waste.service.WasteRequestUpdateExecutor;
 import com.delivery.waste.service.WasteStatusTransitionService;
+import com.delivery.web.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.UUID;
 
 @Service
 public class PaymentFailureHandlingService {
@@ -47,6 +50,8 @@ public class PaymentFailureHandlingService {
     private static final String STATUS_COMPLETED = "COMPLETED";
     private static final String FAILURE_CODE_UNSUPPORTED_AUTO_PAYMENT_METHOD = "UNSUPPORTED_AUTO_PAYMENT_METHOD";
     private static final String FAILURE_MESSAGE_CARD_ONLY_AUTO_PAYMENT = "\uC790\uB3D9\uACB0\uC81C\uB294 \uCE74\uB4DC \uB4F1\uB85D \uD6C4\uC5D0\uB9CC \uC9C4\uD589\uD560 \uC218 \uC788\uC2B5\uB2C8\uB2E4.";
+    private static final int DEFAULT_SCROLL_SIZE = 20;
+    private static final int MAX_SCROLL_SIZE = 100;
     private static final String RESULT_SUCCEEDED = "SUCCEEDED";
     private static final String RESULT_FAILED = "FAILED";
     private static final String RESULT_SKIPPED = "SKIPPED";
@@ -56,7 +61,10 @@ public class PaymentFailureHandlingService {
     private final PaymentRepository paymentRepository;
     private final WasteRequestRepository wasteRequestRepository;
     private final WasteStatusTransitionService wasteStatusTransitionService;
-    private final WasteRequestPaymentCompletedNotificationService wasteRequestPaymentCompletedNotificationService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
+    private final PaymentChargeService paymentChargeService;
+    private final DefaultPaymentMethodResolver defaultPaymentMethodResolver;
 
     public PaymentFailureHandlingService(
             UserRepository userRepository,
@@ -64,14 +72,20 @@ public class PaymentFailureHandlingService {
             PaymentRepository paymentRepository,
             WasteRequestRepository wasteRequestRepository,
             WasteStatusTransitionService wasteStatusTransitionService,
-            WasteRequestPaymentCompletedNotificationService wasteRequestPaymentCompletedNotificationService
+            OutboxEventPublisher outboxEventPublisher,
+            WasteRequestUpdateExecutor wasteRequestUpdateExecutor,
+            PaymentChargeService paymentChargeService,
+            DefaultPaymentMethodResolver defaultPaymentMethodResolver
     ) {
         this.userRepository = userRepository;
         this.paymentMethodRepository = paymentMethodRepository;
         this.paymentRepository = paymentRepository;
         this.wasteRequestRepository = wasteRequestRepository;
         this.wasteStatusTransitionService = wasteStatusTransitionService;
-        this.wasteRequestPaymentCompletedNotificationService = wasteRequestPaymentCompletedNotificationService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.wasteRequestUpdateExecutor = wasteRequestUpdateExecutor;
+        this.paymentChargeService = paymentChargeService;
+        this.defaultPaymentMethodResolver = defaultPaymentMethodResolver;
     }
 
     @Transactional
@@ -96,94 +110,83 @@ public class PaymentFailureHandlingService {
     public void deactivateActiveMethods(UserEntity user) {
         paymentMethodRepository.findAllByUserAndStatusOrderByCreatedAtDesc(user, STATUS_ACTIVE)
                 .forEach(method -> method.changeStatus(STATUS_INACTIVE));
+        defaultPaymentMethodResolver.evict(user.getId());
     }
 
     @Transactional
     public Page<FailedPaymentResponse> getFailedPayments(Pageable pageable) {
-        return paymentRepository.findAllByStatusOrderByUpdatedAtDesc(STATUS_FAILED, pageable)
-                .map(payment -> new FailedPaymentResponse(
-                        payment.getId(),
-                        payment.getWasteRequest().getId(),
-                        payment.getWasteRequest().getUser().getId(),
-                        payment.getAmount(),
-                        payment.getCurrency(),
-                        payment.getFailureCode(),
-                        payment.getFailureMessage(),
-                        payment.getUpdatedAt()
-                ));
+        return paymentRepository.findFailedPaymentViews(STATUS_FAILED, unsorted(pageable));
     }
 
     @Transactional
-    public Page<PendingPaymentResponse> getPendingPayments(Pageable pageable) {
-        return paymentRepository.findAllByStatusOrderByUpdatedAtDesc(STATUS_PENDING, pageable)
-                .map(payment -> new PendingPaymentResponse(
-                        payment.getId(),
-                        payment.getWasteRequest().getId(),
-                        payment.getWasteRequest().getUser().getId(),
-                        payment.getAmount(),
-                        payment.getCurrency(),
-                        payment.getUpdatedAt()
-                ));
+    public FailedPaymentPageResponse scrollFailedPayments(String cursor, Integer size) {
+        KeysetCursor keysetCursor = decodeScrollCursor(cursor);
+        Pageable limit = PageRequest.of(0, normalizeScrollSize(size));
+        Slice<FailedPaymentResponse> slice = keysetCursor == null
+                ? paymentRepository.findFailedPaymentViewsFirst(STATUS_FAILED, limit)
+                : paymentRepository.findFailedPaymentViewsBefore(STATUS_FAILED, keysetCursor.at(), keysetCursor.id(), limit);
+        List<FailedPaymentResponse> content = slice.getContent();
+        String nextCursor = KeysetCursor.next(
+                content,
+                slice.hasNext(),
+                last -> new KeysetCursor(last.updatedAt(), last.paymentId())
+        );
+        return new FailedPaymentPageResponse(content, content.size(), slice.hasNext(), nextCursor);
     }
 
     @Transactional
-    public PendingPaymentBatchExecuteResponse executePendingPaymentsBatch(
-            PendingPaymentBatchExecuteRequest batchRequest,
-            String actorLoginId
-    ) {
-        List<PaymentEntity> targets = resolvePendingTargets(batchRequest);
-        List<PendingPaymentBatchExecuteResponse.Item> results = new ArrayList<>();
-
-        int succeededCount = 0;
-        int failedCount = 0;
-        int skippedCount = 0;
-
-        for (PaymentEntity payment : targets) {
-            WasteRequestEntity request = payment.getWasteRequest();
-
-            if (!STATUS_PENDING.equals(payment.getStatus()) || !STATUS_PAYMENT_PENDING.equals(request.getStatus())) {
-                skippedCount += 1;
-                results.add(new PendingPaymentBatchExecuteResponse.Item(
-                        request.getId(),
-                        payment.getId(),
-                        RESULT_SKIPPED,
-                        request.getStatus(),
-                        payment.getStatus(),
-                        "PENDING \uC0C1\uD0DC \uB300\uC0C1\uC774 \uC544\uB2D9\uB2C8\uB2E4."
-                ));
-                continue;
-            }
+    public Page<PendingPaymentResponse> getPendingPayments(Pageable pageable) {
+        return paymentRepository.findPendingPaymentViews(STATUS_PENDING, unsorted(pageable));
+    }
 
-            WasteRequestEntity executed = executePendingPayment(request, payment, actorLoginId);
-            String result = STATUS_COMPLETED.equals(executed.getStatus()) ? RESULT_SUCCEEDED : RESULT_FAILED;
+    @Transactional
+    public PendingPaymentPageResponse scrollPendingPayments(String cursor, Integer size) {
+        KeysetCursor keysetCursor = decodeScrollCursor(cursor);
+        Pageable limit = PageRequest.of(0, normalizeScrollSize(size));
+        Slice<PendingPaymentResponse> slice = keysetCursor == null
+                ? paymentRepository.findPendingPaymentViewsFirst(STATUS_PENDING, limit)
+                : paymentRepository.findPendingPaymentViewsBefore(STATUS_PENDING, keysetCursor.at(), keysetCursor.id(), limit);
+        List<PendingPaymentResponse> content = slice.getContent();
+        String nextCursor = KeysetCursor.next(
+                content,
+                slice.hasNext(),
+                last -> new KeysetCursor(last.updatedAt(), last.paymentId())
+        );
+        return new PendingPaymentPageResponse(content, content.size(), slice.hasNext(), nextCursor);
+    }
 
-            if (RESULT_SUCCEEDED.equals(result)) {
-                succeededCount += 1;
-            } else {
-                failedCount += 1;
-            }
+    @Transactional
+    public PendingPaymentBatchExecuteResponse.Item executePendingPaymentItem(Long paymentId, String actorLoginId) {
+        PaymentEntity payment = paymentRepository.findById(paymentId).orElseThrow(PaymentNotFoundException::new);
+        WasteRequestEntity request = payment.getWasteRequest();
 
-            results.add(new PendingPaymentBatchExecuteResponse.Item(
-                    executed.getId(),
+        if (!STATUS_PENDING.equals(payment.getStatus()) || !STATUS_PAYMENT_PENDING.equals(request.getStatus())) {
+            return new PendingPaymentBatchExecuteResponse.Item(
+                    request.getId(),
                     payment.getId(),
-                    result,
-                    executed.getStatus(),
+                    RESULT_SKIPPED,
+                    request.getStatus(),
                     payment.getStatus(),
-                    null
-            ));
+                    "PENDING \uC0C1\uD0DC \uB300\uC0C1\uC774 \uC544\uB2D9\uB2C8\uB2E4."
+            );
         }
 
-        return new PendingPaymentBatchExecuteResponse(
-                targets.size(),
-                succeededCount,
-                failedCount,
-                skippedCount,
-                results
+        WasteRequestEntity executed = executePendingPayment(request, payment, actorLoginId, List.of());
+        return new PendingPaymentBatchExecuteResponse.Item(
+                executed.getId(),
+                payment.getId(),
+                STATUS_COMPLETED.equals(executed.getStatus()) ? RESULT_SUCCEEDED : RESULT_FAILED,
+                executed.getStatus(),
+                payment.getStatus(),
+                STATUS_COMPLETED.equals(executed.getStatus()) ? null : payment.getFailureMessage()
         );
     }
 
-    @Transactional
     public WasteRequestResponse retryFailedPayment(Long wasteRequestId, String actorLoginId) {
+        return wasteRequestUpdateExecutor.execute("paymentRetry", () -> retry(wasteRequestId, actorLoginId));
+    }
+
+    private WasteRequestResponse retry(Long wasteRequestId, String actorLoginId) {
         WasteRequestEntity request = wasteRequestRepository.findById(wasteRequestId)
                 .orElseThrow(WasteRequestNotFoundException::new);
         PaymentEntity payment = paymentRepository.findByWasteRequestId(wasteRequestId)
@@ -195,63 +198,102 @@ public class PaymentFailureHandlingService {
             );
         }
 
-        WasteRequestEntity pending = wasteStatusTransitionService.transition(
-                wasteRequestId,
-                STATUS_PAYMENT_PENDING,
-                actorLoginId
+        payment.resetRetrySchedule();
+        WasteRequestEntity executed = executePendingPayment(
+                request,
+                payment,
+                actorLoginId,
+                List.of(STATUS_PAYMENT_PENDING)
         );
-
-        WasteRequestEntity executed = executePendingPayment(pending, payment, actorLoginId);
         return toResponse(executed);
     }
 
-    private List<PaymentEntity> resolvePendingTargets(PendingPaymentBatchExecuteRequest batchRequest) {
-        if (batchRequest == null || batchRequest.wasteRequestIds() == null || batchRequest.wasteRequestIds().isEmpty()) {
-            return paymentRepository.findAllByStatusOrderByUpdatedAtAsc(STATUS_PENDING);
-        }
-
-        Set<Long> uniqueIds = new LinkedHashSet<>(batchRequest.wasteRequestIds());
-        return paymentRepository.findAllByStatusAndWasteRequestIdIn(STATUS_PENDING, uniqueIds)
-                .stream()
-                .sorted(Comparator.comparing(PaymentEntity::getUpdatedAt))
-                .toList();
+    @Transactional
+    public WasteRequestEntity retryScheduledPayment(PaymentEntity payment, String actorLoginId) {
+        return executePendingPayment(
+                payment.getWasteRequest(),
+                payment,
+                actorLoginId,
+                List.of(STATUS_PAYMENT_PENDING)
+        );
     }
 
     private WasteRequestEntity executePendingPayment(
             WasteRequestEntity request,
             PaymentEntity payment,
-            String actorLoginId
+            String actorLoginId,
+            List<String> leadingPath
     ) {
-        PaymentMethodEntity paymentMethod = paymentMethodRepository
-                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(
-                        request.getUser(),
-                        STATUS_ACTIVE,
-                        PaymentMethodType.CARD.name()
-                )
-                .orElse(null);
+        PaymentMethodSnapshot paymentMethod = defaultPaymentMethodResolver.resolve(request.getUser()).orElse(null);
 
-        payment.markPendingForRetry(paymentMethod);
+        payment.markPendingForRetry(paymentMethod == null ? null : defaultPaymentMethodResolver.attach(paymentMethod));
 
         if (paymentMethod == null) {
             payment.markFailure(FAILURE_CODE_UNSUPPORTED_AUTO_PAYMENT_METHOD, FAILURE_MESSAGE_CARD_ONLY_AUTO_PAYMENT);
-            return wasteStatusTransitionService.transition(
+            return wasteStatusTransitionService.transitionPath(
+                    request.getId(),
+                    appendPath(leadingPath, STATUS_PAYMENT_FAILED),
+                    actorLoginId
+            );
+        }
+
+        PaymentChargeOutcome outcome = paymentChargeService.charge(payment, paymentMethod);
+        if (outcome == PaymentChargeOutcome.DECLINED) {
+            return wasteStatusTransitionService.transitionPath(
                     request.getId(),
-                    STATUS_PAYMENT_FAILED,
+                    appendPath(leadingPath, STATUS_PAYMENT_FAILED),
                     actorLoginId
             );
         }
+        if (outcome == PaymentChargeOutcome.UNKNOWN) {
+            if (leadingPath.isEmpty()) {
+                return request;
+            }
+            return wasteStatusTransitionService.transitionPath(request.getId(), leadingPath, actorLoginId);
+        }
 
-        payment.markSuccess("mock_payment_key_retry_" + UUID.randomUUID());
-        wasteStatusTransitionService.transition(request.getId(), STATUS_PAID, actorLoginId);
-        WasteRequestEntity completed = wasteStatusTransitionService.transition(
+        WasteRequestEntity completed = wasteStatusTransitionService.transitionPath(
                 request.getId(),
-                STATUS_COMPLETED,
+                appendPath(leadingPath, STATUS_PAID, STATUS_COMPLETED),
+                actorLoginId
+        );
+        outboxEventPublisher.publish(
+                OutboxEventType.WASTE_REQUEST_PAYMENT_COMPLETED_NOTIFICATION,
+                completed.getId(),
                 actorLoginId
         );
-        wasteRequestPaymentCompletedNotificationService.notifyPaymentCompleted(completed);
         return completed;
     }
 
+    private Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    private KeysetCursor decodeScrollCursor(String cursor) {
+        return KeysetCursor.decode(
+                cursor,
+                () -> new InvalidPaymentListRequestException("cursor \uAC12\uC774 \uC62C\uBC14\uB974\uC9C0 \uC54A\uC2B5\uB2C8\uB2E4.")
+        );
+    }
+
+    private int normalizeScrollSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SCROLL_SIZE;
+        }
+        if (size <= 0 || size > MAX_SCROLL_SIZE) {
+            throw new InvalidPaymentListRequestException(
+                    "size\uB294 1 \uC774\uC0C1 " + MAX_SCROLL_SIZE + " \uC774\uD558\uC5EC\uC57C \uD569\uB2C8\uB2E4."
+            );
+        }
+        return size;
+    }
+
+    private List<String> appendPath(List<String> leadingPath, String... statuses) {
+        List<String> path = new ArrayList<>(leadingPath);
+        path.addAll(List.of(statuses));
+        return path;
+    }
+
     private WasteRequestResponse toResponse(WasteRequestEntity request) {
         return new WasteRequestResponse(
                 request.getId(),
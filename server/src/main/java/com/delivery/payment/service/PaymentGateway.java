@@ -0,0 +1,9 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.model.PaymentChargeRequest;
+import com.delivery.payment.model.PaymentChargeResult;
+
+public interface PaymentGateway {
+
+    PaymentChargeResult charge(PaymentChargeRequest request);
+}
@@ -0,0 +1,51 @@
+package com.delivery.payment.service;
+
+import java.util.function.LongSupplier;
+
+final class PaymentGatewayCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private int consecutiveFailures;
+    private boolean open;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    PaymentGatewayCircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (!open) {
+            return true;
+        }
+        if (trialInFlight || clock.getAsLong() - openedAt < openMillis) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        open = false;
+        trialInFlight = false;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures += 1;
+        if (trialInFlight || consecutiveFailures >= failureThreshold) {
+            open = true;
+            openedAt = clock.getAsLong();
+        }
+        trialInFlight = false;
+    }
+
+    synchronized boolean isOpen() {
+        return open;
+    }
+}
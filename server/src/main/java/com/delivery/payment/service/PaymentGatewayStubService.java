@@ -0,0 +1,114 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.config.PaymentGatewayStubProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@ConditionalOnProperty(prefix = "app.payment.gateway.stub", name = "enabled", havingValue = "true")
+public class PaymentGatewayStubService {
+
+    private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);
+
+    private final PaymentGatewayStubProperties paymentGatewayStubProperties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, ResponseEntity<Map<String, Object>>> responses;
+
+    public PaymentGatewayStubService(
+            PaymentGatewayStubProperties paymentGatewayStubProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentGatewayStubProperties = paymentGatewayStubProperties;
+        this.meterRegistry = meterRegistry;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(paymentGatewayStubProperties.getMaxIdempotencyEntries())
+                .expireAfterWrite(IDEMPOTENCY_TTL)
+                .build();
+    }
+
+    public ResponseEntity<Map<String, Object>> charge(String idempotencyKey, Map<String, Object> request) {
+        simulateLatency();
+
+        if (StringUtils.hasText(idempotencyKey)) {
+            ResponseEntity<Map<String, Object>> replayed = responses.getIfPresent(idempotencyKey);
+            if (replayed != null) {
+                counter("replayed").increment();
+                return replayed;
+            }
+        }
+
+        ResponseEntity<Map<String, Object>> response = respond(request);
+        if (StringUtils.hasText(idempotencyKey) && !response.getStatusCode().is5xxServerError()) {
+            ResponseEntity<Map<String, Object>> existing = responses.asMap().putIfAbsent(idempotencyKey, response);
+            if (existing != null) {
+                counter("replayed").increment();
+                return existing;
+            }
+        }
+        return response;
+    }
+
+    private ResponseEntity<Map<String, Object>> respond(Map<String, Object> request) {
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < paymentGatewayStubProperties.getErrorRate()) {
+            counter("error").increment();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(error("FAILED_INTERNAL_SYSTEM_PROCESSING", "stub gateway error"));
+        }
+        if (roll < paymentGatewayStubProperties.getErrorRate() + paymentGatewayStubProperties.getDeclineRate()) {
+            counter("declined").increment();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(error("REJECT_CARD_COMPANY", "stub gateway decline"));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("paymentKey", "stub_payment_key_" + UUID.randomUUID());
+        body.put("orderId", request != null ? request.get("orderId") : null);
+        body.put("status", "DONE");
+        body.put("totalAmount", request != null ? request.get("amount") : null);
+        body.put("approvedAt", Instant.now().toString());
+        counter("approved").increment();
+        return ResponseEntity.ok(body);
+    }
+
+    private Map<String, Object> error(String code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", code);
+        body.put("message", message);
+        return body;
+    }
+
+    private void simulateLatency() {
+        long minLatencyMillis = paymentGatewayStubProperties.getMinLatencyMillis();
+        long maxLatencyMillis = paymentGatewayStubProperties.getMaxLatencyMillis();
+        long latencyMillis = minLatencyMillis + ThreadLocalRandom.current().nextLong(maxLatencyMillis - minLatencyMillis + 1);
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("payment.gateway.stub.charges")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
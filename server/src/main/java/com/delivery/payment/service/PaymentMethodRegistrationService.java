@@ -30,17 +30,20 @@ public class PaymentMethodRegistrationService {
     private final PaymentMethodRepository paymentMethodRepository;
     private final PaymentFailureHandlingService paymentFailureHandlingService;
     private final PaymentRegistrationProperties paymentRegistrationProperties;
+    private final DefaultPaymentMethodResolver defaultPaymentMethodResolver;
 
     public PaymentMethodRegistrationService(
             UserRepository userRepository,
             PaymentMethodRepository paymentMethodRepository,
             PaymentFailureHandlingService paymentFailureHandlingService,
-            PaymentRegistrationProperties paymentRegistrationProperties
+            PaymentRegistrationProperties paymentRegistrationProperties,
+            DefaultPaymentMethodResolver defaultPaymentMethodResolver
     ) {
         this.userRepository = userRepository;
         this.paymentMethodRepository = paymentMethodRepository;
         this.paymentFailureHandlingService = paymentFailureHandlingService;
         this.paymentRegistrationProperties = paymentRegistrationProperties;
+        this.defaultPaymentMethodResolver = defaultPaymentMethodResolver;
     }
 
     @Transactional
@@ -85,6 +88,7 @@ public class PaymentMethodRegistrationService {
                 authKey,
                 PAYMENT_METHOD_ACTIVE
         ));
+        defaultPaymentMethodResolver.evict(user.getId());
 
         return new PaymentMethodRegistrationSuccessResponse(
                 saved.getId(),
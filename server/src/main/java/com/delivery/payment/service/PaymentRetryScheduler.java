@@ -0,0 +1,55 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.config.PaymentRetryProperties;
+import com.delivery.payment.dto.PaymentRetryRunResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PaymentRetryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentRetryScheduler.class);
+
+    private final PaymentRetryProperties paymentRetryProperties;
+    private final PaymentRetryService paymentRetryService;
+
+    public PaymentRetryScheduler(
+            PaymentRetryProperties paymentRetryProperties,
+            PaymentRetryService paymentRetryService
+    ) {
+        this.paymentRetryProperties = paymentRetryProperties;
+        this.paymentRetryService = paymentRetryService;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.payment.retry.interval-millis:60000}",
+            initialDelayString = "${app.payment.retry.interval-millis:60000}"
+    )
+    public void retryDuePayments() {
+        if (!paymentRetryProperties.isEnabled()) {
+            log.debug("payment retry scheduler is disabled");
+            return;
+        }
+        if (paymentRetryProperties.getSystemActorLoginId() == null) {
+            log.warn("payment retry scheduler is skipped because app.payment.retry.system-actor-login-id is empty");
+            return;
+        }
+
+        PaymentRetryRunResponse result = paymentRetryService.runDueRetries(
+                paymentRetryProperties.getSystemActorLoginId()
+        );
+        if (result.claimedCount() > 0) {
+            log.info(
+                    "payment retries processed claimed={} succeeded={} failed={} pending={} skipped={} errors={}",
+                    result.claimedCount(),
+                    result.succeededCount(),
+                    result.failedCount(),
+                    result.pendingCount(),
+                    result.skippedCount(),
+                    result.errorCount()
+            );
+        }
+    }
+}
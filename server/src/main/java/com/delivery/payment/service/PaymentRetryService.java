@@ -0,0 +1,365 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.config.PaymentRetryProperties;
+import com.delivery.payment.dto.PaymentRetryAttemptResponse;
+import com.delivery.payment.dto.PaymentRetryRunResponse;
+import com.delivery.payment.entity.PaymentEntity;
+import com.delivery.payment.exception.PaymentNotFoundException;
+import com.delivery.payment.repository.PaymentRepository;
+import com.delivery.waste.service.WasteRequestUpdateExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class PaymentRetryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentRetryService.class);
+    private static final String OPERATION = "paymentAutoRetry";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    private static final String STATUS_PAYMENT_FAILED = "PAYMENT_FAILED";
+    private static final String OUTCOME_SUCCEEDED = "SUCCEEDED";
+    private static final String OUTCOME_FAILED = "FAILED";
+    private static final String OUTCOME_PENDING = "PENDING";
+    private static final String OUTCOME_SKIPPED = "SKIPPED";
+    private static final String OUTCOME_ERROR = "ERROR";
+    private static final List<String> OUTCOMES = List.of(
+            OUTCOME_SUCCEEDED,
+            OUTCOME_FAILED,
+            OUTCOME_PENDING,
+            OUTCOME_SKIPPED,
+            OUTCOME_ERROR
+    );
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final String SELECT_DUE_SQL = """
+            SELECT p.id, p.waste_request_id, p.retry_attempts, wr.user_id
+            FROM payments p
+            JOIN waste_requests wr ON wr.id = p.waste_request_id
+            WHERE p.status = 'FAILED'
+              AND p.id > ?
+              AND p.retry_attempts < ?
+              AND (
+                  p.next_retry_at <= ?
+                  OR (p.next_retry_at IS NULL AND p.updated_at <= ?)
+              )
+              AND (p.retry_locked_until IS NULL OR p.retry_locked_until < ?)
+            ORDER BY p.id
+            LIMIT ?
+            """;
+    private static final String LEASE_SQL = """
+            UPDATE payments
+            SET retry_locked_until = ?
+            WHERE id = ?
+              AND status = 'FAILED'
+              AND (retry_locked_until IS NULL OR retry_locked_until < ?)
+            """;
+    private static final String RELEASE_SQL = "UPDATE payments SET retry_locked_until = NULL WHERE id = ?";
+    private static final String DEFER_SQL = """
+            UPDATE payments
+            SET retry_attempts = retry_attempts + 1, next_retry_at = ?, retry_locked_until = NULL
+            WHERE id = ?
+              AND status = 'FAILED'
+            """;
+    private static final String INSERT_ATTEMPT_SQL = """
+            INSERT INTO payment_retry_attempts
+                (payment_id, waste_request_id, attempt_no, outcome, failure_code, failure_message, next_retry_at,
+                 node_id, started_at, finished_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_ATTEMPTS_SQL = """
+            SELECT id, payment_id, waste_request_id, attempt_no, outcome, failure_code, failure_message, next_retry_at,
+                   node_id, started_at, finished_at
+            FROM payment_retry_attempts
+            WHERE waste_request_id = ?
+            ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PaymentRepository paymentRepository;
+    private final PaymentFailureHandlingService paymentFailureHandlingService;
+    private final DefaultPaymentMethodResolver defaultPaymentMethodResolver;
+    private final WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
+    private final PaymentRetryProperties paymentRetryProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> attemptCounters = new LinkedHashMap<>();
+    private final String nodeId;
+
+    public PaymentRetryService(
+            JdbcTemplate jdbcTemplate,
+            PaymentRepository paymentRepository,
+            PaymentFailureHandlingService paymentFailureHandlingService,
+            DefaultPaymentMethodResolver defaultPaymentMethodResolver,
+            WasteRequestUpdateExecutor wasteRequestUpdateExecutor,
+            PaymentRetryProperties paymentRetryProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.paymentRepository = paymentRepository;
+        this.paymentFailureHandlingService = paymentFailureHandlingService;
+        this.defaultPaymentMethodResolver = defaultPaymentMethodResolver;
+        this.wasteRequestUpdateExecutor = wasteRequestUpdateExecutor;
+        this.paymentRetryProperties = paymentRetryProperties;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = paymentRetryProperties.getNodeId() != null
+                ? paymentRetryProperties.getNodeId()
+                : ManagementFactory.getRuntimeMXBean().getName();
+        for (String outcome : OUTCOMES) {
+            attemptCounters.put(outcome, Counter.builder("payment.retry.attempts")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("payment.retry.success.ratio", this, PaymentRetryService::successRatio)
+                .register(meterRegistry);
+    }
+
+    public PaymentRetryRunResponse runDueRetries(String actorLoginId) {
+        int claimedCount = 0;
+        long lastPaymentId = 0L;
+        Map<String, Integer> outcomeCounts = new LinkedHashMap<>();
+        while (true) {
+            List<RetryCandidate> candidates = selectDue(lastPaymentId);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            lastPaymentId = candidates.get(candidates.size() - 1).paymentId();
+            List<RetryCandidate> claimed = lease(candidates);
+            claimedCount += claimed.size();
+            defaultPaymentMethodResolver.preload(claimed.stream().map(RetryCandidate::userId).toList());
+            for (RetryCandidate candidate : claimed) {
+                outcomeCounts.merge(retry(candidate, actorLoginId), 1, Integer::sum);
+            }
+        }
+        return new PaymentRetryRunResponse(
+                claimedCount,
+                outcomeCounts.getOrDefault(OUTCOME_SUCCEEDED, 0),
+                outcomeCounts.getOrDefault(OUTCOME_FAILED, 0),
+                outcomeCounts.getOrDefault(OUTCOME_PENDING, 0),
+                outcomeCounts.getOrDefault(OUTCOME_SKIPPED, 0),
+                outcomeCounts.getOrDefault(OUTCOME_ERROR, 0)
+        );
+    }
+
+    public List<PaymentRetryAttemptResponse> getAttempts(Long wasteRequestId) {
+        return jdbcTemplate.query(
+                SELECT_ATTEMPTS_SQL,
+                (rs, rowNum) -> new PaymentRetryAttemptResponse(
+                        rs.getLong("id"),
+                        rs.getLong("payment_id"),
+                        rs.getLong("waste_request_id"),
+                        rs.getInt("attempt_no"),
+                        rs.getString("outcome"),
+                        rs.getString("failure_code"),
+                        rs.getString("failure_message"),
+                        toInstant(rs.getTimestamp("next_retry_at")),
+                        rs.getString("node_id"),
+                        toInstant(rs.getTimestamp("started_at")),
+                        toInstant(rs.getTimestamp("finished_at"))
+                ),
+                wasteRequestId
+        );
+    }
+
+    private List<RetryCandidate> selectDue(long afterPaymentId) {
+        Instant now = Instant.now();
+        Timestamp nowTimestamp = Timestamp.from(now);
+        return jdbcTemplate.query(
+                SELECT_DUE_SQL,
+                (rs, rowNum) -> new RetryCandidate(
+                        rs.getLong("id"),
+                        rs.getLong("waste_request_id"),
+                        rs.getInt("retry_attempts"),
+                        rs.getLong("user_id")
+                ),
+                afterPaymentId,
+                paymentRetryProperties.getMaxAttempts(),
+                nowTimestamp,
+                Timestamp.from(now.minusMillis(paymentRetryProperties.getInitialBackoffMillis())),
+                nowTimestamp,
+                paymentRetryProperties.getBatchSize()
+        );
+    }
+
+    private List<RetryCandidate> lease(List<RetryCandidate> candidates) {
+        Instant now = Instant.now();
+        Timestamp nowTimestamp = Timestamp.from(now);
+        Timestamp lockedUntil = Timestamp.from(now.plusMillis(paymentRetryProperties.getLeaseMillis()));
+        List<RetryCandidate> claimed = new ArrayList<>(candidates.size());
+        for (RetryCandidate candidate : candidates) {
+            if (jdbcTemplate.update(LEASE_SQL, lockedUntil, candidate.paymentId(), nowTimestamp) == 1) {
+                claimed.add(candidate);
+            }
+        }
+        return claimed;
+    }
+
+    private String retry(RetryCandidate candidate, String actorLoginId) {
+        Instant startedAt = Instant.now();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome;
+        try {
+            outcome = wasteRequestUpdateExecutor.execute(OPERATION, () -> attempt(candidate, actorLoginId, startedAt));
+        } catch (RuntimeException exception) {
+            log.warn(
+                    "payment retry failed paymentId={} wasteRequestId={} reason={}",
+                    candidate.paymentId(),
+                    candidate.wasteRequestId(),
+                    exception.getMessage()
+            );
+            outcome = OUTCOME_ERROR;
+            defer(candidate, OUTCOME_ERROR, exception.getClass().getSimpleName(), exception.getMessage(), startedAt);
+        }
+        if (OUTCOME_SKIPPED.equals(outcome)) {
+            defer(candidate, OUTCOME_SKIPPED, null, null, startedAt);
+        }
+
+        attemptCounters.get(outcome).increment();
+        sample.stop(Timer.builder("payment.retry.duration")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        return outcome;
+    }
+
+    private String attempt(RetryCandidate candidate, String actorLoginId, Instant startedAt) {
+        PaymentEntity payment = paymentRepository.findById(candidate.paymentId())
+                .orElseThrow(PaymentNotFoundException::new);
+        if (!STATUS_FAILED.equals(payment.getStatus())
+                || !STATUS_PAYMENT_FAILED.equals(payment.getWasteRequest().getStatus())) {
+            return OUTCOME_SKIPPED;
+        }
+        jdbcTemplate.update(RELEASE_SQL, payment.getId());
+
+        int attemptNo = payment.getRetryAttempts() + 1;
+        paymentFailureHandlingService.retryScheduledPayment(payment, actorLoginId);
+
+        String outcome = switch (payment.getStatus()) {
+            case STATUS_SUCCEEDED -> OUTCOME_SUCCEEDED;
+            case STATUS_FAILED -> OUTCOME_FAILED;
+            default -> OUTCOME_PENDING;
+        };
+        Instant nextRetryAt = OUTCOME_FAILED.equals(outcome) ? nextRetryAt(attemptNo) : null;
+        payment.recordRetryAttempt(nextRetryAt);
+        insertAttempt(
+                payment.getId(),
+                candidate.wasteRequestId(),
+                attemptNo,
+                outcome,
+                payment.getFailureCode(),
+                payment.getFailureMessage(),
+                nextRetryAt,
+                startedAt
+        );
+        return outcome;
+    }
+
+    private void defer(
+            RetryCandidate candidate,
+            String outcome,
+            String failureCode,
+            String failureMessage,
+            Instant startedAt
+    ) {
+        int attemptNo = candidate.retryAttempts() + 1;
+        Instant nextRetryAt = nextRetryAt(attemptNo);
+        int deferred = jdbcTemplate.update(
+                DEFER_SQL,
+                nextRetryAt != null ? Timestamp.from(nextRetryAt) : null,
+                candidate.paymentId()
+        );
+        if (deferred == 0) {
+            jdbcTemplate.update(RELEASE_SQL, candidate.paymentId());
+            return;
+        }
+        insertAttempt(
+                candidate.paymentId(),
+                candidate.wasteRequestId(),
+                attemptNo,
+                outcome,
+                failureCode,
+                failureMessage,
+                nextRetryAt,
+                startedAt
+        );
+    }
+
+    private Instant nextRetryAt(int attemptNo) {
+        if (attemptNo >= paymentRetryProperties.getMaxAttempts()) {
+            return null;
+        }
+        return Instant.now().plusMillis(backoffMillis(attemptNo));
+    }
+
+    private void insertAttempt(
+            Long paymentId,
+            Long wasteRequestId,
+            int attemptNo,
+            String outcome,
+            String failureCode,
+            String failureMessage,
+            Instant nextRetryAt,
+            Instant startedAt
+    ) {
+        jdbcTemplate.update(
+                INSERT_ATTEMPT_SQL,
+                paymentId,
+                wasteRequestId,
+                attemptNo,
+                outcome,
+                failureCode,
+                truncate(failureMessage),
+                nextRetryAt != null ? Timestamp.from(nextRetryAt) : null,
+                nodeId,
+                Timestamp.from(startedAt),
+                Timestamp.from(Instant.now())
+        );
+    }
+
+    private long backoffMillis(int attemptNo) {
+        long baseMillis = paymentRetryProperties.getInitialBackoffMillis();
+        if (baseMillis == 0) {
+            return 0L;
+        }
+        long delay = baseMillis << Math.min(attemptNo, 20);
+        delay = Math.min(delay, paymentRetryProperties.getMaxBackoffMillis());
+        return delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private double successRatio() {
+        double total = 0;
+        for (String outcome : List.of(OUTCOME_SUCCEEDED, OUTCOME_FAILED, OUTCOME_PENDING, OUTCOME_ERROR)) {
+            total += attemptCounters.get(outcome).count();
+        }
+        if (total == 0) {
+            return 0;
+        }
+        return attemptCounters.get(OUTCOME_SUCCEEDED).count() / total;
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= MAX_MESSAGE_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private record RetryCandidate(Long paymentId, Long wasteRequestId, int retryAttempts, Long userId) {
+    }
+}
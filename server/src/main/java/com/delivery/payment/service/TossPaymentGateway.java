@@ -0,0 +1,220 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.config.PaymentGatewayProperties;
+import com.delivery.payment.model.PaymentChargeOutcome;
+import com.delivery.payment.model.PaymentChargeRequest;
+import com.delivery.payment.model.PaymentChargeResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "app.payment.gateway", name = "provider", havingValue = "TOSS")
+public class TossPaymentGateway implements PaymentGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(TossPaymentGateway.class);
+    private static final String BILLING_PATH = "/v1/billing/{billingKey}";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String STATUS_DONE = "DONE";
+    private static final String FAILURE_CODE_GATEWAY_UNAVAILABLE = "PAYMENT_GATEWAY_UNAVAILABLE";
+    private static final String FAILURE_CODE_GATEWAY_ERROR = "PAYMENT_GATEWAY_ERROR";
+    private static final String FAILURE_MESSAGE_GATEWAY_UNAVAILABLE = "\uACB0\uC81C \uB300\uD589\uC0AC \uC751\uB2F5\uC774 \uC9C0\uC5F0\uB418\uACE0 \uC788\uC2B5\uB2C8\uB2E4. \uC7A0\uC2DC \uD6C4 \uB2E4\uC2DC \uC2DC\uB3C4\uD574 \uC8FC\uC138\uC694.";
+    private static final String FAILURE_MESSAGE_GATEWAY_ERROR = "\uACB0\uC81C \uB300\uD589\uC0AC \uC751\uB2F5\uC744 \uD655\uC778\uD560 \uC218 \uC5C6\uC2B5\uB2C8\uB2E4.";
+
+    private final RestTemplate restTemplate;
+    private final PaymentGatewayProperties paymentGatewayProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final PaymentGatewayCircuitBreaker circuitBreaker;
+    private final Semaphore permits;
+
+    public TossPaymentGateway(
+            @Qualifier("paymentGatewayRestTemplate") RestTemplate restTemplate,
+            PaymentGatewayProperties paymentGatewayProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplate;
+        this.paymentGatewayProperties = paymentGatewayProperties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new PaymentGatewayCircuitBreaker(
+                paymentGatewayProperties.getCircuitFailureThreshold(),
+                paymentGatewayProperties.getCircuitOpenMillis(),
+                System::currentTimeMillis
+        );
+        this.permits = new Semaphore(paymentGatewayProperties.getMaxConcurrentCalls());
+        Gauge.builder("payment.gateway.circuit.open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PaymentChargeResult charge(PaymentChargeRequest request) {
+        if (!acquirePermit()) {
+            rejectedCounter("saturated").increment();
+            return PaymentChargeResult.unknown(FAILURE_CODE_GATEWAY_UNAVAILABLE, FAILURE_MESSAGE_GATEWAY_UNAVAILABLE);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            rejectedCounter("circuit_open").increment();
+            return PaymentChargeResult.unknown(FAILURE_CODE_GATEWAY_UNAVAILABLE, FAILURE_MESSAGE_GATEWAY_UNAVAILABLE);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PaymentChargeResult result = PaymentChargeResult.unknown(FAILURE_CODE_GATEWAY_ERROR, FAILURE_MESSAGE_GATEWAY_ERROR);
+        try {
+            result = call(request);
+            return result;
+        } finally {
+            permits.release();
+            if (result.outcome() == PaymentChargeOutcome.UNKNOWN) {
+                circuitBreaker.recordFailure();
+            } else {
+                circuitBreaker.recordSuccess();
+            }
+            sample.stop(Timer.builder("payment.gateway.charge")
+                    .tag("outcome", result.outcome().name())
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(paymentGatewayProperties.getAcquireTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private PaymentChargeResult call(PaymentChargeRequest request) {
+        URI requestUri = UriComponentsBuilder.fromHttpUrl(paymentGatewayProperties.getBaseUrl())
+                .path(BILLING_PATH)
+                .buildAndExpand(request.billingKey())
+                .encode()
+                .toUri();
+        HttpEntity<Map<String, Object>> httpEntity = new HttpEntity<>(buildRequestBody(request), buildHeaders(request));
+
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.exchange(
+                    requestUri,
+                    HttpMethod.POST,
+                    httpEntity,
+                    JsonNode.class
+            );
+            String paymentKey = readText(response.getBody(), "paymentKey");
+            String status = readText(response.getBody(), "status");
+            if (StringUtils.hasText(paymentKey) && STATUS_DONE.equals(status)) {
+                return PaymentChargeResult.approved(paymentKey);
+            }
+            log.warn(
+                    "payment.gateway unexpected-response orderId={} statusCode={} status={}",
+                    request.providerOrderId(),
+                    response.getStatusCode().value(),
+                    status
+            );
+            return PaymentChargeResult.unknown(FAILURE_CODE_GATEWAY_ERROR, FAILURE_MESSAGE_GATEWAY_ERROR);
+        } catch (HttpClientErrorException exception) {
+            if (isTransient(exception.getStatusCode().value())) {
+                log.warn(
+                        "payment.gateway throttled orderId={} statusCode={}",
+                        request.providerOrderId(),
+                        exception.getStatusCode().value()
+                );
+                return PaymentChargeResult.unknown(FAILURE_CODE_GATEWAY_UNAVAILABLE, FAILURE_MESSAGE_GATEWAY_UNAVAILABLE);
+            }
+            JsonNode body = tryReadBody(exception.getResponseBodyAsString());
+            String code = readText(body, "code");
+            String message = readText(body, "message");
+            log.info(
+                    "payment.gateway declined orderId={} statusCode={} code={}",
+                    request.providerOrderId(),
+                    exception.getStatusCode().value(),
+                    code
+            );
+            return PaymentChargeResult.declined(
+                    StringUtils.hasText(code) ? code : "HTTP_" + exception.getStatusCode().value(),
+                    StringUtils.hasText(message) ? message : FAILURE_MESSAGE_GATEWAY_ERROR
+            );
+        } catch (RestClientException exception) {
+            log.warn(
+                    "payment.gateway transport-error orderId={} message={}",
+                    request.providerOrderId(),
+                    exception.getMessage()
+            );
+            return PaymentChargeResult.unknown(FAILURE_CODE_GATEWAY_UNAVAILABLE, FAILURE_MESSAGE_GATEWAY_UNAVAILABLE);
+        }
+    }
+
+    private boolean isTransient(int statusCode) {
+        return statusCode == HttpStatus.REQUEST_TIMEOUT.value() || statusCode == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private HttpHeaders buildHeaders(PaymentChargeRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.setBasicAuth(paymentGatewayProperties.getSecretKey(), "");
+        headers.set(IDEMPOTENCY_KEY_HEADER, request.idempotencyKey());
+        return headers;
+    }
+
+    private Map<String, Object> buildRequestBody(PaymentChargeRequest request) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("customerKey", request.customerKey());
+        body.put("amount", request.amount());
+        body.put("orderId", request.providerOrderId());
+        body.put("orderName", request.orderName());
+        return body;
+    }
+
+    private JsonNode tryReadBody(String body) {
+        if (!StringUtils.hasText(body)) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception exception) {
+            return null;
+        }
+    }
+
+    private String readText(JsonNode node, String fieldName) {
+        if (node == null || !node.hasNonNull(fieldName)) {
+            return null;
+        }
+        return node.get(fieldName).asText();
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("payment.gateway.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,15 +1,23 @@
 package com.delivery.payment.web;
 
+import com.delivery.payment.dto.FailedPaymentPageResponse;
 import com.delivery.payment.dto.FailedPaymentResponse;
+import com.delivery.payment.dto.PaymentBatchJobResponse;
+import com.delivery.payment.dto.PaymentRetryAttemptResponse;
+import com.delivery.payment.dto.PaymentRetryRunResponse;
 import com.delivery.payment.dto.PendingPaymentBatchExecuteRequest;
 import com.delivery.payment.dto.PendingPaymentBatchExecuteResponse;
+import com.delivery.payment.dto.PendingPaymentPageResponse;
 import com.delivery.payment.dto.PendingPaymentResponse;
+import com.delivery.payment.service.PaymentBatchJobService;
 import com.delivery.payment.service.PaymentFailureHandlingService;
+import com.delivery.payment.service.PaymentRetryService;
 import com.delivery.waste.dto.WasteRequestResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,16 +25,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/ops-admin/payments")
 public class OpsAdminPaymentController {
 
     private final PaymentFailureHandlingService paymentFailureHandlingService;
+    private final PaymentBatchJobService paymentBatchJobService;
+    private final PaymentRetryService paymentRetryService;
 
-    public OpsAdminPaymentController(PaymentFailureHandlingService paymentFailureHandlingService) {
+    public OpsAdminPaymentController(
+            PaymentFailureHandlingService paymentFailureHandlingService,
+            PaymentBatchJobService paymentBatchJobService,
+            PaymentRetryService paymentRetryService
+    ) {
         this.paymentFailureHandlingService = paymentFailureHandlingService;
+        this.paymentBatchJobService = paymentBatchJobService;
+        this.paymentRetryService = paymentRetryService;
     }
 
     @GetMapping("/failed")
@@ -36,6 +55,14 @@ public class OpsAdminPaymentController {
         return ResponseEntity.ok(paymentFailureHandlingService.getFailedPayments(pageable));
     }
 
+    @GetMapping("/failed/scroll")
+    public ResponseEntity<FailedPaymentPageResponse> scrollFailedPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(paymentFailureHandlingService.scrollFailedPayments(cursor, size));
+    }
+
     @GetMapping("/pending")
     public ResponseEntity<Page<PendingPaymentResponse>> getPendingPayments(
             @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable
@@ -43,17 +70,48 @@ public class OpsAdminPaymentController {
         return ResponseEntity.ok(paymentFailureHandlingService.getPendingPayments(pageable));
     }
 
+    @GetMapping("/pending/scroll")
+    public ResponseEntity<PendingPaymentPageResponse> scrollPendingPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(paymentFailureHandlingService.scrollPendingPayments(cursor, size));
+    }
+
     @PostMapping("/pending/batch-execute")
     public ResponseEntity<PendingPaymentBatchExecuteResponse> executePendingPaymentsBatch(
             Authentication authentication,
             @RequestBody(required = false) PendingPaymentBatchExecuteRequest batchRequest
     ) {
-        return ResponseEntity.ok(paymentFailureHandlingService.executePendingPaymentsBatch(
+        return ResponseEntity.ok(paymentBatchJobService.executePendingPaymentsBatch(
                 batchRequest,
                 authentication.getName()
         ));
     }
 
+    @PostMapping("/pending/batch-jobs")
+    public ResponseEntity<PaymentBatchJobResponse> startPendingPaymentsBatch(
+            Authentication authentication,
+            @RequestBody(required = false) PendingPaymentBatchExecuteRequest batchRequest
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(paymentBatchJobService.startPendingPaymentsBatch(
+                batchRequest,
+                authentication.getName()
+        ));
+    }
+
+    @GetMapping("/pending/batch-jobs/{jobId}")
+    public ResponseEntity<PaymentBatchJobResponse> getPendingPaymentsBatchJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(paymentBatchJobService.getJob(jobId));
+    }
+
+    @GetMapping("/pending/batch-jobs/{jobId}/results")
+    public ResponseEntity<PendingPaymentBatchExecuteResponse> getPendingPaymentsBatchJobResults(
+            @PathVariable Long jobId
+    ) {
+        return ResponseEntity.ok(paymentBatchJobService.getJobResults(jobId));
+    }
+
     @PostMapping("/waste-requests/{wasteRequestId}/retry")
     public ResponseEntity<WasteRequestResponse> retryFailedPayment(
             Authentication authentication,
@@ -64,4 +122,14 @@ public class OpsAdminPaymentController {
                 authentication.getName()
         ));
     }
+
+    @PostMapping("/retries/run")
+    public ResponseEntity<PaymentRetryRunResponse> runDuePaymentRetries(Authentication authentication) {
+        return ResponseEntity.ok(paymentRetryService.runDueRetries(authentication.getName()));
+    }
+
+    @GetMapping("/waste-requests/{wasteRequestId}/retry-attempts")
+    public ResponseEntity<List<PaymentRetryAttemptResponse>> getPaymentRetryAttempts(@PathVariable Long wasteRequestId) {
+        return ResponseEntity.ok(paymentRetryService.getAttempts(wasteRequestId));
+    }
 }
@@ -0,0 +1,34 @@
+package com.delivery.payment.web;
+
+import com.delivery.payment.service.PaymentGatewayStubService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/stub/payment-gateway")
+@ConditionalOnProperty(prefix = "app.payment.gateway.stub", name = "enabled", havingValue = "true")
+public class PaymentGatewayStubController {
+
+    private final PaymentGatewayStubService paymentGatewayStubService;
+
+    public PaymentGatewayStubController(PaymentGatewayStubService paymentGatewayStubService) {
+        this.paymentGatewayStubService = paymentGatewayStubService;
+    }
+
+    @PostMapping("/v1/billing/{billingKey}")
+    public ResponseEntity<Map<String, Object>> charge(
+            @PathVariable String billingKey,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody(required = false) Map<String, Object> request
+    ) {
+        return paymentGatewayStubService.charge(idempotencyKey, request);
+    }
+}
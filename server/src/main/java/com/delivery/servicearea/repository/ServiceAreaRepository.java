@@ -17,14 +17,15 @@ public interface ServiceAreaRepository extends JpaRepository<ServiceAreaEntity,
     List<ServiceAreaEntity> findAllByActiveTrueAndCityIgnoreCaseAndDistrictIgnoreCase(String city, String district);
 
     @Query("""
-            SELECT (COUNT(s) > 0)
+            SELECT s
             FROM ServiceAreaEntity s
             WHERE s.active = true
               AND LOWER(s.city) = LOWER(:city)
               AND LOWER(s.district) = LOWER(:district)
               AND LOWER(s.dong) = LOWER(:dong)
+            ORDER BY s.id ASC
             """)
-    boolean existsActiveByRegion(
+    List<ServiceAreaEntity> findAllActiveByRegion(
             @Param("city") String city,
             @Param("district") String district,
             @Param("dong") String dong
@@ -478,10 +478,10 @@ public class ServiceAreaService {
     }
 
     @Transactional
-    public void validateAvailableAddress(String address) {
+    public Long validateAvailableAddress(String address) {
         AddressAvailabilityEvaluation evaluation = evaluateAddressAvailability(address);
         if (evaluation.available()) {
-            return;
+            return evaluation.serviceAreaIdOrNull();
         }
         if (evaluation.isUnresolved()) {
             throw ServiceAreaUnavailableException.unresolvedAddress();
@@ -558,8 +558,8 @@ public class ServiceAreaService {
         }
 
         AddressRegion region = resolvedRegion.get();
-        boolean available = isRegionWhitelisted(region);
-        if (!available) {
+        Optional<Long> serviceAreaId = findWhitelistedServiceAreaId(region);
+        if (serviceAreaId.isEmpty()) {
             log.warn(
                     "Service area matching failed: reason=NOT_WHITELISTED city={} district={} dong={} address={}",
                     region.city(),
@@ -569,14 +569,19 @@ public class ServiceAreaService {
             );
             return AddressAvailabilityEvaluation.notWhitelisted(region);
         }
-        return AddressAvailabilityEvaluation.available(region);
+        return AddressAvailabilityEvaluation.available(region, serviceAreaId.get());
     }
 
-    private boolean isRegionWhitelisted(AddressRegion region) {
+    private Optional<Long> findWhitelistedServiceAreaId(AddressRegion region) {
         List<String> cityCandidates = resolveCityCandidates(region.city());
         for (String cityCandidate : cityCandidates) {
-            if (serviceAreaRepository.existsActiveByRegion(cityCandidate, region.district(), region.dong())) {
-                return true;
+            List<ServiceAreaEntity> exactMatches = serviceAreaRepository.findAllActiveByRegion(
+                    cityCandidate,
+                    region.district(),
+                    region.dong()
+            );
+            if (!exactMatches.isEmpty()) {
+                return Optional.of(exactMatches.get(0).getId());
             }
 
             List<ServiceAreaEntity> areaCandidates = serviceAreaRepository.findAllByActiveTrueAndCityIgnoreCaseAndDistrictIgnoreCase(
@@ -585,11 +590,11 @@ public class ServiceAreaService {
             );
             for (ServiceAreaEntity candidate : areaCandidates) {
                 if (isDongEquivalent(candidate.getDong(), region.dong())) {
-                    return true;
+                    return Optional.of(candidate.getId());
                 }
             }
         }
-        return false;
+        return Optional.empty();
     }
 
     private List<String> resolveCityCandidates(String city) {
@@ -986,17 +991,22 @@ public class ServiceAreaService {
         return name;
     }
 
-    private record AddressAvailabilityEvaluation(AddressRegion regionOrNull, boolean available, boolean unresolvedState) {
-        private static AddressAvailabilityEvaluation available(AddressRegion region) {
-            return new AddressAvailabilityEvaluation(region, true, false);
+    private record AddressAvailabilityEvaluation(
+            AddressRegion regionOrNull,
+            Long serviceAreaIdOrNull,
+            boolean available,
+            boolean unresolvedState
+    ) {
+        private static AddressAvailabilityEvaluation available(AddressRegion region, Long serviceAreaId) {
+            return new AddressAvailabilityEvaluation(region, serviceAreaId, true, false);
         }
 
         private static AddressAvailabilityEvaluation unresolved() {
-            return new AddressAvailabilityEvaluation(null, false, true);
+            return new AddressAvailabilityEvaluation(null, null, false, true);
         }
 
         private static AddressAvailabilityEvaluation notWhitelisted(AddressRegion region) {
-            return new AddressAvailabilityEvaluation(region, false, false);
+            return new AddressAvailabilityEvaluation(region, null, false, false);
         }
 
         private boolean isUnresolved() {
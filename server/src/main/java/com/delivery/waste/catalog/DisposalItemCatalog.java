@@ -0,0 +1,76 @@
+package com.delivery.waste.catalog;
+
+import com.delivery.waste.exception.InvalidDisposalItemException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class DisposalItemCatalog {
+
+    private static final String SELECT_ALL_SQL = "SELECT id, code FROM disposal_item_catalog";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile DisposalItemCodec codec;
+
+    public DisposalItemCatalog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void load() {
+        Map<Integer, String> entries = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            entries.put(rs.getInt("id"), rs.getString("code"));
+        });
+        codec = new DisposalItemCodec(entries);
+    }
+
+    public void validate(List<String> items) {
+        if (items == null) {
+            return;
+        }
+        for (String item : items) {
+            if (item != null && codec().idOf(item.trim()) == null) {
+                throw new InvalidDisposalItemException("지원하지 않는 배출품목입니다: " + item.trim());
+            }
+        }
+    }
+
+    public String encode(List<String> items) {
+        String encoded = codec().encode(items);
+        if (encoded == null) {
+            throw new IllegalStateException("등록되지 않은 배출품목이 포함되어 있습니다: " + items);
+        }
+        return encoded;
+    }
+
+    public List<String> decode(String encoded) {
+        List<String> decoded = codec().decode(encoded);
+        if (decoded == null) {
+            throw new IllegalStateException("알 수 없는 배출품목 코드입니다: " + encoded);
+        }
+        return decoded;
+    }
+
+    public Optional<Integer> findId(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(codec().idOf(code.trim()));
+    }
+
+    private DisposalItemCodec codec() {
+        DisposalItemCodec loaded = codec;
+        if (loaded == null) {
+            throw new IllegalStateException("DisposalItemCatalog is not loaded");
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,96 @@
+package com.delivery.waste.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DisposalItemCodec {
+
+    private static final int MAX_DECODED_CACHE_SIZE = 4096;
+    private static final char SEPARATOR = ',';
+
+    private final String[] codesById;
+    private final Map<String, Integer> idsByCode;
+    private final Map<String, List<String>> decodedCache = new ConcurrentHashMap<>();
+
+    public DisposalItemCodec(Map<Integer, String> codesById) {
+        int maxId = 0;
+        for (Integer id : codesById.keySet()) {
+            maxId = Math.max(maxId, id);
+        }
+        this.codesById = new String[maxId + 1];
+        this.idsByCode = new HashMap<>(codesById.size() * 2);
+        for (Map.Entry<Integer, String> entry : codesById.entrySet()) {
+            String code = entry.getValue().intern();
+            this.codesById[entry.getKey()] = code;
+            this.idsByCode.put(code, entry.getKey());
+        }
+    }
+
+    public Integer idOf(String code) {
+        return idsByCode.get(code);
+    }
+
+    public String encode(List<String> items) {
+        if (items == null || items.isEmpty()) {
+            return "";
+        }
+        StringBuilder encoded = new StringBuilder(items.size() * 3);
+        for (String item : items) {
+            Integer id = idsByCode.get(item);
+            if (id == null) {
+                return null;
+            }
+            if (!encoded.isEmpty()) {
+                encoded.append(SEPARATOR);
+            }
+            encoded.append(id.intValue());
+        }
+        return encoded.toString();
+    }
+
+    public List<String> decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return List.of();
+        }
+        List<String> cached = decodedCache.get(encoded);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> decoded = parse(encoded);
+        if (decoded != null && decodedCache.size() < MAX_DECODED_CACHE_SIZE) {
+            decodedCache.putIfAbsent(encoded, decoded);
+        }
+        return decoded;
+    }
+
+    private List<String> parse(String encoded) {
+        List<String> items = new ArrayList<>(4);
+        int id = 0;
+        boolean hasDigit = false;
+        for (int i = 0; i <= encoded.length(); i++) {
+            char current = i == encoded.length() ? SEPARATOR : encoded.charAt(i);
+            if (current == SEPARATOR) {
+                if (!hasDigit || codesById[id] == null) {
+                    return null;
+                }
+                items.add(codesById[id]);
+                id = 0;
+                hasDigit = false;
+                continue;
+            }
+            if (current < '0' || current > '9') {
+                throw new IllegalStateException("배출품목 코드 형식이 올바르지 않습니다: " + encoded);
+            }
+            id = id * 10 + (current - '0');
+            if (id >= codesById.length) {
+                return null;
+            }
+            hasDigit = true;
+        }
+        return Collections.unmodifiableList(items);
+    }
+}
@@ -0,0 +1,39 @@
+package com.delivery.waste.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.waste.concurrency")
+public class WasteConcurrencyProperties {
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 20L;
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private long retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            this.maxAttempts = DEFAULT_MAX_ATTEMPTS;
+            return;
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
+    public void setRetryBackoffMillis(long retryBackoffMillis) {
+        if (retryBackoffMillis < 0) {
+            this.retryBackoffMillis = DEFAULT_RETRY_BACKOFF_MILLIS;
+            return;
+        }
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+}
@@ -0,0 +1,53 @@
+package com.delivery.waste.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.waste.export")
+public class WasteExportProperties {
+
+    private static final int DEFAULT_FETCH_SIZE = 500;
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final long DEFAULT_TIMEOUT_MILLIS = 3_600_000L;
+
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private int poolSize = DEFAULT_POOL_SIZE;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            this.fetchSize = DEFAULT_FETCH_SIZE;
+            return;
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        if (poolSize <= 0) {
+            this.poolSize = DEFAULT_POOL_SIZE;
+            return;
+        }
+        this.poolSize = poolSize;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public void setTimeoutMillis(long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            this.timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+            return;
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+}
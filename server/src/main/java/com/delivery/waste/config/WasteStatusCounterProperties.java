@@ -0,0 +1,51 @@
+package com.delivery.waste.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+@Component
+@ConfigurationProperties(prefix = "app.waste.status-counters")
+public class WasteStatusCounterProperties {
+
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 5000L;
+    private static final ZoneId DEFAULT_ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final int DEFAULT_MAX_DASHBOARD_DAYS = 92;
+
+    private long flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+    private ZoneId zoneId = DEFAULT_ZONE_ID;
+    private int maxDashboardDays = DEFAULT_MAX_DASHBOARD_DAYS;
+
+    public long getFlushIntervalMillis() {
+        return flushIntervalMillis;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        if (flushIntervalMillis <= 0) {
+            this.flushIntervalMillis = DEFAULT_FLUSH_INTERVAL_MILLIS;
+            return;
+        }
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public void setZoneId(ZoneId zoneId) {
+        this.zoneId = zoneId == null ? DEFAULT_ZONE_ID : zoneId;
+    }
+
+    public int getMaxDashboardDays() {
+        return maxDashboardDays;
+    }
+
+    public void setMaxDashboardDays(int maxDashboardDays) {
+        if (maxDashboardDays <= 0) {
+            this.maxDashboardDays = DEFAULT_MAX_DASHBOARD_DAYS;
+            return;
+        }
+        this.maxDashboardDays = maxDashboardDays;
+    }
+}
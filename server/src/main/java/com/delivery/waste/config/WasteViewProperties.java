@@ -0,0 +1,76 @@
+package com.delivery.waste.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.waste.views")
+public class WasteViewProperties {
+
+    private static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 1_000L;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final int DEFAULT_REBUILD_CHUNK_SIZE = 1_000;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private boolean asyncEnabled = true;
+    private long refreshIntervalMillis = DEFAULT_REFRESH_INTERVAL_MILLIS;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int rebuildChunkSize = DEFAULT_REBUILD_CHUNK_SIZE;
+    private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    public long getRefreshIntervalMillis() {
+        return refreshIntervalMillis;
+    }
+
+    public void setRefreshIntervalMillis(long refreshIntervalMillis) {
+        if (refreshIntervalMillis <= 0) {
+            this.refreshIntervalMillis = DEFAULT_REFRESH_INTERVAL_MILLIS;
+            return;
+        }
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            return;
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getRebuildChunkSize() {
+        return rebuildChunkSize;
+    }
+
+    public void setRebuildChunkSize(int rebuildChunkSize) {
+        if (rebuildChunkSize <= 0) {
+            this.rebuildChunkSize = DEFAULT_REBUILD_CHUNK_SIZE;
+            return;
+        }
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+        if (shutdownTimeoutMillis <= 0) {
+            this.shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+            return;
+        }
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+}
@@ -0,0 +1,13 @@
+package com.delivery.waste.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkAssignWasteRequest(
+        @NotNull Long driverId,
+        @NotEmpty @Size(max = 500) List<@NotNull Long> requestIds
+) {
+}
@@ -0,0 +1,22 @@
+package com.delivery.waste.dto;
+
+import java.util.List;
+
+public record BulkAssignWasteResponse(
+        Long driverId,
+        int requestedCount,
+        int assignedCount,
+        int reassignedCount,
+        int unchangedCount,
+        int skippedCount,
+        List<Item> results
+) {
+    public record Item(
+            Long wasteRequestId,
+            String result,
+            String wasteStatus,
+            Long previousDriverId,
+            String message
+    ) {
+    }
+}
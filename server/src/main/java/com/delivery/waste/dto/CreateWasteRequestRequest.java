@@ -13,7 +13,7 @@ public record CreateWasteRequestRequest(
         @Schema(description = "Request note", example = "Leave at the security office")
         @Size(max = 1000) String note,
         @Schema(description = "Disposal item list", example = "[\"GENERAL\", \"RECYCLE\"]")
-        List<@NotBlank @Size(max = 100) String> disposalItems,
+        @Size(max = 20) List<@NotBlank @Size(max = 100) String> disposalItems,
         @Schema(description = "Requested bag count", example = "2")
         @Min(0) Integer bagCount,
         @Schema(description = "Reference photo URL list", example = "[\"/uploads/files/ref-1.jpg\"]")
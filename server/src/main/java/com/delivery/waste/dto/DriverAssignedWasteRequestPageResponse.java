@@ -0,0 +1,11 @@
+package com.delivery.waste.dto;
+
+import java.util.List;
+
+public record DriverAssignedWasteRequestPageResponse(
+        List<DriverAssignedWasteRequestResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
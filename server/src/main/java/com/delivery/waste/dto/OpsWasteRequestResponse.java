@@ -0,0 +1,33 @@
+package com.delivery.waste.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public record OpsWasteRequestResponse(
+        Long id,
+        String orderNo,
+        Long userId,
+        String requesterName,
+        String address,
+        String contactPhone,
+        String note,
+        List<String> disposalItems,
+        int bagCount,
+        String status,
+        Instant statusChangedAt,
+        Long serviceAreaId,
+        String serviceAreaName,
+        Long driverId,
+        String driverName,
+        Instant assignedAt,
+        BigDecimal measuredWeightKg,
+        Instant measuredAt,
+        Long measuredByDriverId,
+        Long finalAmount,
+        String currency,
+        String paymentStatus,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.delivery.waste.dto;
+
+public record WasteRequestDetailLookup(
+        String eTag,
+        WasteRequestDetailResponse detail
+) {
+    public static WasteRequestDetailLookup notModified(String eTag) {
+        return new WasteRequestDetailLookup(eTag, null);
+    }
+
+    public static WasteRequestDetailLookup of(String eTag, WasteRequestDetailResponse detail) {
+        return new WasteRequestDetailLookup(eTag, detail);
+    }
+
+    public boolean isNotModified() {
+        return detail == null;
+    }
+}
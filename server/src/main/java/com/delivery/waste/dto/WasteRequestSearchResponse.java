@@ -0,0 +1,13 @@
+package com.delivery.waste.dto;
+
+import java.util.List;
+
+public record WasteRequestSearchResponse(
+        List<OpsWasteRequestResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long approximateTotal,
+        boolean totalCapped
+) {
+}
@@ -0,0 +1,8 @@
+package com.delivery.waste.dto;
+
+public record WasteRequestViewRebuildResponse(
+        int refreshedCount,
+        int removedCount,
+        long elapsedMillis
+) {
+}
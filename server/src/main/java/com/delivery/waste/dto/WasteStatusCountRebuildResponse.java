@@ -0,0 +1,9 @@
+package com.delivery.waste.dto;
+
+public record WasteStatusCountRebuildResponse(
+        long requestCount,
+        long transitionCount,
+        int rollupRowCount,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,28 @@
+package com.delivery.waste.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record WasteStatusDashboardResponse(
+        Long serviceAreaId,
+        LocalDate from,
+        LocalDate to,
+        Map<String, Long> currentCounts,
+        List<ServiceAreaCounts> serviceAreas,
+        List<DailyCount> daily
+) {
+    public record ServiceAreaCounts(
+            Long serviceAreaId,
+            Map<String, Long> counts
+    ) {
+    }
+
+    public record DailyCount(
+            LocalDate date,
+            String status,
+            long enteredCount,
+            long exitedCount
+    ) {
+    }
+}
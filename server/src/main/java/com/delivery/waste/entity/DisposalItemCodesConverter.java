@@ -0,0 +1,27 @@
+package com.delivery.waste.entity;
+
+import com.delivery.waste.catalog.DisposalItemCatalog;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+@Converter
+public class DisposalItemCodesConverter implements AttributeConverter<List<String>, String> {
+
+    private final DisposalItemCatalog disposalItemCatalog;
+
+    public DisposalItemCodesConverter(DisposalItemCatalog disposalItemCatalog) {
+        this.disposalItemCatalog = disposalItemCatalog;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(List<String> attribute) {
+        return disposalItemCatalog.encode(attribute == null ? List.of() : attribute);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String dbData) {
+        return disposalItemCatalog.decode(dbData);
+    }
+}
@@ -1,40 +0,0 @@
-package com.delivery.waste.entity;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.AttributeConverter;
-import jakarta.persistence.Converter;
-
-import java.util.List;
-
-@Converter
-public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
-
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {
-    };
-
-    @Override
-    public String convertToDatabaseColumn(List<String> attribute) {
-        List<String> value = attribute == null ? List.of() : attribute;
-        try {
-            return OBJECT_MAPPER.writeValueAsString(value);
-        } catch (JsonProcessingException exception) {
-            throw new IllegalStateException("배출품목을 JSON 문자열로 직렬화하지 못했습니다.", exception);
-        }
-    }
-
-    @Override
-    public List<String> convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isBlank()) {
-            return List.of();
-        }
-        try {
-            List<String> value = OBJECT_MAPPER.readValue(dbData, LIST_TYPE);
-            return value == null ? List.of() : value;
-        } catch (JsonProcessingException exception) {
-            throw new IllegalStateException("배출품목 JSON 문자열을 역직렬화하지 못했습니다.", exception);
-        }
-    }
-}
@@ -3,6 +3,7 @@ package com.delivery.waste.entity;
 import com.delivery.auth.entity.UserEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -15,6 +16,7 @@ import jakarta.persistence.Table;
 import java.time.Instant;
 
 @Entity
+@EntityListeners(WasteRequestViewListener.class)
 @Table(name = "waste_assignments")
 public class WasteAssignmentEntity {
 
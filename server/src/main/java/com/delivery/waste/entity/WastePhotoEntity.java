@@ -1,10 +1,9 @@
 package com.delivery.waste.entity;
 
+import com.delivery.config.id.PooledId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -18,7 +17,7 @@ import java.time.Instant;
 public class WastePhotoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("waste_photos")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
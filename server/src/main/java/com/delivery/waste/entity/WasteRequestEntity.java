@@ -1,18 +1,23 @@
 package com.delivery.waste.entity;
 
 import com.delivery.auth.entity.UserEntity;
+import com.delivery.config.id.IdentifierAssignedCallback;
+import com.delivery.config.id.PooledId;
+import com.delivery.waste.service.WasteOrderNoPolicy;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -20,11 +25,12 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(WasteRequestViewListener.class)
 @Table(name = "waste_requests")
-public class WasteRequestEntity {
+public class WasteRequestEntity implements IdentifierAssignedCallback {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("waste_requests")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -43,8 +49,9 @@ public class WasteRequestEntity {
     @Column(length = 1000)
     private String note;
 
-    @Convert(converter = StringListJsonConverter.class)
-    @Column(name = "disposal_items", nullable = false, columnDefinition = "TEXT")
+    @Convert(converter = DisposalItemCodesConverter.class)
+    @Mutability(Immutability.class)
+    @Column(name = "disposal_item_codes", nullable = false, length = 1000)
     private List<String> disposalItems;
 
     @Column(name = "bag_count", nullable = false)
@@ -69,12 +76,19 @@ public class WasteRequestEntity {
     @Column(nullable = false, length = 3)
     private String currency;
 
+    @Column(name = "service_area_id")
+    private Long serviceAreaId;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     protected WasteRequestEntity() {
     }
 
@@ -113,10 +127,21 @@ public class WasteRequestEntity {
         this.status = Objects.requireNonNull(nextStatus);
     }
 
+    public void assignServiceArea(Long serviceAreaId) {
+        this.serviceAreaId = serviceAreaId;
+    }
+
     public void assignOrderNo(String orderNo) {
         this.orderNo = Objects.requireNonNull(orderNo);
     }
 
+    @Override
+    public void onIdentifierAssigned(Long id) {
+        if (this.orderNo == null) {
+            this.orderNo = WasteOrderNoPolicy.generate(id);
+        }
+    }
+
     public void markMeasured(BigDecimal measuredWeightKg, UserEntity driver, Instant measuredAt) {
         this.measuredWeightKg = Objects.requireNonNull(measuredWeightKg);
         this.measuredByDriver = Objects.requireNonNull(driver);
@@ -198,6 +223,10 @@ public class WasteRequestEntity {
         return currency;
     }
 
+    public Long getServiceAreaId() {
+        return serviceAreaId;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -206,6 +235,10 @@ public class WasteRequestEntity {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     private List<String> normalizeDisposalItems(List<String> items) {
         if (items == null) {
             return List.of();
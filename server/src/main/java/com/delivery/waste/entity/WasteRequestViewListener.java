@@ -0,0 +1,31 @@
+package com.delivery.waste.entity;
+
+import com.delivery.payment.entity.PaymentEntity;
+import com.delivery.waste.service.WasteRequestViewProjector;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+public class WasteRequestViewListener {
+
+    private final WasteRequestViewProjector wasteRequestViewProjector;
+
+    public WasteRequestViewListener(WasteRequestViewProjector wasteRequestViewProjector) {
+        this.wasteRequestViewProjector = wasteRequestViewProjector;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        Long requestId = null;
+        if (entity instanceof WasteRequestEntity request) {
+            requestId = request.getId();
+        } else if (entity instanceof WasteAssignmentEntity assignment) {
+            requestId = assignment.getRequest().getId();
+        } else if (entity instanceof PaymentEntity payment) {
+            requestId = payment.getWasteRequest().getId();
+        }
+        wasteRequestViewProjector.markChanged(requestId);
+    }
+}
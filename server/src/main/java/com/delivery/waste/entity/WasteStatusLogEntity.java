@@ -1,11 +1,10 @@
 package com.delivery.waste.entity;
 
 import com.delivery.auth.entity.UserEntity;
+import com.delivery.config.id.PooledId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -19,7 +18,7 @@ import java.time.Instant;
 public class WasteStatusLogEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("waste_status_logs")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,8 @@
+package com.delivery.waste.exception;
+
+public class InvalidDisposalItemException extends RuntimeException {
+
+    public InvalidDisposalItemException(String message) {
+        super(message);
+    }
+}
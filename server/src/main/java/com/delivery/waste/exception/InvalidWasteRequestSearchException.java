@@ -0,0 +1,8 @@
+package com.delivery.waste.exception;
+
+public class InvalidWasteRequestSearchException extends RuntimeException {
+
+    public InvalidWasteRequestSearchException(String message) {
+        super(message);
+    }
+}
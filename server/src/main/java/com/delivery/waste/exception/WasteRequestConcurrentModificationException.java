@@ -0,0 +1,8 @@
+package com.delivery.waste.exception;
+
+public class WasteRequestConcurrentModificationException extends RuntimeException {
+
+    public WasteRequestConcurrentModificationException() {
+        super("다른 요청이 먼저 수거 요청을 변경했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -3,6 +3,8 @@ package com.delivery.waste.repository;
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.waste.entity.WasteAssignmentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +13,14 @@ public interface WasteAssignmentRepository extends JpaRepository<WasteAssignment
 
     boolean existsByRequestId(Long requestId);
 
-    List<WasteAssignmentEntity> findAllByDriverOrderByAssignedAtDesc(UserEntity driver);
+    @Query("""
+            SELECT a
+            FROM WasteAssignmentEntity a
+            JOIN FETCH a.request
+            WHERE a.driver = :driver
+            ORDER BY a.assignedAt DESC
+            """)
+    List<WasteAssignmentEntity> findAllByDriverOrderByAssignedAtDesc(@Param("driver") UserEntity driver);
 
     Optional<WasteAssignmentEntity> findByRequestIdAndDriver(Long requestId, UserEntity driver);
 
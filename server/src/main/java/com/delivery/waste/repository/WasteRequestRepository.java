@@ -2,9 +2,13 @@ package com.delivery.waste.repository;
 
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.waste.entity.WasteRequestEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +20,8 @@ public interface WasteRequestRepository extends JpaRepository<WasteRequestEntity
     Optional<WasteRequestEntity> findByIdAndUser(Long id, UserEntity user);
 
     Page<WasteRequestEntity> findAllByStatus(String status, Pageable pageable);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select w from WasteRequestEntity w where w.id = :id")
+    Optional<WasteRequestEntity> findWithVersionIncrementById(@Param("id") Long id);
 }
@@ -3,10 +3,13 @@ package com.delivery.waste.repository;
 import com.delivery.waste.entity.WasteRequestEntity;
 import com.delivery.waste.entity.WasteStatusLogEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface WasteStatusLogRepository extends JpaRepository<WasteStatusLogEntity, Long> {
 
-    List<WasteStatusLogEntity> findByRequestOrderByCreatedAtAsc(WasteRequestEntity request);
+    @Query("select l from WasteStatusLogEntity l where l.request = :request order by l.createdAt asc, l.id asc")
+    List<WasteStatusLogEntity> findByRequestOrderByCreatedAtAsc(@Param("request") WasteRequestEntity request);
 }
@@ -3,35 +3,48 @@ package com.delivery.waste.service;
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.auth.exception.InvalidCredentialsException;
 import com.delivery.auth.repository.UserRepository;
-import com.delivery.notification.service.WasteRequestMeasuredNotificationService;
-import com.delivery.payment.service.PaymentAutomationService;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.outbox.service.OutboxEventPublisher;
+import com.delivery.waste.dto.DriverAssignedWasteRequestPageResponse;
 import com.delivery.waste.dto.DriverAssignedWasteRequestResponse;
 import com.delivery.waste.dto.MeasureWasteRequest;
 import com.delivery.waste.dto.WasteRequestResponse;
 import com.delivery.waste.entity.WasteAssignmentEntity;
 import com.delivery.waste.entity.WastePhotoEntity;
 import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.exception.InvalidWasteRequestSearchException;
 import com.delivery.waste.exception.WasteRequestNotFoundException;
 import com.delivery.waste.repository.WasteAssignmentRepository;
 import com.delivery.waste.repository.WastePhotoRepository;
+import com.delivery.web.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class DriverWasteRequestService {
 
     private static final String MEASURED = "MEASURED";
+    private static final String ASSIGNED = "ASSIGNED";
+    private static final String SCOPE_ACTIVE = "ACTIVE";
+    private static final String SCOPE_HISTORY = "HISTORY";
+    private static final int DEFAULT_QUEUE_SIZE = 20;
+    private static final int MAX_QUEUE_SIZE = 100;
 
     private final UserRepository userRepository;
     private final WasteAssignmentRepository wasteAssignmentRepository;
     private final WastePhotoRepository wastePhotoRepository;
     private final WasteStatusTransitionService wasteStatusTransitionService;
     private final WastePricingService wastePricingService;
-    private final WasteRequestMeasuredNotificationService wasteRequestMeasuredNotificationService;
-    private final PaymentAutomationService paymentAutomationService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
+    private final JdbcTemplate jdbcTemplate;
 
     public DriverWasteRequestService(
             UserRepository userRepository,
@@ -39,16 +52,18 @@ public class DriverWasteRequestService {
             WastePhotoRepository wastePhotoRepository,
             WasteStatusTransitionService wasteStatusTransitionService,
             WastePricingService wastePricingService,
-            WasteRequestMeasuredNotificationService wasteRequestMeasuredNotificationService,
-            PaymentAutomationService paymentAutomationService
+            OutboxEventPublisher outboxEventPublisher,
+            WasteRequestUpdateExecutor wasteRequestUpdateExecutor,
+            JdbcTemplate jdbcTemplate
     ) {
         this.userRepository = userRepository;
         this.wasteAssignmentRepository = wasteAssignmentRepository;
         this.wastePhotoRepository = wastePhotoRepository;
         this.wasteStatusTransitionService = wasteStatusTransitionService;
         this.wastePricingService = wastePricingService;
-        this.wasteRequestMeasuredNotificationService = wasteRequestMeasuredNotificationService;
-        this.paymentAutomationService = paymentAutomationService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.wasteRequestUpdateExecutor = wasteRequestUpdateExecutor;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Transactional
@@ -60,6 +75,71 @@ public class DriverWasteRequestService {
                 .toList();
     }
 
+    @Transactional
+    public DriverAssignedWasteRequestPageResponse getMyWorkQueue(
+            String email,
+            String scope,
+            String cursor,
+            Integer size
+    ) {
+        boolean active = isActiveScope(scope);
+        KeysetCursor queueCursor = KeysetCursor.decode(
+                cursor,
+                () -> new InvalidWasteRequestSearchException("cursor 값이 올바르지 않습니다.")
+        );
+        int pageSize = normalizeQueueSize(size);
+        UserEntity driver = findUserByEmail(email);
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT a.id AS assignment_id, a.assigned_at, w.id AS request_id, w.status, w.address,
+                       w.contact_phone, w.note, w.created_at, w.updated_at
+                FROM waste_assignments a
+                JOIN waste_requests w ON w.id = a.request_id
+                WHERE a.driver_id = ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(driver.getId());
+        sql.append(active ? "  AND w.status = ?\n" : "  AND w.status <> ?\n");
+        args.add(ASSIGNED);
+        if (queueCursor != null) {
+            sql.append("  AND (a.assigned_at < ? OR (a.assigned_at = ? AND a.id < ?))\n");
+            args.add(Timestamp.from(queueCursor.at()));
+            args.add(Timestamp.from(queueCursor.at()));
+            args.add(queueCursor.id());
+        }
+        sql.append("ORDER BY a.assigned_at DESC, a.id DESC\nLIMIT ?");
+        args.add(pageSize + 1);
+
+        List<WorkQueueRow> rows = jdbcTemplate.query(
+                sql.toString(),
+                (rs, rowNum) -> {
+                    Instant assignedAt = rs.getTimestamp("assigned_at").toInstant();
+                    return new WorkQueueRow(
+                            new KeysetCursor(assignedAt, rs.getLong("assignment_id")),
+                            new DriverAssignedWasteRequestResponse(
+                                    rs.getLong("request_id"),
+                                    rs.getString("status"),
+                                    rs.getString("address"),
+                                    rs.getString("contact_phone"),
+                                    rs.getString("note"),
+                                    assignedAt,
+                                    rs.getTimestamp("created_at").toInstant(),
+                                    rs.getTimestamp("updated_at").toInstant()
+                            )
+                    );
+                },
+                args.toArray()
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<WorkQueueRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        List<DriverAssignedWasteRequestResponse> content = pageRows.stream()
+                .map(WorkQueueRow::response)
+                .toList();
+        String nextCursor = KeysetCursor.next(pageRows, hasNext, WorkQueueRow::position);
+        return new DriverAssignedWasteRequestPageResponse(content, content.size(), hasNext, nextCursor);
+    }
+
     @Transactional
     public DriverAssignedWasteRequestResponse getMyAssignedRequest(String email, Long requestId) {
         UserEntity driver = findUserByEmail(email);
@@ -68,8 +148,11 @@ public class DriverWasteRequestService {
         return toResponse(assignment);
     }
 
-    @Transactional
     public WasteRequestResponse measureAssignedRequest(String email, Long requestId, MeasureWasteRequest request) {
+        return wasteRequestUpdateExecutor.execute("measure", () -> measure(email, requestId, request));
+    }
+
+    private WasteRequestResponse measure(String email, Long requestId, MeasureWasteRequest request) {
         UserEntity driver = findUserByEmail(email);
         wasteAssignmentRepository.findByRequestIdAndDriver(requestId, driver)
                 .orElseThrow(WasteRequestNotFoundException::new);
@@ -83,12 +166,36 @@ public class DriverWasteRequestService {
                 .map(url -> new WastePhotoEntity(updated, url, null))
                 .toList();
         wastePhotoRepository.saveAll(photos);
-        wasteRequestMeasuredNotificationService.notifyMeasured(updated);
-        paymentAutomationService.attemptAutoPaymentAfterMeasured(updated, email);
+        outboxEventPublisher.publish(OutboxEventType.WASTE_REQUEST_MEASURED_NOTIFICATION, requestId, email);
+        outboxEventPublisher.publish(OutboxEventType.WASTE_REQUEST_AUTO_PAYMENT, requestId, email);
 
         return toWasteRequestResponse(updated);
     }
 
+    private boolean isActiveScope(String scope) {
+        if (scope == null || scope.isBlank()) {
+            return true;
+        }
+        String normalized = scope.trim().toUpperCase(Locale.ROOT);
+        if (SCOPE_ACTIVE.equals(normalized)) {
+            return true;
+        }
+        if (SCOPE_HISTORY.equals(normalized)) {
+            return false;
+        }
+        throw new InvalidWasteRequestSearchException("scope는 ACTIVE 또는 HISTORY만 허용됩니다.");
+    }
+
+    private int normalizeQueueSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_QUEUE_SIZE;
+        }
+        if (size <= 0 || size > MAX_QUEUE_SIZE) {
+            throw new InvalidWasteRequestSearchException("size는 1 이상 " + MAX_QUEUE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
     private UserEntity findUserByEmail(String email) {
         return userRepository.findByLoginId(email)
                 .orElseThrow(InvalidCredentialsException::new);
@@ -128,4 +235,7 @@ public class DriverWasteRequestService {
                 request.getUpdatedAt()
         );
     }
+
+    private record WorkQueueRow(KeysetCursor position, DriverAssignedWasteRequestResponse response) {
+    }
 }
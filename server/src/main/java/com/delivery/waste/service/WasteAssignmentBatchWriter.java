@@ -0,0 +1,136 @@
+package com.delivery.waste.service;
+
+import com.delivery.config.id.IdBlockAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class WasteAssignmentBatchWriter {
+
+    private static final String UPDATE_STATUS_SQL = """
+            UPDATE waste_requests
+            SET status = ?, version = version + 1, updated_at = ?
+            WHERE id = ? AND status = ? AND version = ?
+            """;
+    private static final String INSERT_STATUS_LOG_SQL = """
+            INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_ASSIGNMENT_SQL =
+            "INSERT INTO waste_assignments (request_id, driver_id, assigned_at) VALUES (?, ?, ?)";
+    private static final String REASSIGN_SQL =
+            "UPDATE waste_assignments SET driver_id = ?, assigned_at = ? WHERE request_id = ? AND driver_id = ?";
+    private static final String INSERT_AUDIT_LOG_SQL = """
+            INSERT INTO waste_assignment_audit_logs (request_id, actor_user_id, from_driver_id, to_driver_id, action, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+    private final WasteStatusCounters wasteStatusCounters;
+    private final WasteRequestViewProjector wasteRequestViewProjector;
+
+    public WasteAssignmentBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            IdBlockAllocator idBlockAllocator,
+            WasteStatusCounters wasteStatusCounters,
+            WasteRequestViewProjector wasteRequestViewProjector
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = idBlockAllocator;
+        this.wasteStatusCounters = wasteStatusCounters;
+        this.wasteRequestViewProjector = wasteRequestViewProjector;
+    }
+
+    public int[] updateStatuses(List<StatusChange> changes, Timestamp now) {
+        if (changes.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (StatusChange change : changes) {
+            rows.add(new Object[]{
+                    change.toStatus(),
+                    now,
+                    change.requestId(),
+                    change.fromStatus(),
+                    change.expectedVersion()
+            });
+        }
+        wasteRequestViewProjector.markChanged(changes.stream().map(StatusChange::requestId).toList());
+        return jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, rows);
+    }
+
+    public void insertStatusLogs(List<StatusChange> changes, Long actorUserId, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (StatusChange change : changes) {
+            if (change.fromStatus().equals(change.toStatus())) {
+                continue;
+            }
+            rows.add(new Object[]{
+                    idBlockAllocator.next("waste_status_logs"),
+                    change.requestId(),
+                    change.fromStatus(),
+                    change.toStatus(),
+                    actorUserId,
+                    now
+            });
+            wasteStatusCounters.recordTransition(
+                    change.serviceAreaId(),
+                    change.fromStatus(),
+                    change.toStatus(),
+                    now.toInstant()
+            );
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_STATUS_LOG_SQL, rows);
+        }
+    }
+
+    public void applyAssignments(List<AssignmentChange> changes, Long actorUserId, Timestamp now) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> reassignments = new ArrayList<>();
+        List<Object[]> auditLogs = new ArrayList<>(changes.size());
+        for (AssignmentChange change : changes) {
+            if (change.fromDriverId() == null) {
+                inserts.add(new Object[]{change.requestId(), change.toDriverId(), now});
+            } else {
+                reassignments.add(new Object[]{change.toDriverId(), now, change.requestId(), change.fromDriverId()});
+            }
+            auditLogs.add(new Object[]{
+                    change.requestId(),
+                    actorUserId,
+                    change.fromDriverId(),
+                    change.toDriverId(),
+                    change.action(),
+                    now
+            });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT_SQL, inserts);
+        }
+        if (!reassignments.isEmpty()) {
+            jdbcTemplate.batchUpdate(REASSIGN_SQL, reassignments);
+        }
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG_SQL, auditLogs);
+        wasteRequestViewProjector.markChanged(changes.stream().map(AssignmentChange::requestId).toList());
+    }
+
+    public record StatusChange(
+            Long requestId,
+            Long serviceAreaId,
+            String fromStatus,
+            String toStatus,
+            long expectedVersion
+    ) {
+    }
+
+    public record AssignmentChange(Long requestId, Long fromDriverId, Long toDriverId, String action) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.delivery.waste.service;
+
+import com.delivery.waste.exception.InvalidWasteRequestSearchException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public enum WasteRequestExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson");
+
+    private final MediaType contentType;
+    private final String extension;
+
+    WasteRequestExportFormat(MediaType contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static WasteRequestExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidWasteRequestSearchException("format은 csv 또는 ndjson만 허용됩니다.");
+        }
+    }
+
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,339 @@
+package com.delivery.waste.service;
+
+import com.delivery.waste.config.WasteExportProperties;
+import com.delivery.waste.exception.InvalidWasteRequestSearchException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class WasteRequestExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String POOL_NAME = "waste-export";
+    private static final String[] COLUMNS = {
+            "orderNo",
+            "requestId",
+            "status",
+            "createdAt",
+            "measuredAt",
+            "measuredWeightKg",
+            "finalAmount",
+            "currency",
+            "driverId",
+            "driverLoginId",
+            "driverName"
+    };
+    private static final Set<String> EXPORTABLE_STATUSES = Set.of(
+            "REQUESTED",
+            "ASSIGNED",
+            "MEASURED",
+            "PAYMENT_PENDING",
+            "PAID",
+            "COMPLETED",
+            "PAYMENT_FAILED",
+            "CANCELED"
+    );
+
+    private final HikariDataSource exportDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final WasteExportProperties wasteExportProperties;
+    private final MeterRegistry meterRegistry;
+
+    public WasteRequestExportService(
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            WasteExportProperties wasteExportProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.exportDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.exportDataSource.setPoolName(POOL_NAME);
+        this.exportDataSource.setMaximumPoolSize(wasteExportProperties.getPoolSize());
+        this.exportDataSource.setMinimumIdle(0);
+        this.exportDataSource.setReadOnly(true);
+        if (DatabaseDriver.fromJdbcUrl(exportDataSource.getJdbcUrl()) == DatabaseDriver.MYSQL) {
+            this.exportDataSource.addDataSourceProperty("useCursorFetch", "true");
+        }
+        this.jdbcTemplate = new JdbcTemplate(exportDataSource);
+        this.objectMapper = objectMapper;
+        this.wasteExportProperties = wasteExportProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    public void close() {
+        exportDataSource.close();
+    }
+
+    public long timeoutMillis() {
+        return wasteExportProperties.getTimeoutMillis();
+    }
+
+    public ExportQuery prepare(String format, String status, Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidWasteRequestSearchException("from은 to보다 이전이어야 합니다.");
+        }
+        String normalizedStatus = StringUtils.hasText(status) ? status.trim().toUpperCase(Locale.ROOT) : null;
+        if (normalizedStatus != null && !EXPORTABLE_STATUSES.contains(normalizedStatus)) {
+            throw new InvalidWasteRequestSearchException("지원하지 않는 status입니다: " + status.trim());
+        }
+        return new ExportQuery(WasteRequestExportFormat.from(format), normalizedStatus, from, to);
+    }
+
+    public void export(ExportQuery query, OutputStream target, boolean gzip) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(target, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipStream == null ? target : gzipStream, StandardCharsets.UTF_8),
+                WRITE_BUFFER_SIZE
+        );
+        RowWriter rowWriter = query.format() == WasteRequestExportFormat.NDJSON
+                ? new NdjsonRowWriter(writer)
+                : new CsvRowWriter(writer);
+        rowWriter.start();
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT w.id, w.order_no, w.status, w.created_at, w.measured_at, w.measured_weight_kg,
+                       w.final_amount, w.currency, a.driver_id, d.login_id AS driver_login_id,
+                       d.display_name AS driver_name
+                FROM waste_requests w
+                LEFT JOIN waste_assignments a ON a.request_id = w.id
+                LEFT JOIN users d ON d.id = a.driver_id
+                WHERE 1 = 1
+                """);
+        List<Object> args = new ArrayList<>();
+        if (query.status() != null) {
+            sql.append("  AND w.status = ?\n");
+            args.add(query.status());
+        }
+        if (query.from() != null) {
+            sql.append("  AND w.created_at >= ?\n");
+            args.add(Timestamp.from(query.from()));
+        }
+        if (query.to() != null) {
+            sql.append("  AND w.created_at < ?\n");
+            args.add(Timestamp.from(query.to()));
+        }
+        sql.append("ORDER BY w.created_at ASC, w.id ASC");
+
+        int fetchSize = wasteExportProperties.getFetchSize();
+        long[] rows = {0L};
+        try {
+            jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                sql.toString(),
+                                ResultSet.TYPE_FORWARD_ONLY,
+                                ResultSet.CONCUR_READ_ONLY
+                        );
+                        statement.setFetchSize(fetchSize);
+                        for (int i = 0; i < args.size(); i++) {
+                            statement.setObject(i + 1, args.get(i));
+                        }
+                        return statement;
+                    },
+                    rs -> {
+                        try {
+                            rowWriter.write(rs);
+                            rows[0]++;
+                            if (rows[0] % fetchSize == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException exception) {
+                            throw new UncheckedIOException(exception);
+                        }
+                    }
+            );
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        rowWriter.finish();
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        Counter.builder("waste.request.export.rows")
+                .tag("format", query.format().name())
+                .register(meterRegistry)
+                .increment(rows[0]);
+    }
+
+    private interface RowWriter {
+
+        void start() throws IOException;
+
+        void write(ResultSet rs) throws IOException, SQLException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            writeField(rs.getString("order_no"));
+            writer.write(',');
+            writer.write(Long.toString(rs.getLong("id")));
+            writer.write(',');
+            writeField(rs.getString("status"));
+            writer.write(',');
+            writeField(toIsoString(rs.getTimestamp("created_at")));
+            writer.write(',');
+            writeField(toIsoString(rs.getTimestamp("measured_at")));
+            writer.write(',');
+            BigDecimal weight = rs.getBigDecimal("measured_weight_kg");
+            writeField(weight == null ? null : weight.toPlainString());
+            writer.write(',');
+            writeField(toNullableString(rs, "final_amount"));
+            writer.write(',');
+            writeField(rs.getString("currency"));
+            writer.write(',');
+            writeField(toNullableString(rs, "driver_id"));
+            writer.write(',');
+            writeField(neutralizeFormula(rs.getString("driver_login_id")));
+            writer.write(',');
+            writeField(neutralizeFormula(rs.getString("driver_name")));
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        private String neutralizeFormula(String value) {
+            if (value == null || value.isEmpty()) {
+                return value;
+            }
+            char first = value.charAt(0);
+            if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+                return "'" + value;
+            }
+            return value;
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0
+                    || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0
+                    || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            generator.writeStringField("orderNo", rs.getString("order_no"));
+            generator.writeNumberField("requestId", rs.getLong("id"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("createdAt", toIsoString(rs.getTimestamp("created_at")));
+            generator.writeStringField("measuredAt", toIsoString(rs.getTimestamp("measured_at")));
+            generator.writeFieldName("measuredWeightKg");
+            BigDecimal weight = rs.getBigDecimal("measured_weight_kg");
+            if (weight == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(weight);
+            }
+            writeNullableLong("finalAmount", rs, "final_amount");
+            generator.writeStringField("currency", rs.getString("currency"));
+            writeNullableLong("driverId", rs, "driver_id");
+            generator.writeStringField("driverLoginId", rs.getString("driver_login_id"));
+            generator.writeStringField("driverName", rs.getString("driver_name"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+
+        private void writeNullableLong(String fieldName, ResultSet rs, String column) throws IOException, SQLException {
+            long value = rs.getLong(column);
+            if (rs.wasNull()) {
+                generator.writeNullField(fieldName);
+                return;
+            }
+            generator.writeNumberField(fieldName, value);
+        }
+    }
+
+    private static String toIsoString(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant().toString();
+    }
+
+    private static String toNullableString(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : Long.toString(value);
+    }
+
+    public record ExportQuery(WasteRequestExportFormat format, String status, Instant from, Instant to) {
+    }
+}
@@ -5,19 +5,27 @@ import com.delivery.auth.exception.InvalidCredentialsException;
 import com.delivery.auth.exception.PhoneVerificationException;
 import com.delivery.auth.exception.UserNotFoundException;
 import com.delivery.auth.repository.UserRepository;
-import com.delivery.notification.service.WasteRequestCreatedNotificationService;
+import com.delivery.dispatch.service.DispatchScheduler;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.outbox.service.OutboxEventPublisher;
 import com.delivery.servicearea.service.ServiceAreaService;
+import com.delivery.waste.catalog.DisposalItemCatalog;
 import com.delivery.waste.dto.AssignWasteRequest;
+import com.delivery.waste.dto.BulkAssignWasteRequest;
+import com.delivery.waste.dto.BulkAssignWasteResponse;
 import com.delivery.waste.dto.CreateWasteRequestRequest;
 import com.delivery.waste.dto.DriverAssignmentCandidateResponse;
+import com.delivery.waste.dto.OpsWasteRequestResponse;
+import com.delivery.waste.dto.WasteRequestDetailLookup;
 import com.delivery.waste.dto.WasteRequestDetailResponse;
 import com.delivery.waste.dto.WasteRequestResponse;
+import com.delivery.waste.dto.WasteRequestSearchResponse;
 import com.delivery.waste.entity.WasteAssignmentAuditLogEntity;
 import com.delivery.waste.entity.WasteAssignmentEntity;
 import com.delivery.waste.entity.WastePhotoEntity;
 import com.delivery.waste.entity.WasteRequestEntity;
-import com.delivery.waste.entity.WasteStatusLogEntity;
 import com.delivery.waste.exception.DriverRoleRequiredException;
+import com.delivery.waste.exception.InvalidWasteRequestSearchException;
 import com.delivery.waste.exception.WasteRequestAccessDeniedException;
 import com.delivery.waste.exception.WasteRequestNotFoundException;
 import com.delivery.waste.exception.WasteStatusTransitionConflictException;
@@ -25,18 +33,33 @@ import com.delivery.waste.repository.WasteAssignmentAuditLogRepository;
 import com.delivery.waste.repository.WasteAssignmentRepository;
 import com.delivery.waste.repository.WastePhotoRepository;
 import com.delivery.waste.repository.WasteRequestRepository;
-import com.delivery.waste.repository.WasteStatusLogRepository;
+import com.delivery.web.pagination.KeysetCursor;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
 @Service
 public class WasteRequestService {
@@ -55,48 +78,84 @@ public class WasteRequestService {
     private static final String PHOTO_TYPE_REFERENCE = "REFERENCE";
     private static final String ASSIGNMENT_ACTION_ASSIGNED = "ASSIGNED";
     private static final String ASSIGNMENT_ACTION_REASSIGNED = "REASSIGNED";
+    private static final String BULK_RESULT_UNCHANGED = "UNCHANGED";
+    private static final String BULK_RESULT_SKIPPED = "SKIPPED";
+    private static final Set<String> SEARCHABLE_STATUSES = Set.of(
+            REQUESTED,
+            ASSIGNED,
+            MEASURED,
+            PAYMENT_PENDING,
+            PAID,
+            COMPLETED,
+            "PAYMENT_FAILED",
+            CANCELED
+    );
+    private static final Map<String, String> VIEW_SORT_COLUMNS = Map.of(
+            "id", "v.request_id",
+            "createdAt", "v.created_at",
+            "updatedAt", "v.updated_at",
+            "statusChangedAt", "v.status_changed_at"
+    );
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int APPROXIMATE_TOTAL_CAP = 1000;
+    private static final String DETAIL_ROW_PHOTO = "PHOTO";
+    private static final String DETAIL_ROW_STATUS_LOG = "STATUS_LOG";
 
     private final WasteRequestRepository wasteRequestRepository;
     private final WasteAssignmentAuditLogRepository wasteAssignmentAuditLogRepository;
     private final WasteAssignmentRepository wasteAssignmentRepository;
     private final WastePhotoRepository wastePhotoRepository;
-    private final WasteStatusLogRepository wasteStatusLogRepository;
     private final UserRepository userRepository;
     private final ServiceAreaService serviceAreaService;
     private final WasteStatusTransitionService wasteStatusTransitionService;
-    private final WasteRequestCreatedNotificationService wasteRequestCreatedNotificationService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
     private final JdbcTemplate jdbcTemplate;
+    private final DispatchScheduler dispatchScheduler;
+    private final WasteAssignmentBatchWriter wasteAssignmentBatchWriter;
+    private final DisposalItemCatalog disposalItemCatalog;
+    private final WasteStatusCounters wasteStatusCounters;
 
     public WasteRequestService(
             WasteRequestRepository wasteRequestRepository,
             WasteAssignmentAuditLogRepository wasteAssignmentAuditLogRepository,
             WasteAssignmentRepository wasteAssignmentRepository,
             WastePhotoRepository wastePhotoRepository,
-            WasteStatusLogRepository wasteStatusLogRepository,
             UserRepository userRepository,
             ServiceAreaService serviceAreaService,
             WasteStatusTransitionService wasteStatusTransitionService,
-            WasteRequestCreatedNotificationService wasteRequestCreatedNotificationService,
-            JdbcTemplate jdbcTemplate
+            OutboxEventPublisher outboxEventPublisher,
+            WasteRequestUpdateExecutor wasteRequestUpdateExecutor,
+            JdbcTemplate jdbcTemplate,
+            DispatchScheduler dispatchScheduler,
+            WasteAssignmentBatchWriter wasteAssignmentBatchWriter,
+            DisposalItemCatalog disposalItemCatalog,
+            WasteStatusCounters wasteStatusCounters
     ) {
         this.wasteRequestRepository = wasteRequestRepository;
         this.wasteAssignmentAuditLogRepository = wasteAssignmentAuditLogRepository;
         this.wasteAssignmentRepository = wasteAssignmentRepository;
         this.wastePhotoRepository = wastePhotoRepository;
-        this.wasteStatusLogRepository = wasteStatusLogRepository;
         this.userRepository = userRepository;
         this.serviceAreaService = serviceAreaService;
         this.wasteStatusTransitionService = wasteStatusTransitionService;
-        this.wasteRequestCreatedNotificationService = wasteRequestCreatedNotificationService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.wasteRequestUpdateExecutor = wasteRequestUpdateExecutor;
         this.jdbcTemplate = jdbcTemplate;
+        this.dispatchScheduler = dispatchScheduler;
+        this.wasteAssignmentBatchWriter = wasteAssignmentBatchWriter;
+        this.disposalItemCatalog = disposalItemCatalog;
+        this.wasteStatusCounters = wasteStatusCounters;
     }
 
     @Transactional
     public WasteRequestResponse create(String email, CreateWasteRequestRequest request) {
         UserEntity user = findUserByEmail(email);
         String verifiedPhone = resolveVerifiedPhone(user);
-        serviceAreaService.validateAvailableAddress(request.address());
-        WasteRequestEntity saved = wasteRequestRepository.save(new WasteRequestEntity(
+        Long serviceAreaId = serviceAreaService.validateAvailableAddress(request.address());
+        disposalItemCatalog.validate(request.normalizedDisposalItems());
+        WasteRequestEntity wasteRequest = new WasteRequestEntity(
                 user,
                 request.address(),
                 verifiedPhone,
@@ -105,8 +164,9 @@ public class WasteRequestService {
                 KRW,
                 request.normalizedDisposalItems(),
                 request.normalizedBagCount()
-        ));
-        saved.assignOrderNo(WasteOrderNoPolicy.generate(saved.getId()));
+        );
+        wasteRequest.assignServiceArea(serviceAreaId);
+        WasteRequestEntity saved = wasteRequestRepository.save(wasteRequest);
 
         List<WastePhotoEntity> referencePhotos = request.normalizedReferencePhotoUrls()
                 .stream()
@@ -115,7 +175,9 @@ public class WasteRequestService {
         if (!referencePhotos.isEmpty()) {
             wastePhotoRepository.saveAll(referencePhotos);
         }
-        wasteRequestCreatedNotificationService.notifyCreated(saved);
+        outboxEventPublisher.publish(OutboxEventType.WASTE_REQUEST_CREATED_NOTIFICATION, saved.getId(), email);
+        wasteStatusCounters.recordCreated(serviceAreaId, REQUESTED, Instant.now());
+        dispatchScheduler.wakeUpAfterCommit();
 
         return toUserResponse(saved);
     }
@@ -130,38 +192,149 @@ public class WasteRequestService {
     }
 
     @Transactional
-    public WasteRequestDetailResponse getMyRequest(String email, Long requestId) {
+    public WasteRequestDetailLookup getMyRequest(String email, Long requestId, Predicate<String> notModified) {
         UserEntity user = findUserByEmail(email);
         WasteRequestEntity request = wasteRequestRepository.findById(requestId)
                 .orElseThrow(WasteRequestNotFoundException::new);
         if (!request.getUser().getId().equals(user.getId())) {
             throw new WasteRequestAccessDeniedException();
         }
-        return toDetailResponse(request, false, true);
+        String eTag = toDetailETag(request);
+        if (notModified.test(eTag)) {
+            return WasteRequestDetailLookup.notModified(eTag);
+        }
+        return WasteRequestDetailLookup.of(eTag, toDetailResponse(request, false, true));
     }
 
-    @Transactional
     public WasteRequestResponse cancelMyRequest(String email, Long requestId) {
-        WasteRequestEntity updated = wasteStatusTransitionService.transitionForOwner(requestId, CANCELED, email);
-        return toUserResponse(updated);
+        return wasteRequestUpdateExecutor.execute("cancel", () -> {
+            WasteRequestEntity updated = wasteStatusTransitionService.transitionForOwner(requestId, CANCELED, email);
+            return toUserResponse(updated);
+        });
     }
 
-    @Transactional
-    public Page<WasteRequestResponse> getAllForOps(String status, Pageable pageable) {
-        Page<WasteRequestEntity> page;
-        if (status == null || status.isBlank()) {
-            page = wasteRequestRepository.findAll(pageable);
-        } else {
-            page = wasteRequestRepository.findAllByStatus(status, pageable);
+    public Page<OpsWasteRequestResponse> getAllForOps(String status, Pageable pageable) {
+        String filter = StringUtils.hasText(status) ? "WHERE v.status = ?\n" : "";
+        Object[] filterArgs = StringUtils.hasText(status) ? new Object[]{status} : new Object[0];
+
+        List<Object> args = new ArrayList<>(List.of(filterArgs));
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+        List<OpsWasteRequestResponse> content = jdbcTemplate.query(
+                "SELECT v.*\nFROM waste_request_views v\n" + filter
+                        + "ORDER BY " + toViewOrderBy(pageable.getSort()) + "\nLIMIT ? OFFSET ?",
+                (rs, rowNum) -> toOpsResponse(rs),
+                args.toArray()
+        );
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM waste_request_views v\n" + filter,
+                Long.class,
+                filterArgs
+        );
+        return new PageImpl<>(content, pageable, total == null ? 0L : total);
+    }
+
+    public WasteRequestSearchResponse searchForOps(
+            List<String> statuses,
+            Instant from,
+            Instant to,
+            Long driverId,
+            Long serviceAreaId,
+            String disposalItem,
+            String cursor,
+            Integer size
+    ) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidWasteRequestSearchException("from은 to보다 이전이어야 합니다.");
+        }
+        List<String> normalizedStatuses = normalizeSearchStatuses(statuses);
+        KeysetCursor searchCursor = KeysetCursor.decode(
+                cursor,
+                () -> new InvalidWasteRequestSearchException("cursor 값이 올바르지 않습니다.")
+        );
+        int pageSize = normalizeSearchSize(size);
+
+        StringBuilder filter = new StringBuilder("FROM waste_request_views v\nWHERE 1 = 1\n");
+        List<Object> filterArgs = new ArrayList<>();
+        if (driverId != null) {
+            filter.append("  AND v.driver_id = ?\n");
+            filterArgs.add(driverId);
+        }
+        if (serviceAreaId != null) {
+            filter.append("  AND v.service_area_id = ?\n");
+            filterArgs.add(serviceAreaId);
+        }
+        if (StringUtils.hasText(disposalItem)) {
+            Integer disposalItemId = disposalItemCatalog.findId(disposalItem).orElse(null);
+            if (disposalItemId == null) {
+                filter.append("  AND 1 = 0\n");
+            } else {
+                filter.append("  AND EXISTS (SELECT 1 FROM waste_request_view_items i WHERE i.item_id = ? AND i.request_id = v.request_id)\n");
+                filterArgs.add(disposalItemId);
+            }
+        }
+        if (!normalizedStatuses.isEmpty()) {
+            filter.append("  AND v.status IN (")
+                    .append(String.join(", ", Collections.nCopies(normalizedStatuses.size(), "?")))
+                    .append(")\n");
+            filterArgs.addAll(normalizedStatuses);
+        }
+        if (from != null) {
+            filter.append("  AND v.created_at >= ?\n");
+            filterArgs.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            filter.append("  AND v.created_at < ?\n");
+            filterArgs.add(Timestamp.from(to));
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT v.*\n").append(filter);
+        List<Object> args = new ArrayList<>(filterArgs);
+        if (searchCursor != null) {
+            sql.append("  AND (v.created_at < ? OR (v.created_at = ? AND v.request_id < ?))\n");
+            args.add(Timestamp.from(searchCursor.at()));
+            args.add(Timestamp.from(searchCursor.at()));
+            args.add(searchCursor.id());
         }
-        return page.map(this::toResponse);
+        sql.append("ORDER BY v.created_at DESC, v.request_id DESC\nLIMIT ?");
+        args.add(pageSize + 1);
+
+        List<OpsWasteRequestResponse> rows = jdbcTemplate.query(
+                sql.toString(),
+                (rs, rowNum) -> toOpsResponse(rs),
+                args.toArray()
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OpsWasteRequestResponse> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        String nextCursor = KeysetCursor.next(content, hasNext, last -> new KeysetCursor(last.createdAt(), last.id()));
+
+        Long approximateTotal = null;
+        boolean totalCapped = false;
+        if (searchCursor == null) {
+            List<Object> countArgs = new ArrayList<>(filterArgs);
+            countArgs.add(APPROXIMATE_TOTAL_CAP + 1);
+            Long counted = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM (SELECT v.request_id\n" + filter + "LIMIT ?) capped",
+                    Long.class,
+                    countArgs.toArray()
+            );
+            long total = counted == null ? 0L : counted;
+            totalCapped = total > APPROXIMATE_TOTAL_CAP;
+            approximateTotal = Math.min(total, APPROXIMATE_TOTAL_CAP);
+        }
+        return new WasteRequestSearchResponse(content, content.size(), hasNext, nextCursor, approximateTotal, totalCapped);
     }
 
     @Transactional
-    public WasteRequestDetailResponse getDetailForOps(Long requestId) {
+    public WasteRequestDetailLookup getDetailForOps(Long requestId, Predicate<String> notModified) {
         WasteRequestEntity request = wasteRequestRepository.findById(requestId)
                 .orElseThrow(WasteRequestNotFoundException::new);
-        return toDetailResponse(request, true, false);
+        String eTag = toDetailETag(request);
+        if (notModified.test(eTag)) {
+            return WasteRequestDetailLookup.notModified(eTag);
+        }
+        return WasteRequestDetailLookup.of(eTag, toDetailResponse(request, true, false));
     }
 
     @Transactional
@@ -232,10 +405,13 @@ public class WasteRequestService {
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
 
-    @Transactional
     public WasteRequestResponse assignForOps(Long requestId, AssignWasteRequest request, String actorEmail) {
+        return wasteRequestUpdateExecutor.execute("assign", () -> assign(requestId, request, actorEmail));
+    }
+
+    private WasteRequestResponse assign(Long requestId, AssignWasteRequest request, String actorEmail) {
         UserEntity actor = findUserByEmail(actorEmail);
-        WasteRequestEntity targetRequest = wasteRequestRepository.findById(requestId)
+        WasteRequestEntity targetRequest = wasteRequestRepository.findWithVersionIncrementById(requestId)
                 .orElseThrow(WasteRequestNotFoundException::new);
         UserEntity driver = userRepository.findById(request.driverId())
                 .orElseThrow(UserNotFoundException::new);
@@ -267,6 +443,158 @@ public class WasteRequestService {
         return toResponse(targetRequest);
     }
 
+    public BulkAssignWasteResponse bulkAssignForOps(BulkAssignWasteRequest request, String actorEmail) {
+        return wasteRequestUpdateExecutor.execute("bulkAssign", () -> bulkAssign(request, actorEmail));
+    }
+
+    private BulkAssignWasteResponse bulkAssign(BulkAssignWasteRequest request, String actorEmail) {
+        UserEntity actor = findUserByEmail(actorEmail);
+        UserEntity driver = userRepository.findById(request.driverId())
+                .orElseThrow(UserNotFoundException::new);
+        if (!isAssignableDriver(driver)) {
+            throw new DriverRoleRequiredException();
+        }
+
+        List<Long> requestIds = List.copyOf(new LinkedHashSet<>(request.requestIds()));
+        Map<Long, BulkAssignTarget> targets = findBulkAssignTargets(requestIds);
+        List<WasteAssignmentBatchWriter.StatusChange> statusChanges = new ArrayList<>();
+        List<WasteAssignmentBatchWriter.AssignmentChange> assignmentChanges = new ArrayList<>();
+        List<BulkAssignWasteResponse.Item> results = new ArrayList<>(requestIds.size());
+        int assignedCount = 0;
+        int reassignedCount = 0;
+        int unchangedCount = 0;
+        int skippedCount = 0;
+
+        for (Long requestId : requestIds) {
+            BulkAssignTarget target = targets.get(requestId);
+            if (target == null) {
+                skippedCount += 1;
+                results.add(new BulkAssignWasteResponse.Item(
+                        requestId,
+                        BULK_RESULT_SKIPPED,
+                        null,
+                        null,
+                        "수거 요청을 찾을 수 없습니다."
+                ));
+                continue;
+            }
+            if (!REQUESTED.equals(target.status()) && !ASSIGNED.equals(target.status())) {
+                skippedCount += 1;
+                results.add(new BulkAssignWasteResponse.Item(
+                        requestId,
+                        BULK_RESULT_SKIPPED,
+                        target.status(),
+                        target.driverId(),
+                        "배정할 수 없는 수거 요청 상태입니다."
+                ));
+                continue;
+            }
+            if (driver.getId().equals(target.driverId())) {
+                unchangedCount += 1;
+                results.add(new BulkAssignWasteResponse.Item(
+                        requestId,
+                        BULK_RESULT_UNCHANGED,
+                        target.status(),
+                        target.driverId(),
+                        null
+                ));
+                continue;
+            }
+
+            statusChanges.add(new WasteAssignmentBatchWriter.StatusChange(
+                    requestId,
+                    target.serviceAreaId(),
+                    target.status(),
+                    ASSIGNED,
+                    target.version()
+            ));
+            String action = target.driverId() == null ? ASSIGNMENT_ACTION_ASSIGNED : ASSIGNMENT_ACTION_REASSIGNED;
+            assignmentChanges.add(new WasteAssignmentBatchWriter.AssignmentChange(
+                    requestId,
+                    target.driverId(),
+                    driver.getId(),
+                    action
+            ));
+            if (target.driverId() == null) {
+                assignedCount += 1;
+            } else {
+                reassignedCount += 1;
+            }
+            results.add(new BulkAssignWasteResponse.Item(requestId, action, ASSIGNED, target.driverId(), null));
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        int[] updatedCounts = wasteAssignmentBatchWriter.updateStatuses(statusChanges, now);
+        for (int updatedCount : updatedCounts) {
+            if (updatedCount == 0) {
+                throw new OptimisticLockingFailureException("waste request changed during bulk assignment");
+            }
+        }
+        wasteAssignmentBatchWriter.insertStatusLogs(statusChanges, actor.getId(), now);
+        wasteAssignmentBatchWriter.applyAssignments(assignmentChanges, actor.getId(), now);
+
+        return new BulkAssignWasteResponse(
+                driver.getId(),
+                requestIds.size(),
+                assignedCount,
+                reassignedCount,
+                unchangedCount,
+                skippedCount,
+                results
+        );
+    }
+
+    private Map<Long, BulkAssignTarget> findBulkAssignTargets(List<Long> requestIds) {
+        String placeholders = String.join(", ", Collections.nCopies(requestIds.size(), "?"));
+        Map<Long, BulkAssignTarget> targets = new HashMap<>();
+        jdbcTemplate.query(
+                """
+                SELECT w.id, w.service_area_id, w.status, w.version, a.driver_id
+                FROM waste_requests w
+                LEFT JOIN waste_assignments a ON a.request_id = w.id
+                WHERE w.id IN (%s)
+                """.formatted(placeholders),
+                rs -> {
+                    targets.put(rs.getLong("id"), new BulkAssignTarget(
+                            rs.getObject("service_area_id", Long.class),
+                            rs.getString("status"),
+                            rs.getLong("version"),
+                            rs.getObject("driver_id", Long.class)
+                    ));
+                },
+                requestIds.toArray()
+        );
+        return targets;
+    }
+
+    private List<String> normalizeSearchStatuses(List<String> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String status : statuses) {
+            if (!StringUtils.hasText(status)) {
+                continue;
+            }
+            String value = status.trim().toUpperCase(Locale.ROOT);
+            if (!SEARCHABLE_STATUSES.contains(value)) {
+                throw new InvalidWasteRequestSearchException("지원하지 않는 status입니다: " + status.trim());
+            }
+            normalized.add(value);
+        }
+        return List.copyOf(normalized);
+    }
+
+    private int normalizeSearchSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SEARCH_SIZE;
+        }
+        if (size <= 0 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidWasteRequestSearchException("size는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
     private boolean isAssignableDriver(UserEntity user) {
         boolean isDriver = userRepository.countRoleByUserIdAndRoleCode(user.getId(), DRIVER) > 0;
         boolean isActive = ACTIVE.equalsIgnoreCase(user.getStatus());
@@ -289,6 +617,59 @@ public class WasteRequestService {
         return user.getPhoneE164().trim();
     }
 
+    private OpsWasteRequestResponse toOpsResponse(ResultSet rs) throws SQLException {
+        long requestId = rs.getLong("request_id");
+        return new OpsWasteRequestResponse(
+                requestId,
+                WasteOrderNoPolicy.resolve(rs.getString("order_no"), requestId),
+                rs.getLong("user_id"),
+                rs.getString("requester_name"),
+                rs.getString("address"),
+                rs.getString("contact_phone"),
+                rs.getString("note"),
+                disposalItemCatalog.decode(rs.getString("disposal_item_codes")),
+                rs.getInt("bag_count"),
+                rs.getString("status"),
+                toInstant(rs.getTimestamp("status_changed_at")),
+                rs.getObject("service_area_id", Long.class),
+                rs.getString("service_area_name"),
+                rs.getObject("driver_id", Long.class),
+                rs.getString("driver_name"),
+                toInstant(rs.getTimestamp("assigned_at")),
+                rs.getBigDecimal("measured_weight_kg"),
+                toInstant(rs.getTimestamp("measured_at")),
+                rs.getObject("measured_by_driver_id", Long.class),
+                rs.getObject("final_amount", Long.class),
+                rs.getString("currency"),
+                rs.getString("payment_status"),
+                toInstant(rs.getTimestamp("created_at")),
+                toInstant(rs.getTimestamp("updated_at"))
+        );
+    }
+
+    private String toViewOrderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        String idDirection = "DESC";
+        for (Sort.Order order : sort) {
+            String column = VIEW_SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidWasteRequestSearchException("지원하지 않는 정렬 기준입니다: " + order.getProperty());
+            }
+            String direction = order.isAscending() ? "ASC" : "DESC";
+            if ("v.request_id".equals(column)) {
+                idDirection = direction;
+                continue;
+            }
+            orders.add(column + " " + direction);
+        }
+        orders.add("v.request_id " + idDirection);
+        return String.join(", ", orders);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
     private WasteRequestResponse toResponse(WasteRequestEntity request) {
         return new WasteRequestResponse(
                 request.getId(),
@@ -337,23 +718,56 @@ public class WasteRequestService {
             boolean includeAssignment,
             boolean userView
     ) {
-        List<WastePhotoEntity> photos = wastePhotoRepository.findAllByRequestOrderByCreatedAtAsc(request);
-        List<WasteStatusLogEntity> statusLogs = wasteStatusLogRepository.findByRequestOrderByCreatedAtAsc(request);
-
-        WasteAssignmentEntity assignment = includeAssignment
-                ? wasteAssignmentRepository.findByRequestId(request.getId()).orElse(null)
-                : null;
-
-        List<WasteRequestDetailResponse.StatusTimelineItem> timeline = statusLogs.stream()
-                .map(log -> new WasteRequestDetailResponse.StatusTimelineItem(
-                        log.getFromStatus(),
-                        log.getToStatus(),
-                        log.getCreatedAt()
-                ))
-                .toList();
+        List<WasteRequestDetailResponse.PhotoItem> photos = new ArrayList<>();
+        List<WasteRequestDetailResponse.StatusTimelineItem> timeline = new ArrayList<>();
+        AtomicReference<Long> assignedDriverId = new AtomicReference<>();
+        AtomicReference<Instant> assignedAt = new AtomicReference<>();
+        jdbcTemplate.query(
+                """
+                SELECT 'PHOTO' AS kind, p.id AS row_id, p.url AS first_value, p.type AS second_value,
+                       NULL AS driver_id, p.created_at AS occurred_at
+                FROM waste_photos p
+                WHERE p.request_id = ?
+                UNION ALL
+                SELECT 'STATUS_LOG', l.id, l.from_status, l.to_status, NULL, l.created_at
+                FROM waste_status_logs l
+                WHERE l.request_id = ?
+                UNION ALL
+                SELECT 'ASSIGNMENT', a.id, NULL, NULL, a.driver_id, a.assigned_at
+                FROM waste_assignments a
+                WHERE a.request_id = ?
+                  AND ? = TRUE
+                ORDER BY occurred_at ASC, row_id ASC
+                """,
+                rs -> {
+                    String kind = rs.getString("kind");
+                    Instant occurredAt = rs.getTimestamp("occurred_at").toInstant();
+                    if (DETAIL_ROW_PHOTO.equals(kind)) {
+                        photos.add(new WasteRequestDetailResponse.PhotoItem(
+                                rs.getString("first_value"),
+                                rs.getString("second_value"),
+                                occurredAt
+                        ));
+                    } else if (DETAIL_ROW_STATUS_LOG.equals(kind)) {
+                        timeline.add(new WasteRequestDetailResponse.StatusTimelineItem(
+                                rs.getString("first_value"),
+                                rs.getString("second_value"),
+                                occurredAt
+                        ));
+                    } else {
+                        assignedDriverId.set(rs.getLong("driver_id"));
+                        assignedAt.set(occurredAt);
+                    }
+                },
+                request.getId(),
+                request.getId(),
+                request.getId(),
+                includeAssignment
+        );
 
+        List<WasteRequestDetailResponse.StatusTimelineItem> visibleTimeline = List.copyOf(timeline);
         if (userView) {
-            timeline = timeline.stream()
+            visibleTimeline = timeline.stream()
                     .map(item -> new WasteRequestDetailResponse.StatusTimelineItem(
                             item.fromStatus() == null ? null : toUserVisibleStatus(item.fromStatus()),
                             toUserVisibleStatus(item.toStatus()),
@@ -373,26 +787,24 @@ public class WasteRequestService {
                 request.getNote(),
                 request.getDisposalItems(),
                 request.getBagCount(),
-                photos.stream()
-                        .map(photo -> new WasteRequestDetailResponse.PhotoItem(
-                                photo.getUrl(),
-                                photo.getType(),
-                                photo.getCreatedAt()
-                        ))
-                        .toList(),
+                List.copyOf(photos),
                 request.getMeasuredWeightKg(),
                 request.getMeasuredAt(),
                 request.getMeasuredByDriver() != null ? request.getMeasuredByDriver().getId() : null,
                 request.getFinalAmount(),
                 request.getCurrency(),
-                timeline,
-                assignment != null ? assignment.getDriver().getId() : null,
-                assignment != null ? assignment.getAssignedAt() : null,
+                visibleTimeline,
+                assignedDriverId.get(),
+                assignedAt.get(),
                 request.getCreatedAt(),
                 request.getUpdatedAt()
         );
     }
 
+    private String toDetailETag(WasteRequestEntity request) {
+        return request.getId() + "-" + request.getVersion();
+    }
+
     private String toUserVisibleStatus(String status) {
         if (PAYMENT_PENDING.equals(status)) {
             return MEASURED;
@@ -420,4 +832,7 @@ public class WasteRequestService {
                 )
         );
     }
+
+    private record BulkAssignTarget(Long serviceAreaId, String status, long version, Long driverId) {
+    }
 }
@@ -0,0 +1,73 @@
+package com.delivery.waste.service;
+
+import com.delivery.waste.config.WasteConcurrencyProperties;
+import com.delivery.waste.exception.WasteRequestConcurrentModificationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class WasteRequestUpdateExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final WasteConcurrencyProperties wasteConcurrencyProperties;
+    private final MeterRegistry meterRegistry;
+
+    public WasteRequestUpdateExecutor(
+            PlatformTransactionManager transactionManager,
+            WasteConcurrencyProperties wasteConcurrencyProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wasteConcurrencyProperties = wasteConcurrencyProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        int maxAttempts = wasteConcurrencyProperties.getMaxAttempts();
+        for (int attempt = 1; ; attempt++) {
+            counter("waste.request.update.attempts", operation).increment();
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException | OptimisticLockException exception) {
+                counter("waste.request.update.conflicts", operation).increment();
+                if (attempt >= maxAttempts) {
+                    counter("waste.request.update.exhausted", operation).increment();
+                    throw new WasteRequestConcurrentModificationException();
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long baseMillis = wasteConcurrencyProperties.getRetryBackoffMillis() * attempt;
+        if (baseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis + 1));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new WasteRequestConcurrentModificationException();
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
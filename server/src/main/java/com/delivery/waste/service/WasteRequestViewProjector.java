@@ -0,0 +1,317 @@
+package com.delivery.waste.service;
+
+import com.delivery.waste.config.WasteViewProperties;
+import com.delivery.waste.dto.WasteRequestViewRebuildResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class WasteRequestViewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(WasteRequestViewProjector.class);
+    private static final String INSERT_SELECT_SQL = """
+            INSERT INTO waste_request_views (
+                request_id, order_no, user_id, requester_name, address, contact_phone, note, disposal_item_codes, bag_count,
+                status, status_changed_at, service_area_id, service_area_name, driver_id, driver_name, assigned_at,
+                measured_weight_kg, measured_at, measured_by_driver_id, final_amount, currency,
+                payment_id, payment_status, payment_updated_at, created_at, updated_at, synced_at
+            )
+            SELECT w.id, w.order_no, w.user_id, u.display_name, w.address, w.contact_phone, w.note, w.disposal_item_codes,
+                   w.bag_count, w.status,
+                   COALESCE((SELECT MAX(l.created_at) FROM waste_status_logs l WHERE l.request_id = w.id), w.created_at),
+                   w.service_area_id,
+                   CASE WHEN s.id IS NULL THEN NULL ELSE CONCAT(s.city, ' ', s.district, ' ', s.dong) END,
+                   a.driver_id, d.display_name, a.assigned_at,
+                   w.measured_weight_kg, w.measured_at, w.measured_by_driver_id, w.final_amount, w.currency,
+                   p.id, p.status, p.updated_at, w.created_at, w.updated_at, CURRENT_TIMESTAMP
+            FROM waste_requests w
+            JOIN users u ON u.id = w.user_id
+            LEFT JOIN service_areas s ON s.id = w.service_area_id
+            LEFT JOIN waste_assignments a ON a.request_id = w.id
+            LEFT JOIN users d ON d.id = a.driver_id
+            LEFT JOIN payments p ON p.waste_request_id = w.id
+            WHERE w.id IN (%s)
+            """;
+    private static final String INSERT_DIRTY_SQL = """
+            INSERT INTO waste_request_view_dirty (request_id, created_at) VALUES (?, ?)
+            """;
+    private static final String INSERT_DIRTY_FOR_USER_SQL = """
+            INSERT INTO waste_request_view_dirty (request_id, created_at)
+            SELECT v.request_id, ?
+            FROM waste_request_views v
+            WHERE v.user_id = ? OR v.driver_id = ?
+            """;
+    private static final String INSERT_ITEM_SQL = """
+            INSERT INTO waste_request_view_items (item_id, request_id) VALUES (?, ?)
+            """;
+    private static final String CLAIM_DIRTY_SQL = """
+            SELECT id, request_id FROM waste_request_view_dirty ORDER BY id LIMIT ? FOR UPDATE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate drainTemplate;
+    private final WasteViewProperties wasteViewProperties;
+    private final Counter refreshedRows;
+    private final Object wakeUpSignal = new Object();
+
+    private volatile boolean running;
+    private boolean wakeUpRequested;
+    private Thread coordinator;
+
+    public WasteRequestViewProjector(
+            DataSource dataSource,
+            WasteViewProperties wasteViewProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.drainTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.drainTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.drainTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.wasteViewProperties = wasteViewProperties;
+        this.refreshedRows = Counter.builder("waste.request.view.refreshed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!wasteViewProperties.isAsyncEnabled()) {
+            return;
+        }
+        running = true;
+        coordinator = new Thread(this::runCoordinator, "waste-request-view-coordinator");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (coordinator != null) {
+            wakeUp();
+            try {
+                coordinator.join(wasteViewProperties.getShutdownTimeoutMillis());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void markChanged(Long requestId) {
+        if (requestId == null) {
+            return;
+        }
+        markChanged(List.of(requestId));
+    }
+
+    public void markChanged(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(requestIds.size());
+        for (Long requestId : requestIds) {
+            rows.add(new Object[]{requestId, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_DIRTY_SQL, rows);
+        signalAfterCommit();
+    }
+
+    public void markUserChanged(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_DIRTY_FOR_USER_SQL, Timestamp.from(Instant.now()), userId, userId);
+        signalAfterCommit();
+    }
+
+    public synchronized int refreshPending() {
+        int refreshed = 0;
+        while (true) {
+            DrainResult result = drainTemplate.execute(status -> drainBatch(wasteViewProperties.getBatchSize()));
+            if (result == null) {
+                return refreshed;
+            }
+            refreshed += result.refreshed();
+            if (result.claimed() < wasteViewProperties.getBatchSize()) {
+                return refreshed;
+            }
+        }
+    }
+
+    public synchronized WasteRequestViewRebuildResponse rebuild() {
+        long startedAt = System.nanoTime();
+        int chunkSize = wasteViewProperties.getRebuildChunkSize();
+        int refreshed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM waste_requests WHERE id > ? ORDER BY id LIMIT ?",
+                    Long.class,
+                    lastId,
+                    chunkSize
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer inserted = transactionTemplate.execute(status -> replace(ids));
+            refreshed += inserted == null ? 0 : inserted;
+            lastId = ids.get(ids.size() - 1);
+        }
+        Integer removed = transactionTemplate.execute(status -> {
+            int removedViews = jdbcTemplate.update("""
+                    DELETE FROM waste_request_views
+                    WHERE NOT EXISTS (SELECT 1 FROM waste_requests w WHERE w.id = waste_request_views.request_id)
+                    """);
+            jdbcTemplate.update("""
+                    DELETE FROM waste_request_view_items
+                    WHERE NOT EXISTS (SELECT 1 FROM waste_request_views v WHERE v.request_id = waste_request_view_items.request_id)
+                    """);
+            return removedViews;
+        });
+        return new WasteRequestViewRebuildResponse(
+                refreshed,
+                removed == null ? 0 : removed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+        );
+    }
+
+    private void signalAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signal();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                signal();
+            }
+        });
+    }
+
+    private void signal() {
+        if (running) {
+            wakeUp();
+            return;
+        }
+        try {
+            refreshPending();
+        } catch (RuntimeException exception) {
+            log.warn("waste request view refresh failed, dirty rows are kept for the next refresh", exception);
+        }
+    }
+
+    private void wakeUp() {
+        if (!running) {
+            return;
+        }
+        synchronized (wakeUpSignal) {
+            wakeUpRequested = true;
+            wakeUpSignal.notifyAll();
+        }
+    }
+
+    private DrainResult drainBatch(int limit) {
+        List<Long> dirtyIds = new ArrayList<>();
+        Set<Long> requestIds = new LinkedHashSet<>();
+        jdbcTemplate.query(CLAIM_DIRTY_SQL, rs -> {
+            dirtyIds.add(rs.getLong("id"));
+            requestIds.add(rs.getLong("request_id"));
+        }, limit);
+        if (dirtyIds.isEmpty()) {
+            return new DrainResult(0, 0);
+        }
+        int refreshed = replace(List.copyOf(requestIds));
+        String placeholders = String.join(", ", Collections.nCopies(dirtyIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM waste_request_view_dirty WHERE id IN (" + placeholders + ")", dirtyIds.toArray());
+        return new DrainResult(dirtyIds.size(), refreshed);
+    }
+
+    private int replace(List<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(requestIds.size(), "?"));
+        Object[] args = requestIds.toArray();
+        jdbcTemplate.update("DELETE FROM waste_request_views WHERE request_id IN (" + placeholders + ")", args);
+        jdbcTemplate.update("DELETE FROM waste_request_view_items WHERE request_id IN (" + placeholders + ")", args);
+        int inserted = jdbcTemplate.update(INSERT_SELECT_SQL.formatted(placeholders), args);
+        List<Object[]> items = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT request_id, disposal_item_codes FROM waste_request_views WHERE request_id IN (" + placeholders + ")",
+                rs -> {
+                    long requestId = rs.getLong("request_id");
+                    for (Integer itemId : parseItemIds(rs.getString("disposal_item_codes"))) {
+                        items.add(new Object[]{itemId, requestId});
+                    }
+                },
+                args
+        );
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items);
+        }
+        refreshedRows.increment(inserted);
+        return inserted;
+    }
+
+    private Set<Integer> parseItemIds(String encoded) {
+        Set<Integer> itemIds = new LinkedHashSet<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return itemIds;
+        }
+        for (String itemId : encoded.split(",")) {
+            itemIds.add(Integer.parseInt(itemId.trim()));
+        }
+        return itemIds;
+    }
+
+    private void runCoordinator() {
+        while (running) {
+            synchronized (wakeUpSignal) {
+                if (running && !wakeUpRequested) {
+                    try {
+                        wakeUpSignal.wait(wasteViewProperties.getRefreshIntervalMillis());
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                wakeUpRequested = false;
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                refreshPending();
+            } catch (RuntimeException exception) {
+                log.warn("waste request view refresh failed", exception);
+            }
+        }
+    }
+
+    private record DrainResult(int claimed, int refreshed) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.delivery.waste.service;
+
+import com.delivery.waste.config.WasteStatusCounterProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class WasteStatusCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(WasteStatusCounters.class);
+    private static final long NO_SERVICE_AREA_ID = 0L;
+    private static final String UPDATE_SQL = """
+            UPDATE waste_status_daily_counts
+            SET entered_count = entered_count + ?, exited_count = exited_count + ?, updated_at = ?
+            WHERE stat_date = ? AND service_area_id = ? AND status = ?
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO waste_status_daily_counts (stat_date, service_area_id, status, entered_count, exited_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String LOCK_CUTOFF_SQL = """
+            SELECT rebuilt_before FROM waste_status_counter_state WHERE id = 1 FOR UPDATE
+            """;
+    private static final String UPDATE_CUTOFF_SQL = """
+            UPDATE waste_status_counter_state SET rebuilt_before = ?, updated_at = ? WHERE id = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WasteStatusCounterProperties wasteStatusCounterProperties;
+    private final ConcurrentHashMap<CounterKey, PendingDelta> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    public WasteStatusCounters(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            WasteStatusCounterProperties wasteStatusCounterProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wasteStatusCounterProperties = wasteStatusCounterProperties;
+    }
+
+    public void recordCreated(Long serviceAreaId, String status, Instant at) {
+        recordTransition(serviceAreaId, null, status, at);
+    }
+
+    public void recordTransition(Long serviceAreaId, String fromStatus, String toStatus, Instant at) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulate(serviceAreaId, fromStatus, toStatus, at);
+                }
+            });
+            return;
+        }
+        accumulate(serviceAreaId, fromStatus, toStatus, at);
+    }
+
+    @Scheduled(fixedDelayString = "${app.waste.status-counters.flush-interval-millis:5000}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<PendingDelta> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                int discarded = transactionTemplate.execute(status -> write(deltas));
+                if (discarded > 0) {
+                    log.info("discarded {} waste status counter deltas already covered by a rebuild", discarded);
+                }
+            } catch (DataAccessException exception) {
+                log.warn("waste status counter flush failed, keeping {} deltas for the next flush", deltas.size(), exception);
+                restore(deltas);
+            }
+        }
+    }
+
+    Instant markRebuildCutoff() {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        jdbcTemplate.update(UPDATE_CUTOFF_SQL, Timestamp.from(cutoff), Timestamp.from(Instant.now()));
+        long waitMillis = cutoff.toEpochMilli() - System.currentTimeMillis();
+        if (waitMillis > 0) {
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("waste status counter rebuild was interrupted", exception);
+            }
+        }
+        return cutoff;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void accumulate(Long serviceAreaId, String fromStatus, String toStatus, Instant at) {
+        LocalDate statDate = LocalDate.ofInstant(at, wasteStatusCounterProperties.getZoneId());
+        long areaId = serviceAreaId == null ? NO_SERVICE_AREA_ID : serviceAreaId;
+        long committedSecond = Instant.now().getEpochSecond();
+        if (fromStatus != null) {
+            add(new CounterKey(statDate, areaId, fromStatus, committedSecond), 0L, 1L);
+        }
+        add(new CounterKey(statDate, areaId, toStatus, committedSecond), 1L, 0L);
+    }
+
+    private void add(CounterKey key, long entered, long exited) {
+        pending.merge(
+                key,
+                new PendingDelta(key, entered, exited),
+                (current, added) -> new PendingDelta(key, current.entered() + added.entered(), current.exited() + added.exited())
+        );
+    }
+
+    private List<PendingDelta> drain() {
+        List<PendingDelta> deltas = new ArrayList<>();
+        for (CounterKey key : pending.keySet()) {
+            PendingDelta delta = pending.remove(key);
+            if (delta != null && (delta.entered() != 0 || delta.exited() != 0)) {
+                deltas.add(delta);
+            }
+        }
+        return deltas;
+    }
+
+    private void restore(List<PendingDelta> deltas) {
+        for (PendingDelta delta : deltas) {
+            add(delta.key(), delta.entered(), delta.exited());
+        }
+    }
+
+    private int write(List<PendingDelta> pendingDeltas) {
+        Timestamp rebuiltBefore = jdbcTemplate.queryForObject(LOCK_CUTOFF_SQL, Timestamp.class);
+        long cutoffSecond = rebuiltBefore == null ? Long.MIN_VALUE : rebuiltBefore.toInstant().getEpochSecond();
+        Map<RollupKey, long[]> merged = new LinkedHashMap<>();
+        int discarded = 0;
+        for (PendingDelta delta : pendingDeltas) {
+            if (delta.key().committedSecond() < cutoffSecond) {
+                discarded++;
+                continue;
+            }
+            long[] counts = merged.computeIfAbsent(delta.key().rollupKey(), ignored -> new long[2]);
+            counts[0] += delta.entered();
+            counts[1] += delta.exited();
+        }
+        if (merged.isEmpty()) {
+            return discarded;
+        }
+        List<RollupDelta> deltas = new ArrayList<>(merged.size());
+        merged.forEach((key, counts) -> deltas.add(new RollupDelta(key, counts[0], counts[1])));
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        for (RollupDelta delta : deltas) {
+            updates.add(new Object[]{
+                    delta.entered(),
+                    delta.exited(),
+                    now,
+                    Date.valueOf(delta.key().statDate()),
+                    delta.key().serviceAreaId(),
+                    delta.key().status()
+            });
+        }
+        int[] updatedCounts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updatedCounts[i] != 0) {
+                continue;
+            }
+            RollupDelta delta = deltas.get(i);
+            inserts.add(new Object[]{
+                    Date.valueOf(delta.key().statDate()),
+                    delta.key().serviceAreaId(),
+                    delta.key().status(),
+                    delta.entered(),
+                    delta.exited(),
+                    now
+            });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        return discarded;
+    }
+
+    private record CounterKey(LocalDate statDate, long serviceAreaId, String status, long committedSecond) {
+
+        private RollupKey rollupKey() {
+            return new RollupKey(statDate, serviceAreaId, status);
+        }
+    }
+
+    private record RollupKey(LocalDate statDate, long serviceAreaId, String status) {
+    }
+
+    private record PendingDelta(CounterKey key, long entered, long exited) {
+    }
+
+    private record RollupDelta(RollupKey key, long entered, long exited) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.delivery.waste.service;
+
+import com.delivery.waste.config.WasteStatusCounterProperties;
+import com.delivery.waste.dto.WasteStatusCountRebuildResponse;
+import com.delivery.waste.dto.WasteStatusDashboardResponse;
+import com.delivery.waste.exception.InvalidWasteRequestSearchException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class WasteStatusDashboardService {
+
+    private static final long NO_SERVICE_AREA_ID = 0L;
+    private static final int DEFAULT_DASHBOARD_DAYS = 7;
+    private static final int REBUILD_FETCH_SIZE = 1000;
+    private static final int REBUILD_INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_ROLLUP_SQL = """
+            INSERT INTO waste_status_daily_counts (stat_date, service_area_id, status, entered_count, exited_count, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WasteStatusCounters wasteStatusCounters;
+    private final WasteStatusCounterProperties wasteStatusCounterProperties;
+
+    public WasteStatusDashboardService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            WasteStatusCounters wasteStatusCounters,
+            WasteStatusCounterProperties wasteStatusCounterProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wasteStatusCounters = wasteStatusCounters;
+        this.wasteStatusCounterProperties = wasteStatusCounterProperties;
+    }
+
+    public WasteStatusDashboardResponse getDashboard(LocalDate from, LocalDate to, Long serviceAreaId) {
+        LocalDate resolvedTo = to != null ? to : LocalDate.now(wasteStatusCounterProperties.getZoneId());
+        LocalDate resolvedFrom = from != null ? from : resolvedTo.minusDays(DEFAULT_DASHBOARD_DAYS - 1);
+        if (resolvedFrom.isAfter(resolvedTo)) {
+            throw new InvalidWasteRequestSearchException("from은 to보다 이후일 수 없습니다.");
+        }
+        int maxDays = wasteStatusCounterProperties.getMaxDashboardDays();
+        if (ChronoUnit.DAYS.between(resolvedFrom, resolvedTo) >= maxDays) {
+            throw new InvalidWasteRequestSearchException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+
+        String areaFilter = serviceAreaId == null ? "" : "WHERE service_area_id = ?\n";
+        Object[] areaArgs = serviceAreaId == null ? new Object[0] : new Object[]{serviceAreaId};
+        Map<String, Long> currentCounts = new TreeMap<>();
+        Map<Long, Map<String, Long>> countsByArea = new TreeMap<>();
+        jdbcTemplate.query(
+                """
+                SELECT service_area_id, status, SUM(entered_count) - SUM(exited_count) AS open_count
+                FROM waste_status_daily_counts
+                %s
+                GROUP BY service_area_id, status
+                """.formatted(areaFilter),
+                rs -> {
+                    String status = rs.getString("status");
+                    long openCount = rs.getLong("open_count");
+                    currentCounts.merge(status, openCount, Long::sum);
+                    countsByArea.computeIfAbsent(rs.getLong("service_area_id"), ignored -> new TreeMap<>())
+                            .put(status, openCount);
+                },
+                areaArgs
+        );
+
+        List<Object> dailyArgs = new ArrayList<>();
+        dailyArgs.add(Date.valueOf(resolvedFrom));
+        dailyArgs.add(Date.valueOf(resolvedTo));
+        if (serviceAreaId != null) {
+            dailyArgs.add(serviceAreaId);
+        }
+        List<WasteStatusDashboardResponse.DailyCount> daily = jdbcTemplate.query(
+                """
+                SELECT stat_date, status, SUM(entered_count) AS entered_count, SUM(exited_count) AS exited_count
+                FROM waste_status_daily_counts
+                WHERE stat_date BETWEEN ? AND ?
+                %s
+                GROUP BY stat_date, status
+                ORDER BY stat_date ASC, status ASC
+                """.formatted(serviceAreaId == null ? "" : "  AND service_area_id = ?"),
+                (rs, rowNum) -> new WasteStatusDashboardResponse.DailyCount(
+                        rs.getDate("stat_date").toLocalDate(),
+                        rs.getString("status"),
+                        rs.getLong("entered_count"),
+                        rs.getLong("exited_count")
+                ),
+                dailyArgs.toArray()
+        );
+
+        List<WasteStatusDashboardResponse.ServiceAreaCounts> serviceAreas = new ArrayList<>(countsByArea.size());
+        countsByArea.forEach((areaId, counts) -> serviceAreas.add(new WasteStatusDashboardResponse.ServiceAreaCounts(
+                areaId == NO_SERVICE_AREA_ID ? null : areaId,
+                counts
+        )));
+        return new WasteStatusDashboardResponse(
+                serviceAreaId,
+                resolvedFrom,
+                resolvedTo,
+                currentCounts,
+                serviceAreas,
+                daily
+        );
+    }
+
+    public WasteStatusCountRebuildResponse rebuild() {
+        long startedAt = System.nanoTime();
+        RebuildResult result = transactionTemplate.execute(status -> {
+            wasteStatusCounters.markRebuildCutoff();
+            return recompute();
+        });
+        return new WasteStatusCountRebuildResponse(
+                result.requestCount(),
+                result.transitionCount(),
+                result.rollupRowCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+        );
+    }
+
+    private RebuildResult recompute() {
+        ZoneId zoneId = wasteStatusCounterProperties.getZoneId();
+        Map<RollupKey, long[]> rollups = new HashMap<>();
+        long[] counts = {0L, 0L};
+
+        jdbcTemplate.query(
+                streaming("""
+                        SELECT w.service_area_id, w.created_at,
+                               COALESCE((
+                                   SELECT l.from_status
+                                   FROM waste_status_logs l
+                                   WHERE l.request_id = w.id
+                                   ORDER BY l.created_at ASC, l.id ASC
+                                   LIMIT 1
+                               ), w.status) AS initial_status
+                        FROM waste_requests w
+                        """),
+                rs -> {
+                    LocalDate statDate = toStatDate(rs.getTimestamp("created_at"), zoneId);
+                    long areaId = serviceAreaIdOf(rs);
+                    rollup(rollups, statDate, areaId, rs.getString("initial_status"))[0]++;
+                    counts[0]++;
+                }
+        );
+        jdbcTemplate.query(
+                streaming("""
+                        SELECT w.service_area_id, l.created_at, l.from_status, l.to_status
+                        FROM waste_status_logs l
+                        JOIN waste_requests w ON w.id = l.request_id
+                        """),
+                rs -> {
+                    LocalDate statDate = toStatDate(rs.getTimestamp("created_at"), zoneId);
+                    long areaId = serviceAreaIdOf(rs);
+                    String fromStatus = rs.getString("from_status");
+                    if (fromStatus != null) {
+                        rollup(rollups, statDate, areaId, fromStatus)[1]++;
+                    }
+                    rollup(rollups, statDate, areaId, rs.getString("to_status"))[0]++;
+                    counts[1]++;
+                }
+        );
+
+        jdbcTemplate.update("DELETE FROM waste_status_daily_counts");
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(Math.min(rollups.size(), REBUILD_INSERT_BATCH_SIZE));
+        for (Map.Entry<RollupKey, long[]> entry : rollups.entrySet()) {
+            rows.add(new Object[]{
+                    Date.valueOf(entry.getKey().statDate()),
+                    entry.getKey().serviceAreaId(),
+                    entry.getKey().status(),
+                    entry.getValue()[0],
+                    entry.getValue()[1],
+                    now
+            });
+            if (rows.size() == REBUILD_INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, rows);
+        }
+        return new RebuildResult(counts[0], counts[1], rollups.size());
+    }
+
+    private PreparedStatementCreator streaming(String sql) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(REBUILD_FETCH_SIZE);
+            return statement;
+        };
+    }
+
+    private static long[] rollup(Map<RollupKey, long[]> rollups, LocalDate statDate, long serviceAreaId, String status) {
+        return rollups.computeIfAbsent(new RollupKey(statDate, serviceAreaId, status), ignored -> new long[2]);
+    }
+
+    private static LocalDate toStatDate(Timestamp timestamp, ZoneId zoneId) {
+        return LocalDate.ofInstant(timestamp.toInstant(), zoneId);
+    }
+
+    private static long serviceAreaIdOf(ResultSet rs) throws SQLException {
+        long serviceAreaId = rs.getLong("service_area_id");
+        return rs.wasNull() ? NO_SERVICE_AREA_ID : serviceAreaId;
+    }
+
+    private record RollupKey(LocalDate statDate, long serviceAreaId, String status) {
+    }
+
+    private record RebuildResult(long requestCount, long transitionCount, int rollupRowCount) {
+    }
+}
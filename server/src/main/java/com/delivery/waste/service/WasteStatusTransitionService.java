@@ -12,6 +12,9 @@ import com.delivery.waste.repository.WasteStatusLogRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -30,24 +33,33 @@ public class WasteStatusTransitionService {
     private final WasteRequestRepository wasteRequestRepository;
     private final WasteStatusLogRepository wasteStatusLogRepository;
     private final UserRepository userRepository;
+    private final WasteStatusCounters wasteStatusCounters;
 
     public WasteStatusTransitionService(
             WasteRequestRepository wasteRequestRepository,
             WasteStatusLogRepository wasteStatusLogRepository,
-            UserRepository userRepository
+            UserRepository userRepository,
+            WasteStatusCounters wasteStatusCounters
     ) {
         this.wasteRequestRepository = wasteRequestRepository;
         this.wasteStatusLogRepository = wasteStatusLogRepository;
         this.userRepository = userRepository;
+        this.wasteStatusCounters = wasteStatusCounters;
     }
 
     @Transactional
     public WasteRequestEntity transition(Long requestId, String toStatus, String actorEmail) {
+        return transitionPath(requestId, List.of(toStatus), actorEmail);
+    }
+
+    @Transactional
+    public WasteRequestEntity transitionPath(Long requestId, List<String> path, String actorEmail) {
         WasteRequestEntity request = wasteRequestRepository.findById(requestId)
                 .orElseThrow(WasteRequestNotFoundException::new);
         UserEntity actor = userRepository.findByLoginId(actorEmail)
                 .orElseThrow(InvalidCredentialsException::new);
-        return transitionInternal(request, toStatus, actor);
+        validatePath(request.getStatus(), path);
+        return applyPath(request, path, actor);
     }
 
     @Transactional
@@ -56,27 +68,38 @@ public class WasteStatusTransitionService {
                 .orElseThrow(InvalidCredentialsException::new);
         WasteRequestEntity request = wasteRequestRepository.findByIdAndUser(requestId, actor)
                 .orElseThrow(WasteRequestNotFoundException::new);
-        return transitionInternal(request, toStatus, actor);
+        validatePath(request.getStatus(), List.of(toStatus));
+        return applyPath(request, List.of(toStatus), actor);
     }
 
-    private WasteRequestEntity transitionInternal(WasteRequestEntity request, String toStatus, UserEntity actor) {
+    private WasteRequestEntity applyPath(WasteRequestEntity request, List<String> path, UserEntity actor) {
         String fromStatus = request.getStatus();
-        validateTransition(fromStatus, toStatus);
+        request.changeStatus(path.get(path.size() - 1));
+        wasteRequestRepository.saveAndFlush(request);
 
-        request.changeStatus(toStatus);
-        wasteStatusLogRepository.save(new WasteStatusLogEntity(
-                request,
-                fromStatus,
-                toStatus,
-                actor
-        ));
+        Instant now = Instant.now();
+        List<WasteStatusLogEntity> logs = new ArrayList<>(path.size());
+        String previousStatus = fromStatus;
+        for (String toStatus : path) {
+            logs.add(new WasteStatusLogEntity(request, previousStatus, toStatus, actor));
+            wasteStatusCounters.recordTransition(request.getServiceAreaId(), previousStatus, toStatus, now);
+            previousStatus = toStatus;
+        }
+        wasteStatusLogRepository.saveAll(logs);
         return request;
     }
 
-    private void validateTransition(String fromStatus, String toStatus) {
-        Set<String> nextStatuses = ALLOWED_TRANSITIONS.get(fromStatus);
-        if (nextStatuses == null || !nextStatuses.contains(toStatus)) {
+    private void validatePath(String fromStatus, List<String> path) {
+        if (path == null || path.isEmpty()) {
             throw new WasteStatusTransitionConflictException();
         }
+        String currentStatus = fromStatus;
+        for (String toStatus : path) {
+            Set<String> nextStatuses = ALLOWED_TRANSITIONS.get(currentStatus);
+            if (toStatus == null || nextStatuses == null || !nextStatuses.contains(toStatus)) {
+                throw new WasteStatusTransitionConflictException();
+            }
+            currentStatus = toStatus;
+        }
     }
 }
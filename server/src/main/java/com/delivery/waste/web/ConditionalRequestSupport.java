@@ -0,0 +1,35 @@
+package com.delivery.waste.web;
+
+import org.springframework.http.ETag;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+final class ConditionalRequestSupport {
+
+    private ConditionalRequestSupport() {
+    }
+
+    static Predicate<String> matchesIfNoneMatch(String ifNoneMatch) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return eTag -> false;
+        }
+        List<ETag> candidates = ETag.parse(ifNoneMatch);
+        return eTag -> {
+            String current = opaqueTag(eTag);
+            return candidates.stream().anyMatch(candidate -> candidate.isWildcard() || opaqueTag(candidate.tag()).equals(current));
+        };
+    }
+
+    private static String opaqueTag(String tag) {
+        String opaque = tag.trim();
+        if (opaque.startsWith("W/")) {
+            opaque = opaque.substring(2);
+        }
+        if (opaque.length() >= 2 && opaque.startsWith("\"") && opaque.endsWith("\"")) {
+            opaque = opaque.substring(1, opaque.length() - 1);
+        }
+        return opaque;
+    }
+}
@@ -1,5 +1,6 @@
 package com.delivery.waste.web;
 
+import com.delivery.waste.dto.DriverAssignedWasteRequestPageResponse;
 import com.delivery.waste.dto.DriverAssignedWasteRequestResponse;
 import com.delivery.waste.dto.MeasureWasteRequest;
 import com.delivery.waste.dto.WasteRequestResponse;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -33,6 +35,21 @@ public class DriverWasteRequestController {
         return ResponseEntity.ok(driverWasteRequestService.getMyAssignedRequests(authentication.getName()));
     }
 
+    @GetMapping("/queue")
+    public ResponseEntity<DriverAssignedWasteRequestPageResponse> getMyWorkQueue(
+            Authentication authentication,
+            @RequestParam(required = false) String scope,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(driverWasteRequestService.getMyWorkQueue(
+                authentication.getName(),
+                scope,
+                cursor,
+                size
+        ));
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<DriverAssignedWasteRequestResponse> getMyAssignedRequest(
             Authentication authentication,
@@ -1,46 +1,158 @@
 package com.delivery.waste.web;
 
+import com.delivery.config.AsyncRequestTimeoutConfig;
 import com.delivery.waste.dto.AssignWasteRequest;
+import com.delivery.waste.dto.BulkAssignWasteRequest;
+import com.delivery.waste.dto.BulkAssignWasteResponse;
 import com.delivery.waste.dto.DriverAssignmentCandidateResponse;
+import com.delivery.waste.dto.OpsWasteRequestResponse;
+import com.delivery.waste.dto.WasteRequestDetailLookup;
 import com.delivery.waste.dto.WasteRequestDetailResponse;
 import com.delivery.waste.dto.WasteRequestResponse;
+import com.delivery.waste.dto.WasteRequestSearchResponse;
+import com.delivery.waste.dto.WasteRequestViewRebuildResponse;
+import com.delivery.waste.dto.WasteStatusCountRebuildResponse;
+import com.delivery.waste.dto.WasteStatusDashboardResponse;
+import com.delivery.waste.service.WasteRequestExportService;
 import com.delivery.waste.service.WasteRequestService;
+import com.delivery.waste.service.WasteRequestViewProjector;
+import com.delivery.waste.service.WasteStatusDashboardService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/ops-admin/waste-requests")
 public class OpsAdminWasteRequestController {
 
     private final WasteRequestService wasteRequestService;
+    private final WasteRequestExportService wasteRequestExportService;
+    private final WasteStatusDashboardService wasteStatusDashboardService;
+    private final WasteRequestViewProjector wasteRequestViewProjector;
 
-    public OpsAdminWasteRequestController(WasteRequestService wasteRequestService) {
+    public OpsAdminWasteRequestController(
+            WasteRequestService wasteRequestService,
+            WasteRequestExportService wasteRequestExportService,
+            WasteStatusDashboardService wasteStatusDashboardService,
+            WasteRequestViewProjector wasteRequestViewProjector
+    ) {
         this.wasteRequestService = wasteRequestService;
+        this.wasteRequestExportService = wasteRequestExportService;
+        this.wasteStatusDashboardService = wasteStatusDashboardService;
+        this.wasteRequestViewProjector = wasteRequestViewProjector;
     }
 
     @GetMapping
-    public ResponseEntity<Page<WasteRequestResponse>> getAll(
+    public ResponseEntity<Page<OpsWasteRequestResponse>> getAll(
             @RequestParam(required = false) String status,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         return ResponseEntity.ok(wasteRequestService.getAllForOps(status, pageable));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<WasteRequestSearchResponse> search(
+            @RequestParam(name = "status", required = false) List<String> statuses,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) Long driverId,
+            @RequestParam(required = false) Long serviceAreaId,
+            @RequestParam(required = false) String disposalItem,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(wasteRequestService.searchForOps(
+                statuses,
+                from,
+                to,
+                driverId,
+                serviceAreaId,
+                disposalItem,
+                cursor,
+                size
+        ));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request
+    ) {
+        WasteRequestExportService.ExportQuery query = wasteRequestExportService.prepare(format, status, from, to);
+        request.setAttribute(AsyncRequestTimeoutConfig.TIMEOUT_ATTRIBUTE, wasteRequestExportService.timeoutMillis());
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(query.format().contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("waste-requests." + query.format().extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(outputStream -> wasteRequestExportService.export(query, outputStream, gzip));
+    }
+
+    @GetMapping("/status-counts")
+    public ResponseEntity<WasteStatusDashboardResponse> getStatusCounts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long serviceAreaId
+    ) {
+        return ResponseEntity.ok(wasteStatusDashboardService.getDashboard(from, to, serviceAreaId));
+    }
+
+    @PostMapping("/status-counts/rebuild")
+    public ResponseEntity<WasteStatusCountRebuildResponse> rebuildStatusCounts() {
+        return ResponseEntity.ok(wasteStatusDashboardService.rebuild());
+    }
+
+    @PostMapping("/views/rebuild")
+    public ResponseEntity<WasteRequestViewRebuildResponse> rebuildViews() {
+        return ResponseEntity.ok(wasteRequestViewProjector.rebuild());
+    }
+
     @GetMapping("/{requestId}")
-    public ResponseEntity<WasteRequestDetailResponse> getDetail(@PathVariable Long requestId) {
-        return ResponseEntity.ok(wasteRequestService.getDetailForOps(requestId));
+    public ResponseEntity<WasteRequestDetailResponse> getDetail(
+            @PathVariable Long requestId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        WasteRequestDetailLookup lookup = wasteRequestService.getDetailForOps(
+                requestId,
+                ConditionalRequestSupport.matchesIfNoneMatch(ifNoneMatch)
+        );
+        if (lookup.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(lookup.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(lookup.eTag()).body(lookup.detail());
     }
 
     @GetMapping("/driver-candidates")
@@ -51,6 +163,14 @@ public class OpsAdminWasteRequestController {
         return ResponseEntity.ok(wasteRequestService.getDriverCandidatesForOps(query, pageable));
     }
 
+    @PostMapping("/batch-assign")
+    public ResponseEntity<BulkAssignWasteResponse> batchAssign(
+            Authentication authentication,
+            @Valid @RequestBody BulkAssignWasteRequest request
+    ) {
+        return ResponseEntity.ok(wasteRequestService.bulkAssignForOps(request, authentication.getName()));
+    }
+
     @PostMapping("/{requestId}/assign")
     public ResponseEntity<WasteRequestResponse> assign(
             Authentication authentication,
@@ -1,10 +1,12 @@
 package com.delivery.waste.web;
 
 import com.delivery.waste.dto.CreateWasteRequestRequest;
+import com.delivery.waste.dto.WasteRequestDetailLookup;
 import com.delivery.waste.dto.WasteRequestDetailResponse;
 import com.delivery.waste.dto.WasteRequestResponse;
 import com.delivery.waste.service.WasteRequestService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -44,9 +47,18 @@ public class WasteRequestController {
     @GetMapping("/{requestId}")
     public ResponseEntity<WasteRequestDetailResponse> getMyRequest(
             Authentication authentication,
-            @PathVariable Long requestId
+            @PathVariable Long requestId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return ResponseEntity.ok(wasteRequestService.getMyRequest(authentication.getName(), requestId));
+        WasteRequestDetailLookup lookup = wasteRequestService.getMyRequest(
+                authentication.getName(),
+                requestId,
+                ConditionalRequestSupport.matchesIfNoneMatch(ifNoneMatch)
+        );
+        if (lookup.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(lookup.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(lookup.eTag()).body(lookup.detail());
     }
 
     @PostMapping("/{requestId}/cancel")
@@ -4,11 +4,13 @@ import java.util.List;
 
 import com.delivery.auth.exception.DuplicateEmailException;
 import com.delivery.auth.exception.InvalidCredentialsException;
+import com.delivery.auth.exception.InvalidLoginAuditLogSearchException;
 import com.delivery.auth.exception.InvalidRefreshTokenException;
 import com.delivery.auth.exception.LoginIdentifierNotFoundException;
 import com.delivery.auth.exception.LoginPasswordMismatchException;
 import com.delivery.auth.exception.PhoneNumberUpdateNotAllowedException;
 import com.delivery.auth.exception.PhoneVerificationException;
+import com.delivery.auth.exception.PasswordHashingUnavailableException;
 import com.delivery.auth.exception.OpsAdminApplicationConflictException;
 import com.delivery.auth.exception.OpsAdminApplicationNotAllowedException;
 import com.delivery.auth.exception.OpsAdminApplicationNotFoundException;
@@ -26,7 +28,9 @@ import com.delivery.address.exception.AddressSearchTimeoutException;
 import com.delivery.address.exception.AddressSearchUnavailableException;
 import com.delivery.driver.exception.DriverApplicationNotFoundException;
 import com.delivery.driver.exception.DriverApplicationStatusConflictException;
+import com.delivery.payment.exception.InvalidPaymentListRequestException;
 import com.delivery.payment.exception.InvalidPaymentMethodRegistrationException;
+import com.delivery.payment.exception.PaymentBatchJobNotFoundException;
 import com.delivery.payment.exception.PaymentNotFoundException;
 import com.delivery.payment.exception.PaymentRetryConflictException;
 import com.delivery.notification.exception.NotificationAccessDeniedException;
@@ -40,7 +44,10 @@ import com.delivery.servicearea.exception.ServiceAreaUnavailableException;
 import com.delivery.useraddress.exception.UserAddressNotFoundException;
 import com.delivery.upload.exception.InvalidUploadFileException;
 import com.delivery.waste.exception.DriverRoleRequiredException;
+import com.delivery.waste.exception.InvalidDisposalItemException;
+import com.delivery.waste.exception.InvalidWasteRequestSearchException;
 import com.delivery.waste.exception.WasteRequestAccessDeniedException;
+import com.delivery.waste.exception.WasteRequestConcurrentModificationException;
 import com.delivery.waste.exception.WasteRequestNotFoundException;
 import com.delivery.waste.exception.WasteStatusTransitionConflictException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,6 +56,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.util.StringUtils;
@@ -470,6 +478,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(WasteRequestConcurrentModificationException.class)
+    public ResponseEntity<ApiErrorResponse> handleWasteRequestConcurrentModification(
+            WasteRequestConcurrentModificationException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                "WASTE_REQUEST_CONCURRENT_MODIFICATION",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(
+            ObjectOptimisticLockingFailureException exception,
+            HttpServletRequest request
+    ) {
+        return handleWasteRequestConcurrentModification(new WasteRequestConcurrentModificationException(), request);
+    }
+
     @ExceptionHandler(DriverRoleRequiredException.class)
     public ResponseEntity<ApiErrorResponse> handleDriverRoleRequired(
             DriverRoleRequiredException exception,
@@ -526,6 +556,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handlePasswordHashingUnavailable(
+            PasswordHashingUnavailableException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "AUTH_TEMPORARILY_UNAVAILABLE",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     @ExceptionHandler(AddressSearchUnavailableException.class)
     public ResponseEntity<ApiErrorResponse> handleAddressSearchUnavailable(
             AddressSearchUnavailableException exception,
@@ -554,6 +598,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(PaymentBatchJobNotFoundException.class)
+    public ResponseEntity<ApiErrorResponse> handlePaymentBatchJobNotFound(
+            PaymentBatchJobNotFoundException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.NOT_FOUND.value(),
+                "PAYMENT_BATCH_JOB_NOT_FOUND",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(InvalidPaymentListRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidPaymentListRequest(
+            InvalidPaymentListRequestException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_PAYMENT_LIST_REQUEST",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(PaymentRetryConflictException.class)
     public ResponseEntity<ApiErrorResponse> handlePaymentRetryConflict(
             PaymentRetryConflictException exception,
@@ -606,6 +678,48 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(InvalidLoginAuditLogSearchException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidLoginAuditLogSearch(
+            InvalidLoginAuditLogSearchException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_LOGIN_AUDIT_LOG_SEARCH",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(InvalidDisposalItemException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidDisposalItem(
+            InvalidDisposalItemException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_DISPOSAL_ITEM",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(InvalidWasteRequestSearchException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidWasteRequestSearch(
+            InvalidWasteRequestSearchException exception,
+            HttpServletRequest request
+    ) {
+        ApiErrorResponse response = ApiErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                "INVALID_WASTE_REQUEST_SEARCH",
+                exception.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(InvalidNotificationBroadcastRequestException.class)
     public ResponseEntity<ApiErrorResponse> handleInvalidNotificationBroadcastRequest(
             InvalidNotificationBroadcastRequestException exception,
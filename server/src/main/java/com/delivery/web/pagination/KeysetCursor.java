@@ -0,0 +1,45 @@
+package com.delivery.web.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public record KeysetCursor(Instant at, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = at.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor, Supplier<? extends RuntimeException> invalidCursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex <= 0) {
+                throw invalidCursor.get();
+            }
+            return new KeysetCursor(
+                    Instant.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw invalidCursor.get();
+        }
+    }
+
+    public static <T> String next(List<T> content, boolean hasNext, Function<T, KeysetCursor> position) {
+        if (!hasNext || content.isEmpty()) {
+            return null;
+        }
+        return position.apply(content.get(content.size() - 1)).encode();
+    }
+}
@@ -0,0 +1,98 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class V32__Backfill_disposal_item_codes extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        Map<String, Integer> catalog = new HashMap<>();
+        jdbcTemplate.query("SELECT id, code FROM disposal_item_catalog", rs -> {
+            catalog.put(rs.getString("code"), rs.getInt("id"));
+        });
+
+        long lastId = 0L;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    """
+                    SELECT id, disposal_items
+                    FROM waste_requests
+                    WHERE id > ?
+                    ORDER BY id
+                    LIMIT ?
+                    """,
+                    lastId,
+                    BATCH_SIZE
+            );
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                lastId = id;
+                String encoded = encode(jdbcTemplate, catalog, parse((String) row.get("disposal_items")));
+                if (!encoded.isEmpty()) {
+                    updates.add(new Object[]{encoded, id});
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE waste_requests SET disposal_item_codes = ? WHERE id = ?", updates);
+            }
+        }
+    }
+
+    private List<String> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            List<String> items = OBJECT_MAPPER.readValue(json, LIST_TYPE);
+            if (items == null) {
+                return List.of();
+            }
+            return items.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(item -> !item.isBlank())
+                    .toList();
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("배출품목 JSON 문자열을 역직렬화하지 못했습니다: " + json, exception);
+        }
+    }
+
+    private String encode(JdbcTemplate jdbcTemplate, Map<String, Integer> catalog, List<String> items) {
+        StringBuilder encoded = new StringBuilder();
+        for (String item : items) {
+            Integer id = catalog.get(item);
+            if (id == null) {
+                jdbcTemplate.update("INSERT INTO disposal_item_catalog (code) VALUES (?)", item);
+                id = jdbcTemplate.queryForObject("SELECT id FROM disposal_item_catalog WHERE code = ?", Integer.class, item);
+                catalog.put(item, id);
+            }
+            if (!encoded.isEmpty()) {
+                encoded.append(',');
+            }
+            encoded.append(id);
+        }
+        return encoded.toString();
+    }
+}
@@ -0,0 +1,2 @@
+ALTER TABLE users
+    ADD COLUMN security_epoch BIGINT NOT NULL DEFAULT 0;
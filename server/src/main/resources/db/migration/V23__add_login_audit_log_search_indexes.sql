@@ -0,0 +1,3 @@
+CREATE INDEX idx_login_audit_logs_created_at_id ON login_audit_logs (created_at, id);
+CREATE INDEX idx_login_audit_logs_identifier_created_at_id ON login_audit_logs (login_identifier, created_at, id);
+CREATE INDEX idx_login_audit_logs_result_created_at_id ON login_audit_logs (result, created_at, id);
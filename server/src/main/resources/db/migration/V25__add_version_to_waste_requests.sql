@@ -0,0 +1 @@
+ALTER TABLE waste_requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'waste_requests', COALESCE(MAX(id), 0) + 1 FROM waste_requests;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'waste_photos', COALESCE(MAX(id), 0) + 1 FROM waste_photos;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'waste_status_logs', COALESCE(MAX(id), 0) + 1 FROM waste_status_logs;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'notifications', COALESCE(MAX(id), 0) + 1 FROM notifications;
@@ -0,0 +1,7 @@
+ALTER TABLE waste_requests ADD COLUMN service_area_id BIGINT NULL;
+
+CREATE INDEX idx_waste_requests_created_at_id ON waste_requests (created_at, id);
+CREATE INDEX idx_waste_requests_status_created_at_id ON waste_requests (status, created_at, id);
+CREATE INDEX idx_waste_requests_service_area_created_at_id ON waste_requests (service_area_id, created_at, id);
+CREATE INDEX idx_waste_requests_service_area_status_created_at_id ON waste_requests (service_area_id, status, created_at, id);
+CREATE INDEX idx_waste_assignments_driver_request ON waste_assignments (driver_id, request_id);
@@ -0,0 +1 @@
+CREATE INDEX idx_waste_assignments_driver_assigned_at_id ON waste_assignments (driver_id, assigned_at, id);
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS driver_service_areas (
+    driver_id BIGINT NOT NULL,
+    service_area_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_driver_service_areas PRIMARY KEY (driver_id, service_area_id),
+    CONSTRAINT fk_driver_service_areas_driver FOREIGN KEY (driver_id) REFERENCES users (id),
+    CONSTRAINT fk_driver_service_areas_service_area
+        FOREIGN KEY (service_area_id) REFERENCES service_areas (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_driver_service_areas_service_area_driver
+    ON driver_service_areas (service_area_id, driver_id);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS disposal_item_catalog (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    code VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_disposal_item_catalog_code UNIQUE (code)
+);
+
+INSERT INTO disposal_item_catalog (code) VALUES ('GENERAL');
+INSERT INTO disposal_item_catalog (code) VALUES ('BOX');
+INSERT INTO disposal_item_catalog (code) VALUES ('RECYCLE');
+
+ALTER TABLE waste_requests
+    ADD COLUMN disposal_item_codes VARCHAR(1000) NOT NULL DEFAULT '';
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS waste_status_daily_counts (
+    stat_date DATE NOT NULL,
+    service_area_id BIGINT NOT NULL DEFAULT 0,
+    status VARCHAR(30) NOT NULL,
+    entered_count BIGINT NOT NULL DEFAULT 0,
+    exited_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (stat_date, service_area_id, status)
+);
+
+CREATE INDEX idx_waste_status_daily_counts_area_status
+    ON waste_status_daily_counts (service_area_id, status);
@@ -0,0 +1,65 @@
+CREATE TABLE IF NOT EXISTS waste_request_views (
+    request_id BIGINT PRIMARY KEY,
+    order_no VARCHAR(32),
+    user_id BIGINT NOT NULL,
+    requester_name VARCHAR(100),
+    address VARCHAR(255) NOT NULL,
+    contact_phone VARCHAR(30) NOT NULL,
+    note VARCHAR(1000),
+    disposal_item_codes VARCHAR(1000) NOT NULL DEFAULT '',
+    bag_count INT NOT NULL DEFAULT 0,
+    status VARCHAR(30) NOT NULL,
+    status_changed_at TIMESTAMP NOT NULL,
+    service_area_id BIGINT,
+    service_area_name VARCHAR(302),
+    driver_id BIGINT,
+    driver_name VARCHAR(100),
+    assigned_at TIMESTAMP NULL,
+    measured_weight_kg DECIMAL(10,3),
+    measured_at TIMESTAMP NULL,
+    measured_by_driver_id BIGINT,
+    final_amount BIGINT,
+    currency VARCHAR(3) NOT NULL DEFAULT 'KRW',
+    payment_id BIGINT,
+    payment_status VARCHAR(20),
+    payment_updated_at TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    synced_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_waste_request_views_created
+    ON waste_request_views (created_at, request_id);
+
+CREATE INDEX idx_waste_request_views_status_created
+    ON waste_request_views (status, created_at, request_id);
+
+CREATE INDEX idx_waste_request_views_area_created
+    ON waste_request_views (service_area_id, created_at, request_id);
+
+CREATE INDEX idx_waste_request_views_driver_created
+    ON waste_request_views (driver_id, created_at, request_id);
+
+CREATE INDEX idx_waste_request_views_payment_status
+    ON waste_request_views (payment_status, created_at, request_id);
+
+INSERT INTO waste_request_views (
+    request_id, order_no, user_id, requester_name, address, contact_phone, note, disposal_item_codes, bag_count,
+    status, status_changed_at, service_area_id, service_area_name, driver_id, driver_name, assigned_at,
+    measured_weight_kg, measured_at, measured_by_driver_id, final_amount, currency,
+    payment_id, payment_status, payment_updated_at, created_at, updated_at, synced_at
+)
+SELECT w.id, w.order_no, w.user_id, u.display_name, w.address, w.contact_phone, w.note, w.disposal_item_codes, w.bag_count,
+       w.status,
+       COALESCE((SELECT MAX(l.created_at) FROM waste_status_logs l WHERE l.request_id = w.id), w.created_at),
+       w.service_area_id,
+       CASE WHEN s.id IS NULL THEN NULL ELSE CONCAT(s.city, ' ', s.district, ' ', s.dong) END,
+       a.driver_id, d.display_name, a.assigned_at,
+       w.measured_weight_kg, w.measured_at, w.measured_by_driver_id, w.final_amount, w.currency,
+       p.id, p.status, p.updated_at, w.created_at, w.updated_at, CURRENT_TIMESTAMP
+FROM waste_requests w
+JOIN users u ON u.id = w.user_id
+LEFT JOIN service_areas s ON s.id = w.service_area_id
+LEFT JOIN waste_assignments a ON a.request_id = w.id
+LEFT JOIN users d ON d.id = a.driver_id
+LEFT JOIN payments p ON p.waste_request_id = w.id;
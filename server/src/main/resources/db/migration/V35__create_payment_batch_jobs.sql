@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS payment_batch_jobs (
+    id BIGINT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    requested_by VARCHAR(191) NOT NULL,
+    requested_count INT NOT NULL DEFAULT 0,
+    locked_until TIMESTAMP NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_payment_batch_jobs_status_locked ON payment_batch_jobs (status, locked_until);
+
+CREATE TABLE IF NOT EXISTS payment_batch_job_items (
+    job_id BIGINT NOT NULL,
+    seq INT NOT NULL,
+    waste_request_id BIGINT NOT NULL,
+    payment_id BIGINT NOT NULL,
+    result VARCHAR(20) NULL,
+    waste_status VARCHAR(30) NULL,
+    payment_status VARCHAR(20) NULL,
+    message VARCHAR(500) NULL,
+    processed_at TIMESTAMP NULL,
+    PRIMARY KEY (job_id, seq),
+    CONSTRAINT fk_payment_batch_job_items_job FOREIGN KEY (job_id) REFERENCES payment_batch_jobs (id)
+);
+
+CREATE INDEX idx_payment_batch_job_items_job_result ON payment_batch_job_items (job_id, result);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+VALUES ('payment_batch_jobs', 1);
@@ -0,0 +1 @@
+ALTER TABLE payments ADD COLUMN charge_attempts INT NOT NULL DEFAULT 0;
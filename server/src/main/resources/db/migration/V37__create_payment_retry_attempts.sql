@@ -0,0 +1,22 @@
+ALTER TABLE payments ADD COLUMN retry_attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE payments ADD COLUMN next_retry_at TIMESTAMP NULL;
+ALTER TABLE payments ADD COLUMN retry_locked_until TIMESTAMP NULL;
+
+CREATE INDEX idx_payments_status_next_retry ON payments (status, next_retry_at);
+
+CREATE TABLE IF NOT EXISTS payment_retry_attempts (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    payment_id BIGINT NOT NULL,
+    waste_request_id BIGINT NOT NULL,
+    attempt_no INT NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    failure_code VARCHAR(100),
+    failure_message VARCHAR(1000),
+    next_retry_at TIMESTAMP NULL,
+    node_id VARCHAR(191) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_payment_retry_attempts_payment FOREIGN KEY (payment_id) REFERENCES payments (id)
+);
+
+CREATE INDEX idx_payment_retry_attempts_request ON payment_retry_attempts (waste_request_id, id);
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS waste_status_counter_state (
+    id INT NOT NULL,
+    rebuilt_before TIMESTAMP NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO waste_status_counter_state (id, rebuilt_before) VALUES (1, NULL);
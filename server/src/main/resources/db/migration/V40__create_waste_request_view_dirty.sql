@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS waste_request_view_dirty (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    request_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
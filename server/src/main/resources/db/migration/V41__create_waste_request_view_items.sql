@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS waste_request_view_items (
+    item_id INT NOT NULL,
+    request_id BIGINT NOT NULL,
+    PRIMARY KEY (item_id, request_id)
+);
+
+CREATE INDEX idx_waste_request_view_items_request
+    ON waste_request_view_items (request_id);
+
+INSERT INTO waste_request_view_dirty (request_id, created_at)
+SELECT request_id, CURRENT_TIMESTAMP FROM waste_request_views;
@@ -22,6 +22,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -89,6 +91,57 @@ class DriverWasteRequestIntegrationTest {
                 .andExpect(jsonPath("$.address").value("Seoul Mapo 1"));
     }
 
+    @Test
+    void driverWorkQueuePagesActiveAndHistoryAssignmentsByCursor() throws Exception {
+        UserEntity requester = createUser("driver-queue-requester@example.com", "USER");
+        UserEntity driver = createUser("driver-queue-driver@example.com", "DRIVER");
+        UserEntity otherDriver = createUser("driver-queue-other-driver@example.com", "DRIVER");
+        WasteRequestEntity oldest = createAssignedRequest(requester, driver, "Seoul Queue 1", "2026-01-01T09:00:00Z");
+        WasteRequestEntity middle = createAssignedRequest(requester, driver, "Seoul Queue 2", "2026-01-02T09:00:00Z");
+        WasteRequestEntity newest = createAssignedRequest(requester, driver, "Seoul Queue 3", "2026-01-03T09:00:00Z");
+        WasteRequestEntity completed = createAssignedRequest(requester, driver, "Seoul Queue 4", "2026-01-04T09:00:00Z");
+        completed.changeStatus("COMPLETED");
+        wasteRequestRepository.save(completed);
+        createAssignedRequest(requester, otherDriver, "Seoul Queue 5", "2026-01-05T09:00:00Z");
+        String driverToken = login(driver.getEmail());
+
+        String firstPage = mockMvc.perform(get("/driver/waste-requests/queue")
+                        .header("Authorization", "Bearer " + driverToken)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].requestId").value(newest.getId()))
+                .andExpect(jsonPath("$.content[1].requestId").value(middle.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/driver/waste-requests/queue")
+                        .header("Authorization", "Bearer " + driverToken)
+                        .param("size", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].requestId").value(oldest.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mockMvc.perform(get("/driver/waste-requests/queue")
+                        .header("Authorization", "Bearer " + driverToken)
+                        .param("scope", "history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].requestId").value(completed.getId()))
+                .andExpect(jsonPath("$.content[0].status").value("COMPLETED"));
+
+        mockMvc.perform(get("/driver/waste-requests/queue")
+                        .header("Authorization", "Bearer " + driverToken)
+                        .param("scope", "ALL"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+    }
+
     @Test
     void driverCannotGetOtherDriversAssignedDetail() throws Exception {
         UserEntity requester = createUser("driver-waste-other-requester@example.com", "USER");
@@ -217,6 +270,21 @@ class DriverWasteRequestIntegrationTest {
         return updated;
     }
 
+    private WasteRequestEntity createAssignedRequest(
+            UserEntity requester,
+            UserEntity driver,
+            String address,
+            String assignedAt
+    ) {
+        WasteRequestEntity request = createAssignedRequest(requester, driver, address);
+        jdbcTemplate.update(
+                "UPDATE waste_assignments SET assigned_at = ? WHERE request_id = ?",
+                Timestamp.from(Instant.parse(assignedAt)),
+                request.getId()
+        );
+        return request;
+    }
+
     private UserEntity createUser(String email, String roleCode) {
         UserEntity user = userRepository.save(new UserEntity(
                 email,
@@ -0,0 +1,182 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginAuditLogSearchIntegrationTest {
+
+    private static final String FROM = "2020-03-01T00:00:00Z";
+    private static final String TO = "2020-04-01T00:00:00Z";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUpRoles() {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", "OPS_ADMIN", "운영 관리자");
+    }
+
+    @Test
+    void searchPagesByCreatedAtAndIdCursorWithinTimeWindow() throws Exception {
+        String accessToken = createOpsAdminToken("audit-search-ops@example.com");
+        createLoginAuditLog("keyset-user-a@example.com", "SUCCESS", "2020-03-10T10:00:00Z");
+        createLoginAuditLog("keyset-user-a@example.com", "PASSWORD_MISMATCH", "2020-03-11T10:00:00Z");
+        createLoginAuditLog("keyset-user-b@example.com", "SUCCESS", "2020-03-11T10:00:00Z");
+        createLoginAuditLog("keyset-user-b@example.com", "SUCCESS", "2020-03-12T10:00:00Z");
+        createLoginAuditLog("keyset-other@example.com", "SUCCESS", "2020-03-12T11:00:00Z");
+        createLoginAuditLog("keyset-user-a@example.com", "SUCCESS", "2020-04-02T10:00:00Z");
+
+        List<Long> ids = new ArrayList<>();
+        List<String> createdAts = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = search(accessToken, "&identifier=keyset-user&size=3" + (cursor == null ? "" : "&cursor=" + cursor));
+            page.get("content").forEach(item -> {
+                ids.add(item.get("id").asLong());
+                createdAts.add(item.get("createdAt").asText());
+            });
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(2);
+        assertThat(ids).hasSize(4).doesNotHaveDuplicates();
+        assertThat(createdAts.get(0)).startsWith("2020-03-12T10:00");
+        assertThat(createdAts.get(1)).startsWith("2020-03-11T10:00");
+        assertThat(createdAts.get(2)).startsWith("2020-03-11T10:00");
+        assertThat(ids.get(1)).isGreaterThan(ids.get(2));
+        assertThat(createdAts.get(3)).startsWith("2020-03-10T10:00");
+    }
+
+    @Test
+    void searchSupportsExactIdentifierAndResultFilter() throws Exception {
+        String accessToken = createOpsAdminToken("audit-search-exact-ops@example.com");
+        createLoginAuditLog("exact-user@example.com", "SUCCESS", "2020-03-05T10:00:00Z");
+        createLoginAuditLog("exact-user@example.com", "PASSWORD_MISMATCH", "2020-03-06T10:00:00Z");
+        createLoginAuditLog("exact-user@example.com.extra", "SUCCESS", "2020-03-07T10:00:00Z");
+
+        JsonNode exact = search(accessToken, "&identifier=exact-user@example.com&match=EXACT");
+        assertThat(exact.get("content")).hasSize(2);
+        assertThat(exact.get("hasNext").asBoolean()).isFalse();
+
+        JsonNode exactSuccess = search(accessToken, "&identifier=exact-user@example.com&match=EXACT&result=success");
+        assertThat(exactSuccess.get("content")).hasSize(1);
+        assertThat(exactSuccess.get("content").get(0).get("result").asText()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    void searchRequiresTimeWindow() throws Exception {
+        String accessToken = createOpsAdminToken("audit-search-window-ops@example.com");
+
+        mockMvc.perform(get("/ops-admin/login-audit-logs/search")
+                        .param("identifier", "anyone")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_LOGIN_AUDIT_LOG_SEARCH"));
+
+        mockMvc.perform(get("/ops-admin/login-audit-logs/search")
+                        .param("from", "2020-01-01T00:00:00Z")
+                        .param("to", "2021-01-01T00:00:00Z")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_LOGIN_AUDIT_LOG_SEARCH"));
+    }
+
+    private JsonNode search(String accessToken, String query) throws Exception {
+        String response = mockMvc.perform(get("/ops-admin/login-audit-logs/search?from=" + FROM + "&to=" + TO + query)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private String createOpsAdminToken(String email) throws Exception {
+        String password = "password123";
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode(password),
+                "감사로그검색",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                "OPS_ADMIN"
+        );
+        String loginResponse = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginPayload(email, password))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(loginResponse).get("accessToken").asText();
+    }
+
+    private void createLoginAuditLog(String identifier, String result, String createdAt) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO login_audit_logs (login_identifier, ip_address, user_agent, result, created_at)
+                VALUES (?, ?, ?, ?, ?)
+                """,
+                identifier,
+                "127.0.0.1",
+                "JUnit",
+                result,
+                Timestamp.from(Instant.parse(createdAt))
+        );
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+}
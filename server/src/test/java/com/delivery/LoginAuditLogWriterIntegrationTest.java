@@ -0,0 +1,124 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.service.LoginAuditLogWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.auth.login-audit.async-enabled=true",
+        "app.auth.login-audit.queue-capacity=2",
+        "app.auth.login-audit.batch-size=100",
+        "app.auth.login-audit.flush-interval-millis=600000",
+        "app.auth.login-audit.overflow-policy=CALLER_RUNS"
+})
+class LoginAuditLogWriterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LoginAuditLogWriter loginAuditLogWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void drainQueue() {
+        loginAuditLogWriter.flush();
+    }
+
+    @Test
+    void loginAuditsAreQueuedAndBatchInsertedOnFlush() throws Exception {
+        String email = "login-audit-async@example.com";
+        createUser(email);
+        double callerRunsBefore = overflowCount("CALLER_RUNS");
+
+        for (int i = 0; i < 3; i++) {
+            login(email);
+        }
+
+        assertThat(countAuditLogs(email)).isEqualTo(1);
+        assertThat(loginAuditLogWriter.queueDepth()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.login_audit.queue.depth").gauge().value()).isEqualTo(2.0);
+        assertThat(overflowCount("CALLER_RUNS") - callerRunsBefore).isEqualTo(1.0);
+
+        assertThat(loginAuditLogWriter.flush()).isEqualTo(2);
+
+        assertThat(countAuditLogs(email)).isEqualTo(3);
+        assertThat(loginAuditLogWriter.queueDepth()).isZero();
+        assertThat(meterRegistry.get("auth.login_audit.flush").timer().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    private void createUser(String email) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "감사로그",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+    }
+
+    private void login(String email) throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginPayload(email, "password123"))))
+                .andExpect(status().isOk());
+    }
+
+    private int countAuditLogs(String identifier) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_audit_logs WHERE login_identifier = ? AND result = 'SUCCESS'",
+                Integer.class,
+                identifier
+        );
+        return count == null ? 0 : count;
+    }
+
+    private double overflowCount(String policy) {
+        return meterRegistry.get("auth.login_audit.overflow")
+                .tag("policy", policy)
+                .counter()
+                .count();
+    }
+
+    private record LoginPayload(String id, String password) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminDispatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+        upsertRole("DRIVER", "기사");
+    }
+
+    @Test
+    void dryRunPlansWithoutWritingAndRunAssignsByAreaAndLoad() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        long coveredArea = createServiceArea("DispatchCity-" + suffix, "마포구", "서교동");
+        long sameDistrictArea = createServiceArea("DispatchCity-" + suffix, "마포구", "합정동");
+        long otherDistrictArea = createServiceArea("DispatchCity-" + suffix, "강남구", "역삼동");
+        UserEntity requester = createUser("dispatch-requester-" + suffix + "@example.com", "USER");
+        UserEntity firstDriver = createUser("dispatch-driver-a-" + suffix + "@example.com", "DRIVER");
+        UserEntity secondDriver = createUser("dispatch-driver-b-" + suffix + "@example.com", "DRIVER");
+        String opsToken = login("dispatch-ops-" + suffix + "@example.com", "OPS_ADMIN");
+
+        replaceServiceAreas(opsToken, firstDriver.getId(), List.of(coveredArea));
+        replaceServiceAreas(opsToken, secondDriver.getId(), List.of(coveredArea));
+        mockMvc.perform(get("/ops-admin/dispatch/drivers/{driverId}/service-areas", firstDriver.getId())
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.serviceAreas[0].id").value(coveredArea));
+
+        Long first = createRequest(requester, coveredArea, "2000-01-01T00:00:01Z");
+        Long second = createRequest(requester, coveredArea, "2000-01-01T00:00:02Z");
+        Long third = createRequest(requester, coveredArea, "2000-01-01T00:00:03Z");
+        Long fallback = createRequest(requester, sameDistrictArea, "2000-01-01T00:00:04Z");
+        Long unmatched = createRequest(requester, otherDistrictArea, "2000-01-01T00:00:05Z");
+
+        JsonNode dryRun = run(opsToken, true);
+        Map<Long, JsonNode> planned = decisionsById(dryRun);
+        assertThat(dryRun.get("dryRun").asBoolean()).isTrue();
+        assertThat(planned.get(first).get("result").asText()).isEqualTo("PLANNED");
+        assertThat(planned.get(fallback).get("matchType").asText()).isEqualTo("DISTRICT");
+        assertThat(planned.get(unmatched).get("result").asText()).isEqualTo("NO_DRIVER");
+        assertThat(countAssignments(List.of(first, second, third, fallback))).isZero();
+        assertThat(wasteRequestRepository.findById(first).orElseThrow().getStatus()).isEqualTo("REQUESTED");
+
+        JsonNode realRun = run(opsToken, false);
+        Map<Long, JsonNode> applied = decisionsById(realRun);
+        assertThat(applied.get(first).get("result").asText()).isEqualTo("ASSIGNED");
+        assertThat(applied.get(first).get("driverId").asLong()).isEqualTo(firstDriver.getId());
+        assertThat(applied.get(second).get("driverId").asLong()).isEqualTo(secondDriver.getId());
+        assertThat(applied.get(third).get("driverId").asLong()).isEqualTo(firstDriver.getId());
+        assertThat(applied.get(fallback).get("driverId").asLong()).isEqualTo(secondDriver.getId());
+        assertThat(applied.get(unmatched).get("result").asText()).isEqualTo("NO_DRIVER");
+        assertThat(realRun.get("decisionLatencyMaxNanos").asLong()).isPositive();
+
+        assertThat(countAssignments(List.of(first, second, third, fallback))).isEqualTo(4);
+        assertThat(wasteRequestRepository.findById(first).orElseThrow().getStatus()).isEqualTo("ASSIGNED");
+        assertThat(wasteRequestRepository.findById(unmatched).orElseThrow().getStatus()).isEqualTo("REQUESTED");
+        assertThat(jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*) FROM waste_assignment_audit_logs
+                WHERE request_id IN (?, ?, ?, ?) AND action = 'AUTO_ASSIGNED' AND from_driver_id IS NULL
+                """,
+                Integer.class,
+                first, second, third, fallback
+        )).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*) FROM waste_status_logs
+                WHERE request_id IN (?, ?, ?, ?) AND from_status = 'REQUESTED' AND to_status = 'ASSIGNED'
+                """,
+                Integer.class,
+                first, second, third, fallback
+        )).isEqualTo(4);
+
+        JsonNode secondRun = run(opsToken, false);
+        assertThat(decisionsById(secondRun)).doesNotContainKeys(first, second, third, fallback);
+    }
+
+    @Test
+    void replaceServiceAreasRejectsNonDriverAndUnknownArea() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserEntity user = createUser("dispatch-non-driver-" + suffix + "@example.com", "USER");
+        UserEntity driver = createUser("dispatch-driver-" + suffix + "@example.com", "DRIVER");
+        String opsToken = login("dispatch-area-ops-" + suffix + "@example.com", "OPS_ADMIN");
+
+        mockMvc.perform(put("/ops-admin/dispatch/drivers/{driverId}/service-areas", user.getId())
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"serviceAreaIds\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("DRIVER_ROLE_REQUIRED"));
+
+        mockMvc.perform(put("/ops-admin/dispatch/drivers/{driverId}/service-areas", driver.getId())
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"serviceAreaIds\":[999999999]}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("SERVICE_AREA_NOT_FOUND"));
+    }
+
+    @Test
+    void userCannotRunDispatch() throws Exception {
+        String userToken = login("dispatch-normal-user-" + UUID.randomUUID() + "@example.com", "USER");
+
+        mockMvc.perform(post("/ops-admin/dispatch/runs")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode run(String accessToken, boolean dryRun) throws Exception {
+        String response = mockMvc.perform(post("/ops-admin/dispatch/runs")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("dryRun", String.valueOf(dryRun))
+                        .param("limit", "1000"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private Map<Long, JsonNode> decisionsById(JsonNode runResponse) {
+        Map<Long, JsonNode> decisions = new HashMap<>();
+        runResponse.get("decisions").forEach(item -> decisions.put(item.get("requestId").asLong(), item));
+        return decisions;
+    }
+
+    private void replaceServiceAreas(String accessToken, Long driverId, List<Long> serviceAreaIds) throws Exception {
+        mockMvc.perform(put("/ops-admin/dispatch/drivers/{driverId}/service-areas", driverId)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("serviceAreaIds", serviceAreaIds))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.driverId").value(driverId));
+    }
+
+    private int countAssignments(List<Long> requestIds) {
+        return requestIds.stream()
+                .mapToInt(id -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM waste_assignments WHERE request_id = ?",
+                        Integer.class,
+                        id
+                ))
+                .sum();
+    }
+
+    private long createServiceArea(String city, String district, String dong) {
+        jdbcTemplate.update(
+                "INSERT INTO service_areas (city, district, dong, is_active) VALUES (?, ?, ?, true)",
+                city,
+                district,
+                dong
+        );
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM service_areas WHERE city = ? AND district = ? AND dong = ?",
+                Long.class,
+                city,
+                district,
+                dong
+        );
+    }
+
+    private Long createRequest(UserEntity requester, long serviceAreaId, String createdAt) {
+        WasteRequestEntity request = new WasteRequestEntity(
+                requester,
+                "서울시 배차구 1",
+                "010-1111-2222",
+                null,
+                "REQUESTED",
+                "KRW"
+        );
+        request.assignServiceArea(serviceAreaId);
+        Long id = wasteRequestRepository.save(request).getId();
+        jdbcTemplate.update(
+                "UPDATE waste_requests SET created_at = ? WHERE id = ?",
+                Timestamp.from(Instant.parse(createdAt)),
+                id
+        );
+        return id;
+    }
+
+    private UserEntity createUser(String email, String roleCode) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                email,
+                passwordEncoder.encode("password123"),
+                "배차테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                roleCode
+        );
+        return user;
+    }
+
+    private String login(String email, String roleCode) throws Exception {
+        createUser(email, roleCode);
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+}
@@ -0,0 +1,307 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.payment.service.PaymentBatchJobService;
+import com.delivery.waste.entity.WasteAssignmentEntity;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteAssignmentRepository;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminPaymentBatchJobIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteAssignmentRepository wasteAssignmentRepository;
+
+    @Autowired
+    private PaymentBatchJobService paymentBatchJobService;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "General User");
+        upsertRole("DRIVER", "Driver");
+        upsertRole("OPS_ADMIN", "Ops Admin");
+    }
+
+    @Test
+    void opsAdminCanStartBatchJobAndPollProgressAndResults() throws Exception {
+        UserEntity requesterSuccess = createUser("payment-job-user-success@example.com", "USER");
+        UserEntity requesterFailure = createUser("payment-job-user-failure@example.com", "USER");
+        UserEntity driver = createUser("payment-job-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("payment-job-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity successRequest = createAssignedRequest(requesterSuccess, driver);
+        WasteRequestEntity failedRequest = createAssignedRequest(requesterFailure, driver);
+
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, successRequest.getId(), "4.000", "/uploads/files/payment-job-1.jpg");
+        measure(driverToken, failedRequest.getId(), "6.000", "/uploads/files/payment-job-2.jpg");
+        createActivePaymentMethod(requesterSuccess);
+
+        String batchBody = objectMapper.writeValueAsString(new PendingBatchPayload(
+                List.of(successRequest.getId(), failedRequest.getId(), successRequest.getId())
+        ));
+
+        String response = mockMvc.perform(post("/ops-admin/payments/pending/batch-jobs")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchBody))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.requestedBy").value(opsAdmin.getEmail()))
+                .andExpect(jsonPath("$.requestedCount").value(2))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long jobId = objectMapper.readTree(response).get("jobId").asLong();
+
+        mockMvc.perform(get("/ops-admin/payments/pending/batch-jobs/{jobId}", jobId)
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.processedCount").value(2))
+                .andExpect(jsonPath("$.succeededCount").value(1))
+                .andExpect(jsonPath("$.failedCount").value(1))
+                .andExpect(jsonPath("$.skippedCount").value(0))
+                .andExpect(jsonPath("$.completedAt").isNotEmpty());
+
+        mockMvc.perform(get("/ops-admin/payments/pending/batch-jobs/{jobId}/results", jobId)
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(2))
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[?(@.wasteRequestId == " + successRequest.getId() + ")].result")
+                        .value("SUCCEEDED"))
+                .andExpect(jsonPath("$.results[?(@.wasteRequestId == " + failedRequest.getId() + ")].wasteStatus")
+                        .value("PAYMENT_FAILED"));
+
+        assertThat(readRequestStatus(successRequest.getId())).isEqualTo("COMPLETED");
+        assertThat(readRequestStatus(failedRequest.getId())).isEqualTo("PAYMENT_FAILED");
+    }
+
+    @Test
+    void interruptedJobResumesOnlyUnprocessedItemsAfterLeaseExpires() throws Exception {
+        UserEntity requesterDone = createUser("payment-job-resume-done@example.com", "USER");
+        UserEntity requesterLeft = createUser("payment-job-resume-left@example.com", "USER");
+        UserEntity driver = createUser("payment-job-resume-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("payment-job-resume-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity doneRequest = createAssignedRequest(requesterDone, driver);
+        WasteRequestEntity leftRequest = createAssignedRequest(requesterLeft, driver);
+
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, doneRequest.getId(), "2.000", "/uploads/files/payment-job-resume-1.jpg");
+        measure(driverToken, leftRequest.getId(), "3.000", "/uploads/files/payment-job-resume-2.jpg");
+        createActivePaymentMethod(requesterLeft);
+
+        long jobId = 900_000_001L;
+        Timestamp expiredLease = Timestamp.from(Instant.now().minusSeconds(60));
+        jdbcTemplate.update(
+                """
+                INSERT INTO payment_batch_jobs (id, status, requested_by, requested_count, locked_until)
+                VALUES (?, 'RUNNING', ?, 2, ?)
+                """,
+                jobId,
+                opsAdmin.getEmail(),
+                expiredLease
+        );
+        jdbcTemplate.update(
+                """
+                INSERT INTO payment_batch_job_items
+                    (job_id, seq, waste_request_id, payment_id, result, waste_status, payment_status, processed_at)
+                VALUES (?, 1, ?, ?, 'SUCCEEDED', 'COMPLETED', 'SUCCEEDED', ?)
+                """,
+                jobId,
+                doneRequest.getId(),
+                readPaymentId(doneRequest.getId()),
+                expiredLease
+        );
+        jdbcTemplate.update(
+                "INSERT INTO payment_batch_job_items (job_id, seq, waste_request_id, payment_id) VALUES (?, 2, ?, ?)",
+                jobId,
+                leftRequest.getId(),
+                readPaymentId(leftRequest.getId())
+        );
+
+        assertThat(paymentBatchJobService.resumePendingJobs()).isGreaterThanOrEqualTo(1);
+
+        mockMvc.perform(get("/ops-admin/payments/pending/batch-jobs/{jobId}", jobId)
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.processedCount").value(2))
+                .andExpect(jsonPath("$.succeededCount").value(2));
+
+        assertThat(readRequestStatus(leftRequest.getId())).isEqualTo("COMPLETED");
+        assertThat(readRequestStatus(doneRequest.getId())).isEqualTo("PAYMENT_PENDING");
+    }
+
+    @Test
+    void unknownBatchJobReturnsNotFound() throws Exception {
+        UserEntity opsAdmin = createUser("payment-job-missing-admin@example.com", "OPS_ADMIN");
+        String opsToken = login(opsAdmin.getEmail());
+
+        mockMvc.perform(get("/ops-admin/payments/pending/batch-jobs/{jobId}", 987_654_321L)
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("PAYMENT_BATCH_JOB_NOT_FOUND"));
+    }
+
+    private void measure(String driverToken, Long requestId, String measuredWeightKg, String photoUrl) throws Exception {
+        String measureBody = objectMapper.writeValueAsString(new MeasurePayload(
+                new BigDecimal(measuredWeightKg),
+                List.of(photoUrl)
+        ));
+
+        mockMvc.perform(post("/driver/waste-requests/{requestId}/measure", requestId)
+                        .header("Authorization", "Bearer " + driverToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(measureBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAYMENT_PENDING"));
+    }
+
+    private String readRequestStatus(Long requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM waste_requests WHERE id = ?",
+                String.class,
+                requestId
+        );
+    }
+
+    private Long readPaymentId(Long requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM payments WHERE waste_request_id = ?",
+                Long.class,
+                requestId
+        );
+    }
+
+    private WasteRequestEntity createAssignedRequest(UserEntity requester, UserEntity driver) {
+        WasteRequestEntity request = wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "Seoul Payment Batch Job",
+                "010-2000-4000",
+                null,
+                "REQUESTED",
+                "KRW"
+        ));
+        request.changeStatus("ASSIGNED");
+        WasteRequestEntity updated = wasteRequestRepository.save(request);
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(updated, driver));
+        return updated;
+    }
+
+    private UserEntity createUser(String email, String roleCode) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "Payment Batch Job Test",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        assignRole(user.getId(), roleCode);
+        return user;
+    }
+
+    private String login(String email) throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private void assignRole(Long userId, String roleCode) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id
+                FROM roles
+                WHERE code = ?
+                """,
+                userId,
+                roleCode
+        );
+    }
+
+    private void createActivePaymentMethod(UserEntity user) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO payment_methods (user_id, provider, customer_key, billing_key_or_token, status)
+                VALUES (?, 'TOSS', ?, ?, 'ACTIVE')
+                """,
+                user.getId(),
+                "delivery_user_" + user.getId() + "_cccccccccccccccccccccccccccccccc",
+                "batch-job-billing-token"
+        );
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+
+    private record MeasurePayload(BigDecimal measuredWeightKg, List<String> photoUrls) {
+    }
+
+    private record PendingBatchPayload(List<Long> wasteRequestIds) {
+    }
+}
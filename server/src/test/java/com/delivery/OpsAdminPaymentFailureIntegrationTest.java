@@ -21,6 +21,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -151,6 +153,68 @@ class OpsAdminPaymentFailureIntegrationTest {
         assertThat(readPaymentStatus(request.getId())).isEqualTo("SUCCEEDED");
     }
 
+    @Test
+    void opsAdminCanScrollPendingPaymentsByUpdatedAtKeyset() throws Exception {
+        UserEntity requester = createUser("ops-payment-scroll-user@example.com", "USER");
+        UserEntity driver = createUser("ops-payment-scroll-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("ops-payment-scroll-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity first = createAssignedRequest(requester, driver);
+        WasteRequestEntity second = createAssignedRequest(requester, driver);
+        WasteRequestEntity third = createAssignedRequest(requester, driver);
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, first.getId(), "1.000", "/uploads/files/scroll-1.jpg");
+        measure(driverToken, second.getId(), "2.000", "/uploads/files/scroll-2.jpg");
+        measure(driverToken, third.getId(), "3.000", "/uploads/files/scroll-3.jpg");
+
+        Timestamp newest = Timestamp.from(Instant.parse("2100-01-01T00:00:00Z"));
+        updatePaymentUpdatedAt(first.getId(), newest);
+        updatePaymentUpdatedAt(second.getId(), newest);
+        updatePaymentUpdatedAt(third.getId(), Timestamp.from(Instant.parse("2099-12-31T00:00:00Z")));
+
+        try {
+            String firstPage = mockMvc.perform(get("/ops-admin/payments/pending/scroll")
+                            .header("Authorization", "Bearer " + opsToken)
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.content[0].wasteRequestId").value(second.getId()))
+                    .andExpect(jsonPath("$.content[0].userId").value(requester.getId()))
+                    .andExpect(jsonPath("$.content[1].wasteRequestId").value(first.getId()))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+            mockMvc.perform(get("/ops-admin/payments/pending/scroll")
+                            .header("Authorization", "Bearer " + opsToken)
+                            .param("cursor", nextCursor)
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].wasteRequestId").value(third.getId()));
+        } finally {
+            Timestamp past = Timestamp.from(Instant.parse("2000-01-01T00:00:00Z"));
+            updatePaymentUpdatedAt(first.getId(), past);
+            updatePaymentUpdatedAt(second.getId(), past);
+            updatePaymentUpdatedAt(third.getId(), past);
+        }
+
+        mockMvc.perform(get("/ops-admin/payments/failed/scroll")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_PAYMENT_LIST_REQUEST"));
+
+        mockMvc.perform(get("/ops-admin/payments/failed/scroll")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_PAYMENT_LIST_REQUEST"));
+    }
+
     private void measure(String driverToken, Long requestId, String measuredWeightKg, String photoUrl) throws Exception {
         String measureBody = objectMapper.writeValueAsString(new MeasurePayload(
                 new BigDecimal(measuredWeightKg),
@@ -173,6 +237,10 @@ class OpsAdminPaymentFailureIntegrationTest {
         );
     }
 
+    private void updatePaymentUpdatedAt(Long requestId, Timestamp updatedAt) {
+        jdbcTemplate.update("UPDATE payments SET updated_at = ? WHERE waste_request_id = ?", updatedAt, requestId);
+    }
+
     private String readPaymentStatus(Long requestId) {
         return jdbcTemplate.queryForObject(
                 "SELECT status FROM payments WHERE waste_request_id = ?",
@@ -0,0 +1,373 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.entity.WasteAssignmentEntity;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteAssignmentRepository;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminPaymentRetryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteAssignmentRepository wasteAssignmentRepository;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "General User");
+        upsertRole("DRIVER", "Driver");
+        upsertRole("OPS_ADMIN", "Ops Admin");
+    }
+
+    @Test
+    void duePaymentIsRetriedWithBackoffUntilItSucceeds() throws Exception {
+        UserEntity requester = createUser("payment-retry-user@example.com", "USER");
+        UserEntity driver = createUser("payment-retry-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("payment-retry-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity request = createAssignedRequest(requester, driver);
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, request.getId(), "5.000", "/uploads/files/payment-retry-1.jpg");
+        executePendingBatch(opsToken, request.getId());
+        assertThat(readRequestStatus(request.getId())).isEqualTo("PAYMENT_FAILED");
+
+        mockMvc.perform(post("/ops-admin/payments/retries/run")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/ops-admin/payments/waste-requests/{wasteRequestId}/retry-attempts", request.getId())
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        jdbcTemplate.update(
+                "UPDATE payments SET updated_at = ? WHERE waste_request_id = ?",
+                Timestamp.from(Instant.now().minus(1, ChronoUnit.HOURS)),
+                request.getId()
+        );
+
+        String firstRun = mockMvc.perform(post("/ops-admin/payments/retries/run")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(objectMapper.readTree(firstRun).get("failedCount").asInt()).isGreaterThanOrEqualTo(1);
+        assertThat(readRequestStatus(request.getId())).isEqualTo("PAYMENT_FAILED");
+        assertThat(readRetryAttempts(request.getId())).isEqualTo(1);
+        Timestamp nextRetryAt = readNextRetryAt(request.getId());
+        assertThat(nextRetryAt).isNotNull();
+        assertThat(nextRetryAt.toInstant()).isAfter(Instant.now());
+
+        createActivePaymentMethod(requester);
+        jdbcTemplate.update(
+                "UPDATE payments SET next_retry_at = ? WHERE waste_request_id = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)),
+                request.getId()
+        );
+
+        String secondRun = mockMvc.perform(post("/ops-admin/payments/retries/run")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(objectMapper.readTree(secondRun).get("succeededCount").asInt()).isGreaterThanOrEqualTo(1);
+        assertThat(readRequestStatus(request.getId())).isEqualTo("COMPLETED");
+        assertThat(readNextRetryAt(request.getId())).isNull();
+
+        mockMvc.perform(get("/ops-admin/payments/waste-requests/{wasteRequestId}/retry-attempts", request.getId())
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].attemptNo").value(1))
+                .andExpect(jsonPath("$[0].outcome").value("FAILED"))
+                .andExpect(jsonPath("$[0].nextRetryAt").isNotEmpty())
+                .andExpect(jsonPath("$[0].nodeId").isNotEmpty())
+                .andExpect(jsonPath("$[1].attemptNo").value(2))
+                .andExpect(jsonPath("$[1].outcome").value("SUCCEEDED"));
+    }
+
+    @Test
+    void leasedOrExhaustedPaymentsAreNotRetried() throws Exception {
+        UserEntity leasedRequester = createUser("payment-retry-leased@example.com", "USER");
+        UserEntity exhaustedRequester = createUser("payment-retry-exhausted@example.com", "USER");
+        UserEntity driver = createUser("payment-retry-skip-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("payment-retry-skip-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity leasedRequest = createAssignedRequest(leasedRequester, driver);
+        WasteRequestEntity exhaustedRequest = createAssignedRequest(exhaustedRequester, driver);
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, leasedRequest.getId(), "2.000", "/uploads/files/payment-retry-2.jpg");
+        measure(driverToken, exhaustedRequest.getId(), "3.000", "/uploads/files/payment-retry-3.jpg");
+        executePendingBatch(opsToken, leasedRequest.getId());
+        executePendingBatch(opsToken, exhaustedRequest.getId());
+        createActivePaymentMethod(leasedRequester);
+        createActivePaymentMethod(exhaustedRequester);
+
+        Timestamp past = Timestamp.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        jdbcTemplate.update(
+                "UPDATE payments SET next_retry_at = ?, retry_locked_until = ? WHERE waste_request_id = ?",
+                past,
+                Timestamp.from(Instant.now().plus(1, ChronoUnit.HOURS)),
+                leasedRequest.getId()
+        );
+        jdbcTemplate.update(
+                "UPDATE payments SET next_retry_at = ?, retry_attempts = 5 WHERE waste_request_id = ?",
+                past,
+                exhaustedRequest.getId()
+        );
+
+        mockMvc.perform(post("/ops-admin/payments/retries/run")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk());
+
+        assertThat(readRequestStatus(leasedRequest.getId())).isEqualTo("PAYMENT_FAILED");
+        assertThat(readRequestStatus(exhaustedRequest.getId())).isEqualTo("PAYMENT_FAILED");
+        assertThat(readRetryAttempts(leasedRequest.getId())).isZero();
+        assertThat(readRetryAttempts(exhaustedRequest.getId())).isEqualTo(5);
+    }
+
+    @Test
+    void skippedPaymentIsDeferredInsteadOfReclaimed() throws Exception {
+        UserEntity requester = createUser("payment-retry-skipped@example.com", "USER");
+        UserEntity driver = createUser("payment-retry-skipped-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("payment-retry-skipped-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity request = createAssignedRequest(requester, driver);
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, request.getId(), "2.500", "/uploads/files/payment-retry-5.jpg");
+        executePendingBatch(opsToken, request.getId());
+        jdbcTemplate.update("UPDATE waste_requests SET status = 'PAYMENT_PENDING' WHERE id = ?", request.getId());
+        jdbcTemplate.update(
+                "UPDATE payments SET next_retry_at = ? WHERE waste_request_id = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)),
+                request.getId()
+        );
+
+        String firstRun = mockMvc.perform(post("/ops-admin/payments/retries/run")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(objectMapper.readTree(firstRun).get("skippedCount").asInt()).isGreaterThanOrEqualTo(1);
+        assertThat(readRetryAttempts(request.getId())).isEqualTo(1);
+        assertThat(readNextRetryAt(request.getId()).toInstant()).isAfter(Instant.now());
+
+        mockMvc.perform(post("/ops-admin/payments/retries/run")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk());
+
+        assertThat(readRetryAttempts(request.getId())).isEqualTo(1);
+        mockMvc.perform(get("/ops-admin/payments/waste-requests/{wasteRequestId}/retry-attempts", request.getId())
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].outcome").value("SKIPPED"));
+    }
+
+    @Test
+    void manualRetryResetsAutomaticRetrySchedule() throws Exception {
+        UserEntity requester = createUser("payment-retry-manual@example.com", "USER");
+        UserEntity driver = createUser("payment-retry-manual-driver@example.com", "DRIVER");
+        UserEntity opsAdmin = createUser("payment-retry-manual-admin@example.com", "OPS_ADMIN");
+
+        WasteRequestEntity request = createAssignedRequest(requester, driver);
+        String driverToken = login(driver.getEmail());
+        String opsToken = login(opsAdmin.getEmail());
+
+        measure(driverToken, request.getId(), "4.000", "/uploads/files/payment-retry-4.jpg");
+        executePendingBatch(opsToken, request.getId());
+        jdbcTemplate.update(
+                "UPDATE payments SET retry_attempts = 5, next_retry_at = NULL WHERE waste_request_id = ?",
+                request.getId()
+        );
+
+        mockMvc.perform(post("/ops-admin/payments/waste-requests/{wasteRequestId}/retry", request.getId())
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAYMENT_FAILED"));
+
+        assertThat(readRetryAttempts(request.getId())).isZero();
+        assertThat(readNextRetryAt(request.getId())).isNull();
+    }
+
+    private void executePendingBatch(String opsToken, Long requestId) throws Exception {
+        String batchBody = objectMapper.writeValueAsString(new PendingBatchPayload(List.of(requestId)));
+        mockMvc.perform(post("/ops-admin/payments/pending/batch-execute")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchBody))
+                .andExpect(status().isOk());
+    }
+
+    private Integer readRetryAttempts(Long requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT retry_attempts FROM payments WHERE waste_request_id = ?",
+                Integer.class,
+                requestId
+        );
+    }
+
+    private Timestamp readNextRetryAt(Long requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_retry_at FROM payments WHERE waste_request_id = ?",
+                Timestamp.class,
+                requestId
+        );
+    }
+
+    private void measure(String driverToken, Long requestId, String measuredWeightKg, String photoUrl) throws Exception {
+        String measureBody = objectMapper.writeValueAsString(new MeasurePayload(
+                new BigDecimal(measuredWeightKg),
+                List.of(photoUrl)
+        ));
+
+        mockMvc.perform(post("/driver/waste-requests/{requestId}/measure", requestId)
+                        .header("Authorization", "Bearer " + driverToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(measureBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAYMENT_PENDING"));
+    }
+
+    private String readRequestStatus(Long requestId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM waste_requests WHERE id = ?",
+                String.class,
+                requestId
+        );
+    }
+
+    private WasteRequestEntity createAssignedRequest(UserEntity requester, UserEntity driver) {
+        WasteRequestEntity request = wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "Seoul Payment Retry",
+                "010-2000-4000",
+                null,
+                "REQUESTED",
+                "KRW"
+        ));
+        request.changeStatus("ASSIGNED");
+        WasteRequestEntity updated = wasteRequestRepository.save(request);
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(updated, driver));
+        return updated;
+    }
+
+    private UserEntity createUser(String email, String roleCode) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "Payment Retry Test",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        assignRole(user.getId(), roleCode);
+        return user;
+    }
+
+    private String login(String email) throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private void assignRole(Long userId, String roleCode) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id
+                FROM roles
+                WHERE code = ?
+                """,
+                userId,
+                roleCode
+        );
+    }
+
+    private void createActivePaymentMethod(UserEntity user) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO payment_methods (user_id, provider, customer_key, billing_key_or_token, status)
+                VALUES (?, 'TOSS', ?, ?, 'ACTIVE')
+                """,
+                user.getId(),
+                "delivery_user_" + user.getId() + "_cccccccccccccccccccccccccccccccc",
+                "retry-billing-token"
+        );
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+
+    private record MeasurePayload(BigDecimal measuredWeightKg, List<String> photoUrls) {
+    }
+
+    private record PendingBatchPayload(List<Long> wasteRequestIds) {
+    }
+}
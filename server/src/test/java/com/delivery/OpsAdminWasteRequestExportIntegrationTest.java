@@ -0,0 +1,256 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.entity.WasteAssignmentEntity;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteAssignmentRepository;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminWasteRequestExportIntegrationTest {
+
+    private static final String FROM = "2017-03-01T00:00:00Z";
+    private static final String TO = "2017-04-01T00:00:00Z";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteAssignmentRepository wasteAssignmentRepository;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+        upsertRole("DRIVER", "기사");
+    }
+
+    @Test
+    void exportStreamsCsvRowsInCreatedOrderWithDriverColumns() throws Exception {
+        UserEntity requester = createUser("export-csv-requester@example.com", "USER");
+        UserEntity driver = createUser("export-csv-driver@example.com", "DRIVER");
+        Long measured = createWasteRequest(requester, "MEASURED", "2017-03-02T10:00:00Z");
+        jdbcTemplate.update(
+                "UPDATE waste_requests SET measured_weight_kg = ?, final_amount = ? WHERE id = ?",
+                new BigDecimal("12.500"),
+                15000L,
+                measured
+        );
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(wasteRequestRepository.findById(measured).orElseThrow(), driver));
+        Long requested = createWasteRequest(requester, "REQUESTED", "2017-03-03T10:00:00Z");
+        createWasteRequest(requester, "REQUESTED", "2017-04-03T10:00:00Z");
+        String opsToken = login("export-csv-ops-admin@example.com", "OPS_ADMIN");
+
+        MvcResult result = export(opsToken, "csv", null, false);
+
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(result.getResponse().getHeader("Content-Disposition")).contains("waste-requests.csv");
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("orderNo,requestId,status");
+        assertThat(lines[1]).contains("," + measured + ",MEASURED,")
+                .contains(",12.500,15000,KRW," + driver.getId() + ",export-csv-driver@example.com,");
+        assertThat(lines[2]).contains("," + requested + ",REQUESTED,").endsWith(",KRW,,,");
+    }
+
+    @Test
+    void exportNeutralizesFormulaCellsAndOverridesAsyncTimeout() throws Exception {
+        UserEntity requester = createUser("export-formula-requester@example.com", "USER");
+        UserEntity driver = createUser("export-formula-driver@example.com", "DRIVER", "=HYPERLINK(\"http://x\",\"y\")");
+        Long requestId = createWasteRequest(requester, "ASSIGNED", "2017-03-20T10:00:00Z");
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(wasteRequestRepository.findById(requestId).orElseThrow(), driver));
+        String opsToken = login("export-formula-ops-admin@example.com", "OPS_ADMIN");
+
+        MvcResult result = export(opsToken, "csv", "ASSIGNED", false);
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(3_600_000L);
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .contains("," + requestId + ",ASSIGNED,")
+                .endsWith(",\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\""));
+    }
+
+    @Test
+    void exportStreamsGzipNdjsonFilteredByStatus() throws Exception {
+        UserEntity requester = createUser("export-ndjson-requester@example.com", "USER");
+        createWasteRequest(requester, "CANCELED", "2017-03-10T10:00:00Z");
+        Long canceled = createWasteRequest(requester, "CANCELED", "2017-03-11T10:00:00Z");
+        createWasteRequest(requester, "PAID", "2017-03-12T10:00:00Z");
+        String opsToken = login("export-ndjson-ops-admin@example.com", "OPS_ADMIN");
+
+        MvcResult result = export(opsToken, "ndjson", "CANCELED", true);
+
+        assertThat(result.getResponse().getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String body;
+        try (GZIPInputStream input = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray())
+        )) {
+            body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode last = objectMapper.readTree(lines[1]);
+        assertThat(last.get("requestId").asLong()).isEqualTo(canceled);
+        assertThat(last.get("status").asText()).isEqualTo("CANCELED");
+        assertThat(last.get("driverId").isNull()).isTrue();
+        assertThat(last.get("createdAt").asText()).isEqualTo("2017-03-11T10:00:00Z");
+    }
+
+    @Test
+    void exportRejectsUnknownFormatAndStatus() throws Exception {
+        String opsToken = login("export-invalid-ops-admin@example.com", "OPS_ADMIN");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/export")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+
+        mockMvc.perform(get("/ops-admin/waste-requests/export")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+    }
+
+    @Test
+    void userCannotExportWasteRequests() throws Exception {
+        String userToken = login("export-normal-user@example.com", "USER");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/export")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private MvcResult export(String accessToken, String format, String statusFilter, boolean gzip) throws Exception {
+        var builder = get("/ops-admin/waste-requests/export")
+                .header("Authorization", "Bearer " + accessToken)
+                .param("format", format)
+                .param("from", FROM)
+                .param("to", TO);
+        if (statusFilter != null) {
+            builder.param("status", statusFilter);
+        }
+        if (gzip) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return result;
+    }
+
+    private Long createWasteRequest(UserEntity requester, String status, String createdAt) {
+        Long id = wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "서울시 내보내기구 1",
+                "010-1111-2222",
+                null,
+                status,
+                "KRW"
+        )).getId();
+        jdbcTemplate.update(
+                "UPDATE waste_requests SET created_at = ? WHERE id = ?",
+                Timestamp.from(Instant.parse(createdAt)),
+                id
+        );
+        return id;
+    }
+
+    private UserEntity createUser(String email, String roleCode) {
+        return createUser(email, roleCode, "수거요청내보내기테스터");
+    }
+
+    private UserEntity createUser(String email, String roleCode, String displayName) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                email,
+                passwordEncoder.encode("password123"),
+                displayName,
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                roleCode
+        );
+        return user;
+    }
+
+    private String login(String email, String roleCode) throws Exception {
+        createUser(email, roleCode);
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.service.WasteRequestExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.mvc.async.request-timeout=200ms"
+)
+@ActiveProfiles("test")
+class OpsAdminWasteRequestExportTimeoutIntegrationTest {
+
+    private static final long EXPORT_DELAY_MILLIS = 2_500L;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private WasteRequestExportService wasteRequestExportService;
+
+    @BeforeEach
+    void setUpRoles() {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", "OPS_ADMIN", "운영 관리자");
+    }
+
+    @Test
+    void exportKeepsStreamingPastDefaultAsyncRequestTimeout() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(EXPORT_DELAY_MILLIS);
+            return invocation.callRealMethod();
+        }).when(wasteRequestExportService).export(any(), any(), anyBoolean());
+        String opsToken = login("export-timeout-ops-admin@example.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(opsToken);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/ops-admin/waste-requests/export?format=csv&from=2016-01-01T00:00:00Z&to=2016-01-02T00:00:00Z",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).startsWith("orderNo,requestId,status");
+    }
+
+    private String login(String email) throws Exception {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                email,
+                passwordEncoder.encode("password123"),
+                "내보내기시간초과테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                "OPS_ADMIN"
+        );
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/auth/login",
+                new HttpEntity<>(objectMapper.writeValueAsString(Map.of("email", email, "password", "password123")), headers),
+                String.class
+        );
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return objectMapper.readTree(response.getBody()).get("accessToken").asText();
+    }
+}
@@ -4,6 +4,7 @@ import com.delivery.auth.entity.AuthIdentityEntity;
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.auth.repository.AuthIdentityRepository;
 import com.delivery.auth.repository.UserRepository;
+import com.delivery.config.id.IdBlockAllocator;
 import com.delivery.waste.entity.WasteAssignmentEntity;
 import com.delivery.waste.entity.WasteRequestEntity;
 import com.delivery.waste.repository.WasteAssignmentRepository;
@@ -20,9 +21,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,6 +53,9 @@ class OpsAdminWasteRequestIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
     @Autowired
     private WasteRequestRepository wasteRequestRepository;
 
@@ -88,13 +95,15 @@ class OpsAdminWasteRequestIntegrationTest {
         WasteRequestEntity request = createWasteRequest(requester, "REQUESTED", "서울시 중구 10");
         wasteAssignmentRepository.save(new WasteAssignmentEntity(request, driver));
         jdbcTemplate.update(
-                "INSERT INTO waste_photos (request_id, url, type, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_photos (id, request_id, url, type, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_photos"),
                 request.getId(),
                 "/uploads/files/ops-detail-photo.jpg",
                 "TRASH"
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_status_logs (request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
                 request.getId(),
                 "REQUESTED",
                 "ASSIGNED",
@@ -114,6 +123,45 @@ class OpsAdminWasteRequestIntegrationTest {
                 .andExpect(jsonPath("$.assignedAt").isNotEmpty());
     }
 
+    @Test
+    void opsAdminDetailReturnsNotModifiedUntilRequestVersionChanges() throws Exception {
+        UserEntity requester = createUser("ops-waste-etag-requester@example.com", "USER");
+        UserEntity driver = createUser("ops-waste-etag-driver@example.com", "DRIVER");
+        WasteRequestEntity request = createWasteRequest(requester, "REQUESTED", "서울시 중구 11");
+        String opsToken = login("ops-waste-etag-admin@example.com", "OPS_ADMIN");
+
+        String eTag = mockMvc.perform(get("/ops-admin/waste-requests/{requestId}", request.getId())
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/{requestId}", request.getId())
+                        .header("Authorization", "Bearer " + opsToken)
+                        .header("If-None-Match", "W/" + eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+
+        mockMvc.perform(post("/ops-admin/waste-requests/{requestId}/assign", request.getId())
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AssignPayload(driver.getId()))))
+                .andExpect(status().isOk());
+
+        String changedETag = mockMvc.perform(get("/ops-admin/waste-requests/{requestId}", request.getId())
+                        .header("Authorization", "Bearer " + opsToken)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ASSIGNED"))
+                .andExpect(jsonPath("$.driverId").value(driver.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+
     @Test
     void userCannotAccessOpsAdminWasteRequestEndpoints() throws Exception {
         String userToken = login("ops-waste-normal-user@example.com", "USER");
@@ -188,6 +236,93 @@ class OpsAdminWasteRequestIntegrationTest {
         ).isEqualTo(1);
     }
 
+    @Test
+    void opsAdminCanBatchAssignRequestsToDriverWithPerItemResults() throws Exception {
+        UserEntity requester = createUser("batch-assign-requester@example.com", "USER");
+        UserEntity driver = createUser("batch-assign-driver@example.com", "DRIVER");
+        UserEntity otherDriver = createUser("batch-assign-other-driver@example.com", "DRIVER");
+        WasteRequestEntity requested = createWasteRequest(requester, "REQUESTED", "서울시 마포구 21");
+        WasteRequestEntity reassigned = createWasteRequest(requester, "ASSIGNED", "서울시 마포구 22");
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(reassigned, otherDriver));
+        WasteRequestEntity unchanged = createWasteRequest(requester, "ASSIGNED", "서울시 마포구 23");
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(unchanged, driver));
+        WasteRequestEntity completed = createWasteRequest(requester, "COMPLETED", "서울시 마포구 24");
+        long missingId = 999_999_999L;
+        String opsToken = login("batch-assign-ops-admin@example.com", "OPS_ADMIN");
+
+        String body = objectMapper.writeValueAsString(new BatchAssignPayload(
+                driver.getId(),
+                List.of(requested.getId(), reassigned.getId(), unchanged.getId(), completed.getId(), missingId, requested.getId())
+        ));
+        mockMvc.perform(post("/ops-admin/waste-requests/batch-assign")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(5))
+                .andExpect(jsonPath("$.assignedCount").value(1))
+                .andExpect(jsonPath("$.reassignedCount").value(1))
+                .andExpect(jsonPath("$.unchangedCount").value(1))
+                .andExpect(jsonPath("$.skippedCount").value(2))
+                .andExpect(jsonPath("$.results[0].result").value("ASSIGNED"))
+                .andExpect(jsonPath("$.results[1].result").value("REASSIGNED"))
+                .andExpect(jsonPath("$.results[1].previousDriverId").value(otherDriver.getId()))
+                .andExpect(jsonPath("$.results[2].result").value("UNCHANGED"))
+                .andExpect(jsonPath("$.results[3].result").value("SKIPPED"))
+                .andExpect(jsonPath("$.results[3].wasteStatus").value("COMPLETED"))
+                .andExpect(jsonPath("$.results[4].result").value("SKIPPED"));
+
+        assertThat(wasteRequestRepository.findById(requested.getId()).orElseThrow().getStatus()).isEqualTo("ASSIGNED");
+        assertThat(wasteAssignmentRepository.findByRequestId(requested.getId()).orElseThrow().getDriver().getId())
+                .isEqualTo(driver.getId());
+        assertThat(wasteAssignmentRepository.findByRequestId(reassigned.getId()).orElseThrow().getDriver().getId())
+                .isEqualTo(driver.getId());
+        assertThat(wasteRequestRepository.findById(completed.getId()).orElseThrow().getStatus()).isEqualTo("COMPLETED");
+        assertThat(
+                jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM waste_status_logs WHERE request_id = ? AND to_status = 'ASSIGNED'",
+                        Integer.class,
+                        requested.getId()
+                )
+        ).isEqualTo(1);
+        assertThat(
+                jdbcTemplate.queryForObject(
+                        """
+                        SELECT COUNT(*)
+                        FROM waste_assignment_audit_logs
+                        WHERE request_id IN (?, ?, ?)
+                          AND to_driver_id = ?
+                        """,
+                        Integer.class,
+                        requested.getId(),
+                        reassigned.getId(),
+                        unchanged.getId(),
+                        driver.getId()
+                )
+        ).isEqualTo(2);
+    }
+
+    @Test
+    void batchAssignReturnsBadRequestWhenTargetUserIsNotDriver() throws Exception {
+        UserEntity requester = createUser("batch-assign-invalid-requester@example.com", "USER");
+        UserEntity nonDriver = createUser("batch-assign-non-driver@example.com", "USER");
+        WasteRequestEntity request = createWasteRequest(requester, "REQUESTED", "서울시 마포구 25");
+        String opsToken = login("batch-assign-invalid-ops-admin@example.com", "OPS_ADMIN");
+
+        String body = objectMapper.writeValueAsString(new BatchAssignPayload(
+                nonDriver.getId(),
+                List.of(request.getId())
+        ));
+        mockMvc.perform(post("/ops-admin/waste-requests/batch-assign")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("DRIVER_ROLE_REQUIRED"));
+
+        assertThat(wasteRequestRepository.findById(request.getId()).orElseThrow().getStatus()).isEqualTo("REQUESTED");
+    }
+
     @Test
     void assignReturnsBadRequestWhenTargetUserIsNotDriver() throws Exception {
         UserEntity requester = createUser("assign-invalid-requester@example.com", "USER");
@@ -311,4 +446,7 @@ class OpsAdminWasteRequestIntegrationTest {
 
     private record AssignPayload(Long driverId) {
     }
+
+    private record BatchAssignPayload(Long driverId, List<Long> requestIds) {
+    }
 }
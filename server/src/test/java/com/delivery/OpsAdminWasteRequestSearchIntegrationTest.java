@@ -0,0 +1,297 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.entity.WasteAssignmentEntity;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteAssignmentRepository;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminWasteRequestSearchIntegrationTest {
+
+    private static final String FROM = "2019-05-01T00:00:00Z";
+    private static final String TO = "2019-06-01T00:00:00Z";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteAssignmentRepository wasteAssignmentRepository;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+        upsertRole("DRIVER", "기사");
+    }
+
+    @Test
+    void searchPagesByCreatedAtAndIdCursorWithStatusSetAndServiceArea() throws Exception {
+        UserEntity requester = createUser("search-requester@example.com", "USER");
+        long serviceAreaId = createServiceArea();
+        long otherServiceAreaId = createServiceArea();
+        Long first = createWasteRequest(requester, "REQUESTED", "2019-05-03T10:00:00Z", serviceAreaId);
+        Long second = createWasteRequest(requester, "ASSIGNED", "2019-05-04T10:00:00Z", serviceAreaId);
+        Long third = createWasteRequest(requester, "REQUESTED", "2019-05-04T10:00:00Z", serviceAreaId);
+        createWasteRequest(requester, "CANCELED", "2019-05-05T10:00:00Z", serviceAreaId);
+        createWasteRequest(requester, "REQUESTED", "2019-05-06T10:00:00Z", otherServiceAreaId);
+        createWasteRequest(requester, "REQUESTED", "2019-06-02T10:00:00Z", serviceAreaId);
+        Long fourth = createWasteRequest(requester, "ASSIGNED", "2019-05-07T10:00:00Z", serviceAreaId);
+        String opsToken = login("search-ops-admin@example.com", "OPS_ADMIN");
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = search(
+                    opsToken,
+                    "&status=REQUESTED,ASSIGNED&serviceAreaId=" + serviceAreaId + "&size=2"
+                            + (cursor == null ? "" : "&cursor=" + cursor)
+            );
+            page.get("content").forEach(item -> ids.add(item.get("id").asLong()));
+            if (pages == 0) {
+                assertThat(page.get("approximateTotal").asLong()).isEqualTo(4L);
+                assertThat(page.get("totalCapped").asBoolean()).isFalse();
+            } else {
+                assertThat(page.get("approximateTotal").isNull()).isTrue();
+            }
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(2);
+        assertThat(ids).containsExactly(fourth, Math.max(second, third), Math.min(second, third), first);
+    }
+
+    @Test
+    void searchFiltersByAssignedDriver() throws Exception {
+        UserEntity requester = createUser("search-driver-requester@example.com", "USER");
+        UserEntity driver = createUser("search-driver@example.com", "DRIVER");
+        UserEntity otherDriver = createUser("search-other-driver@example.com", "DRIVER");
+        long serviceAreaId = createServiceArea();
+        Long assigned = createWasteRequest(requester, "ASSIGNED", "2019-05-10T10:00:00Z", serviceAreaId);
+        Long otherAssigned = createWasteRequest(requester, "ASSIGNED", "2019-05-11T10:00:00Z", serviceAreaId);
+        createWasteRequest(requester, "REQUESTED", "2019-05-12T10:00:00Z", serviceAreaId);
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(wasteRequestRepository.findById(assigned).orElseThrow(), driver));
+        wasteAssignmentRepository.save(new WasteAssignmentEntity(wasteRequestRepository.findById(otherAssigned).orElseThrow(), otherDriver));
+        String opsToken = login("search-driver-ops-admin@example.com", "OPS_ADMIN");
+
+        JsonNode page = search(opsToken, "&driverId=" + driver.getId());
+
+        assertThat(page.get("content")).hasSize(1);
+        assertThat(page.get("content").get(0).get("id").asLong()).isEqualTo(assigned);
+        assertThat(page.get("approximateTotal").asLong()).isEqualTo(1L);
+        assertThat(page.get("hasNext").asBoolean()).isFalse();
+    }
+
+    @Test
+    void searchFiltersByDisposalItemInSql() throws Exception {
+        UserEntity requester = createUser("search-item-requester@example.com", "USER");
+        long serviceAreaId = createServiceArea();
+        Long box = createWasteRequest(requester, "2019-05-20T10:00:00Z", serviceAreaId, List.of("GENERAL", "BOX"));
+        Long recycle = createWasteRequest(requester, "2019-05-21T10:00:00Z", serviceAreaId, List.of("RECYCLE", "BOX"));
+        createWasteRequest(requester, "2019-05-22T10:00:00Z", serviceAreaId, List.of("GENERAL"));
+        String opsToken = login("search-item-ops-admin@example.com", "OPS_ADMIN");
+
+        JsonNode boxPage = search(opsToken, "&serviceAreaId=" + serviceAreaId + "&disposalItem=BOX");
+        JsonNode recyclePage = search(opsToken, "&serviceAreaId=" + serviceAreaId + "&disposalItem=RECYCLE");
+        JsonNode unknownPage = search(opsToken, "&serviceAreaId=" + serviceAreaId + "&disposalItem=UNKNOWN-ITEM");
+
+        List<Long> boxIds = new ArrayList<>();
+        boxPage.get("content").forEach(item -> boxIds.add(item.get("id").asLong()));
+        assertThat(boxIds).containsExactly(recycle, box);
+        assertThat(recyclePage.get("content")).hasSize(1);
+        assertThat(recyclePage.get("content").get(0).get("disposalItems").get(0).asText()).isEqualTo("RECYCLE");
+        assertThat(unknownPage.get("content")).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT disposal_item_codes FROM waste_requests WHERE id = ?",
+                String.class,
+                box
+        )).matches("\\d+,\\d+");
+    }
+
+    @Test
+    void searchRejectsUnknownStatusAndMalformedCursor() throws Exception {
+        String opsToken = login("search-invalid-ops-admin@example.com", "OPS_ADMIN");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/search")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("status", "REQUESTED,UNKNOWN"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+
+        mockMvc.perform(get("/ops-admin/waste-requests/search")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+
+        mockMvc.perform(get("/ops-admin/waste-requests/search")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("from", TO)
+                        .param("to", FROM))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+    }
+
+    @Test
+    void userCannotSearchOpsWasteRequests() throws Exception {
+        String userToken = login("search-normal-user@example.com", "USER");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/search")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode search(String accessToken, String query) throws Exception {
+        String response = mockMvc.perform(get("/ops-admin/waste-requests/search?from=" + FROM + "&to=" + TO + query)
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private long createServiceArea() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        jdbcTemplate.update(
+                "INSERT INTO service_areas (city, district, dong, is_active) VALUES (?, ?, ?, true)",
+                "SearchCity-" + suffix,
+                "SearchDistrict",
+                "SearchDong"
+        );
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM service_areas WHERE city = ?",
+                Long.class,
+                "SearchCity-" + suffix
+        );
+    }
+
+    private Long createWasteRequest(UserEntity requester, String status, String createdAt, long serviceAreaId) {
+        WasteRequestEntity request = new WasteRequestEntity(
+                requester,
+                "서울시 검색구 1",
+                "010-1111-2222",
+                null,
+                status,
+                "KRW"
+        );
+        request.assignServiceArea(serviceAreaId);
+        Long id = wasteRequestRepository.save(request).getId();
+        jdbcTemplate.update(
+                "UPDATE waste_requests SET created_at = ? WHERE id = ?",
+                Timestamp.from(Instant.parse(createdAt)),
+                id
+        );
+        return id;
+    }
+
+    private Long createWasteRequest(UserEntity requester, String createdAt, long serviceAreaId, List<String> disposalItems) {
+        WasteRequestEntity request = new WasteRequestEntity(
+                requester,
+                "서울시 검색구 2",
+                "010-1111-2222",
+                null,
+                "REQUESTED",
+                "KRW",
+                disposalItems,
+                1
+        );
+        request.assignServiceArea(serviceAreaId);
+        Long id = wasteRequestRepository.save(request).getId();
+        jdbcTemplate.update(
+                "UPDATE waste_requests SET created_at = ? WHERE id = ?",
+                Timestamp.from(Instant.parse(createdAt)),
+                id
+        );
+        return id;
+    }
+
+    private UserEntity createUser(String email, String roleCode) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                email,
+                passwordEncoder.encode("password123"),
+                "수거요청검색테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                roleCode
+        );
+        return user;
+    }
+
+    private String login(String email, String roleCode) throws Exception {
+        createUser(email, roleCode);
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+}
@@ -0,0 +1,279 @@
+package com.delivery;
+
+import com.delivery.auth.dto.UpdateProfileRequest;
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.service.AuthService;
+import com.delivery.payment.entity.PaymentEntity;
+import com.delivery.payment.repository.PaymentRepository;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.delivery.waste.service.WasteRequestViewProjector;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminWasteRequestViewIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private WasteRequestViewProjector wasteRequestViewProjector;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+        upsertRole("DRIVER", "기사");
+    }
+
+    @Test
+    void opsListReadsDriverAreaAndPaymentFromViewKeptInSyncByEvents() throws Exception {
+        UserEntity requester = createUser("view-requester@example.com", "USER", "뷰요청자");
+        UserEntity driver = createUser("view-driver@example.com", "DRIVER", "뷰기사");
+        long serviceAreaId = createServiceArea();
+        WasteRequestEntity request = createWasteRequest(requester, serviceAreaId);
+        String opsToken = login("view-ops-admin@example.com", "OPS_ADMIN");
+
+        JsonNode created = searchByArea(opsToken, serviceAreaId).get(0);
+        assertThat(created.get("id").asLong()).isEqualTo(request.getId());
+        assertThat(created.get("requesterName").asText()).isEqualTo("뷰요청자");
+        assertThat(created.get("serviceAreaName").asText()).startsWith("ViewCity-");
+        assertThat(created.get("driverName").isNull()).isTrue();
+        assertThat(created.get("paymentStatus").isNull()).isTrue();
+
+        mockMvc.perform(post("/ops-admin/waste-requests/{requestId}/assign", request.getId())
+                        .header("Authorization", "Bearer " + opsToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AssignPayload(driver.getId()))))
+                .andExpect(status().isOk());
+        paymentRepository.save(new PaymentEntity(
+                wasteRequestRepository.findById(request.getId()).orElseThrow(),
+                null,
+                "TOSS",
+                "view-order-" + UUID.randomUUID(),
+                "PENDING",
+                12000L,
+                "KRW"
+        ));
+
+        JsonNode assigned = searchByArea(opsToken, serviceAreaId).get(0);
+        assertThat(assigned.get("status").asText()).isEqualTo("ASSIGNED");
+        assertThat(assigned.get("driverId").asLong()).isEqualTo(driver.getId());
+        assertThat(assigned.get("driverName").asText()).isEqualTo("뷰기사");
+        assertThat(assigned.get("assignedAt").isNull()).isFalse();
+        assertThat(assigned.get("statusChangedAt").isNull()).isFalse();
+        assertThat(assigned.get("paymentStatus").asText()).isEqualTo("PENDING");
+
+        mockMvc.perform(get("/ops-admin/waste-requests")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("status", "ASSIGNED")
+                        .param("sort", "statusChangedAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(request.getId()))
+                .andExpect(jsonPath("$.content[0].driverName").value("뷰기사"));
+    }
+
+    @Test
+    void rebuildRegeneratesViewRowsFromSourceTables() throws Exception {
+        UserEntity requester = createUser("view-rebuild-requester@example.com", "USER", "재생성요청자");
+        long serviceAreaId = createServiceArea();
+        WasteRequestEntity request = createWasteRequest(requester, serviceAreaId);
+        String opsToken = login("view-rebuild-ops-admin@example.com", "OPS_ADMIN");
+        searchByArea(opsToken, serviceAreaId);
+        jdbcTemplate.update(
+                "UPDATE waste_request_views SET requester_name = ?, status = ? WHERE request_id = ?",
+                "stale",
+                "CANCELED",
+                request.getId()
+        );
+
+        mockMvc.perform(post("/ops-admin/waste-requests/views/rebuild")
+                        .header("Authorization", "Bearer " + opsToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshedCount").isNumber());
+
+        JsonNode rebuilt = searchByArea(opsToken, serviceAreaId).get(0);
+        assertThat(rebuilt.get("requesterName").asText()).isEqualTo("재생성요청자");
+        assertThat(rebuilt.get("status").asText()).isEqualTo("REQUESTED");
+    }
+
+    @Test
+    void dirtyRowsRecordedElsewhereAreDrainedOutsideTheReadPath() throws Exception {
+        UserEntity requester = createUser("view-dirty-requester@example.com", "USER", "더티요청자");
+        long serviceAreaId = createServiceArea();
+        WasteRequestEntity request = createWasteRequest(requester, serviceAreaId);
+        String opsToken = login("view-dirty-ops-admin@example.com", "OPS_ADMIN");
+        searchByArea(opsToken, serviceAreaId);
+        jdbcTemplate.update("UPDATE waste_request_views SET requester_name = ? WHERE request_id = ?", "stale", request.getId());
+        jdbcTemplate.update(
+                "INSERT INTO waste_request_view_dirty (request_id, created_at) VALUES (?, CURRENT_TIMESTAMP)",
+                request.getId()
+        );
+
+        assertThat(searchByArea(opsToken, serviceAreaId).get(0).get("requesterName").asText()).isEqualTo("stale");
+
+        assertThat(wasteRequestViewProjector.refreshPending()).isGreaterThanOrEqualTo(1);
+        assertThat(searchByArea(opsToken, serviceAreaId).get(0).get("requesterName").asText()).isEqualTo("더티요청자");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM waste_request_view_dirty WHERE request_id = ?",
+                Long.class,
+                request.getId()
+        )).isZero();
+    }
+
+    @Test
+    void profileRenameRefreshesRequesterNameInView() throws Exception {
+        UserEntity requester = createUser("view-rename-requester@example.com", "USER", "이름변경전");
+        long serviceAreaId = createServiceArea();
+        createWasteRequest(requester, serviceAreaId);
+        String opsToken = login("view-rename-ops-admin@example.com", "OPS_ADMIN");
+        assertThat(searchByArea(opsToken, serviceAreaId).get(0).get("requesterName").asText()).isEqualTo("이름변경전");
+
+        authService.updateProfile(requester.getLoginId(), new UpdateProfileRequest("이름변경후", null));
+
+        assertThat(searchByArea(opsToken, serviceAreaId).get(0).get("requesterName").asText()).isEqualTo("이름변경후");
+    }
+
+    @Test
+    void listRejectsUnsupportedSortProperty() throws Exception {
+        String opsToken = login("view-sort-ops-admin@example.com", "OPS_ADMIN");
+
+        mockMvc.perform(get("/ops-admin/waste-requests")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("sort", "address,asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+    }
+
+    private JsonNode searchByArea(String accessToken, long serviceAreaId) throws Exception {
+        String response = mockMvc.perform(get("/ops-admin/waste-requests/search")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("serviceAreaId", String.valueOf(serviceAreaId)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode content = objectMapper.readTree(response).get("content");
+        assertThat(content).hasSize(1);
+        return content;
+    }
+
+    private long createServiceArea() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        jdbcTemplate.update(
+                "INSERT INTO service_areas (city, district, dong, is_active) VALUES (?, ?, ?, true)",
+                "ViewCity-" + suffix,
+                "ViewDistrict",
+                "ViewDong"
+        );
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM service_areas WHERE city = ?",
+                Long.class,
+                "ViewCity-" + suffix
+        );
+    }
+
+    private WasteRequestEntity createWasteRequest(UserEntity requester, long serviceAreaId) {
+        WasteRequestEntity request = new WasteRequestEntity(
+                requester,
+                "서울시 뷰구 1",
+                "010-1111-2222",
+                null,
+                "REQUESTED",
+                "KRW"
+        );
+        request.assignServiceArea(serviceAreaId);
+        return wasteRequestRepository.save(request);
+    }
+
+    private UserEntity createUser(String email, String roleCode, String displayName) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                email,
+                passwordEncoder.encode("password123"),
+                displayName,
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                roleCode
+        );
+        return user;
+    }
+
+    private String login(String email, String roleCode) throws Exception {
+        createUser(email, roleCode, "뷰테스터");
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+
+    private record AssignPayload(Long driverId) {
+    }
+}
@@ -0,0 +1,244 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.delivery.waste.service.WasteStatusCounters;
+import com.delivery.waste.service.WasteStatusTransitionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpsAdminWasteStatusCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteStatusTransitionService wasteStatusTransitionService;
+
+    @Autowired
+    private WasteStatusCounters wasteStatusCounters;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+    }
+
+    @Test
+    void transitionsUpdateRollupsIncrementallyAndRebuildMatches() throws Exception {
+        UserEntity requester = createUser("status-count-requester@example.com", "USER");
+        long serviceAreaId = createServiceArea();
+        Long canceled = createWasteRequest(requester, serviceAreaId);
+        createWasteRequest(requester, serviceAreaId);
+        String opsToken = login("status-count-ops-admin@example.com", "OPS_ADMIN");
+
+        rebuild(opsToken);
+        JsonNode rebuilt = dashboard(opsToken, serviceAreaId);
+        assertThat(rebuilt.get("currentCounts").get("REQUESTED").asLong()).isEqualTo(2L);
+        assertThat(rebuilt.get("serviceAreas")).hasSize(1);
+        assertThat(rebuilt.get("serviceAreas").get(0).get("serviceAreaId").asLong()).isEqualTo(serviceAreaId);
+
+        wasteStatusTransitionService.transition(canceled, "CANCELED", requester.getLoginId());
+        wasteStatusCounters.flush();
+
+        JsonNode incremental = dashboard(opsToken, serviceAreaId);
+        assertThat(incremental.get("currentCounts").get("REQUESTED").asLong()).isEqualTo(1L);
+        assertThat(incremental.get("currentCounts").get("CANCELED").asLong()).isEqualTo(1L);
+        assertThat(enteredCount(incremental, "CANCELED")).isEqualTo(1L);
+        assertThat(enteredCount(incremental, "REQUESTED")).isEqualTo(2L);
+
+        rebuild(opsToken);
+        JsonNode rebuiltAgain = dashboard(opsToken, serviceAreaId);
+        assertThat(rebuiltAgain.get("currentCounts")).isEqualTo(incremental.get("currentCounts"));
+        assertThat(rebuiltAgain.get("daily")).isEqualTo(incremental.get("daily"));
+    }
+
+    @Test
+    void deltasCommittedBeforeRebuildAreNotCountedTwice() throws Exception {
+        UserEntity requester = createUser("status-count-cutoff-requester@example.com", "USER");
+        long serviceAreaId = createServiceArea();
+        Long canceled = createWasteRequest(requester, serviceAreaId);
+        String opsToken = login("status-count-cutoff-ops-admin@example.com", "OPS_ADMIN");
+        rebuild(opsToken);
+
+        wasteStatusTransitionService.transition(canceled, "CANCELED", requester.getLoginId());
+        rebuild(opsToken);
+        JsonNode rebuilt = dashboard(opsToken, serviceAreaId);
+        wasteStatusCounters.flush();
+
+        JsonNode flushed = dashboard(opsToken, serviceAreaId);
+        assertThat(flushed.get("currentCounts").get("CANCELED").asLong()).isEqualTo(1L);
+        assertThat(enteredCount(flushed, "CANCELED")).isEqualTo(1L);
+        assertThat(flushed.get("daily")).isEqualTo(rebuilt.get("daily"));
+    }
+
+    @Test
+    void dashboardRejectsReversedOrTooLongRange() throws Exception {
+        String opsToken = login("status-count-invalid-ops-admin@example.com", "OPS_ADMIN");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/status-counts")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("from", "2026-02-01")
+                        .param("to", "2026-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+
+        mockMvc.perform(get("/ops-admin/waste-requests/status-counts")
+                        .header("Authorization", "Bearer " + opsToken)
+                        .param("from", "2025-01-01")
+                        .param("to", "2026-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_WASTE_REQUEST_SEARCH"));
+    }
+
+    @Test
+    void userCannotReadStatusCounts() throws Exception {
+        String userToken = login("status-count-normal-user@example.com", "USER");
+
+        mockMvc.perform(get("/ops-admin/waste-requests/status-counts")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/ops-admin/waste-requests/status-counts/rebuild")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private long enteredCount(JsonNode dashboard, String status) {
+        long entered = 0L;
+        for (JsonNode item : dashboard.get("daily")) {
+            if (status.equals(item.get("status").asText())) {
+                entered += item.get("enteredCount").asLong();
+            }
+        }
+        return entered;
+    }
+
+    private void rebuild(String accessToken) throws Exception {
+        mockMvc.perform(post("/ops-admin/waste-requests/status-counts/rebuild")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestCount").isNumber());
+    }
+
+    private JsonNode dashboard(String accessToken, long serviceAreaId) throws Exception {
+        String response = mockMvc.perform(get("/ops-admin/waste-requests/status-counts")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .param("serviceAreaId", String.valueOf(serviceAreaId)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
+
+    private long createServiceArea() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        jdbcTemplate.update(
+                "INSERT INTO service_areas (city, district, dong, is_active) VALUES (?, ?, ?, true)",
+                "CountCity-" + suffix,
+                "CountDistrict",
+                "CountDong"
+        );
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM service_areas WHERE city = ?",
+                Long.class,
+                "CountCity-" + suffix
+        );
+    }
+
+    private Long createWasteRequest(UserEntity requester, long serviceAreaId) {
+        WasteRequestEntity request = new WasteRequestEntity(
+                requester,
+                "서울시 집계구 1",
+                "010-1111-2222",
+                null,
+                "REQUESTED",
+                "KRW"
+        );
+        request.assignServiceArea(serviceAreaId);
+        return wasteRequestRepository.save(request).getId();
+    }
+
+    private UserEntity createUser(String email, String roleCode) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                email,
+                passwordEncoder.encode("password123"),
+                "상태집계테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                user.getId(),
+                roleCode
+        );
+        return user;
+    }
+
+    private String login(String email, String roleCode) throws Exception {
+        createUser(email, roleCode);
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+}
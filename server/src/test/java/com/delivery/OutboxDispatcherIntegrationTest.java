@@ -0,0 +1,194 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.notification.service.WasteRequestCreatedNotificationService;
+import com.delivery.outbox.model.OutboxEventType;
+import com.delivery.outbox.service.OutboxDispatcher;
+import com.delivery.outbox.service.OutboxEventPublisher;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WasteRequestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.outbox.async-enabled=true",
+        "app.outbox.poll-interval-millis=600000",
+        "app.outbox.retry-backoff-millis=0",
+        "app.outbox.max-attempts=5"
+})
+class OutboxDispatcherIntegrationTest {
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private WasteRequestCreatedNotificationService wasteRequestCreatedNotificationService;
+
+    @Test
+    void eventsAreDeliveredAfterCommitInPublishOrderPerRequest() {
+        UserEntity requester = createUser("outbox-order-requester@example.com");
+        WasteRequestEntity request = createRequest(requester);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventPublisher.publish(
+                    OutboxEventType.WASTE_REQUEST_CREATED_NOTIFICATION,
+                    request.getId(),
+                    requester.getEmail()
+            );
+            outboxEventPublisher.publish(
+                    OutboxEventType.WASTE_REQUEST_MEASURED_NOTIFICATION,
+                    request.getId(),
+                    requester.getEmail()
+            );
+            assertThat(countNotifications(requester)).isZero();
+        });
+
+        outboxDispatcher.dispatchPending();
+
+        assertThat(eventStatuses(request.getId())).containsExactly("DONE", "DONE");
+        List<String> notificationTypes = jdbcTemplate.queryForList(
+                "SELECT type FROM notifications WHERE user_id = ? ORDER BY id",
+                String.class,
+                requester.getId()
+        );
+        assertThat(notificationTypes).containsExactly("WASTE_REQUEST_CREATED", "WASTE_REQUEST_MEASURED");
+    }
+
+    @Test
+    void eventsPublishedInRolledBackTransactionAreDiscarded() {
+        UserEntity requester = createUser("outbox-rollback-requester@example.com");
+        WasteRequestEntity request = createRequest(requester);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventPublisher.publish(
+                    OutboxEventType.WASTE_REQUEST_CREATED_NOTIFICATION,
+                    request.getId(),
+                    requester.getEmail()
+            );
+            status.setRollbackOnly();
+        });
+
+        outboxDispatcher.dispatchPending();
+
+        assertThat(eventStatuses(request.getId())).isEmpty();
+        assertThat(countNotifications(requester)).isZero();
+    }
+
+    @Test
+    void failedDeliveryIsRetried() {
+        UserEntity requester = createUser("outbox-retry-requester@example.com");
+        WasteRequestEntity request = createRequest(requester);
+        doThrow(new IllegalStateException("push provider unavailable"))
+                .doCallRealMethod()
+                .when(wasteRequestCreatedNotificationService)
+                .notifyCreated(any());
+        double retriedBefore = meterRegistry.counter(
+                "outbox.events.dispatched",
+                "type", OutboxEventType.WASTE_REQUEST_CREATED_NOTIFICATION.name(),
+                "result", "retried"
+        ).count();
+
+        transactionTemplate.executeWithoutResult(status -> outboxEventPublisher.publish(
+                OutboxEventType.WASTE_REQUEST_CREATED_NOTIFICATION,
+                request.getId(),
+                requester.getEmail()
+        ));
+
+        outboxDispatcher.dispatchPending();
+        outboxDispatcher.dispatchPending();
+
+        assertThat(eventStatuses(request.getId())).containsExactly("DONE");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE aggregate_id = ?",
+                Integer.class,
+                request.getId()
+        )).isEqualTo(2);
+        assertThat(countNotifications(requester)).isEqualTo(1);
+        assertThat(meterRegistry.counter(
+                "outbox.events.dispatched",
+                "type", OutboxEventType.WASTE_REQUEST_CREATED_NOTIFICATION.name(),
+                "result", "retried"
+        ).count()).isEqualTo(retriedBefore + 1);
+    }
+
+    private List<String> eventStatuses(Long wasteRequestId) {
+        return jdbcTemplate.queryForList(
+                "SELECT status FROM outbox_events WHERE aggregate_id = ? ORDER BY id",
+                String.class,
+                wasteRequestId
+        );
+    }
+
+    private int countNotifications(UserEntity user) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE user_id = ?",
+                Integer.class,
+                user.getId()
+        );
+    }
+
+    private WasteRequestEntity createRequest(UserEntity requester) {
+        return wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "서울시 강남구 봉은사로 1",
+                "010-5555-6666",
+                null,
+                "REQUESTED",
+                "KRW"
+        ));
+    }
+
+    private UserEntity createUser(String email) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "아웃박스테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        return user;
+    }
+}
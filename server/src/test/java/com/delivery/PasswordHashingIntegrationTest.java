@@ -0,0 +1,149 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.auth.password-hashing.pool-size=1",
+        "app.auth.password-hashing.queue-capacity=1"
+})
+class PasswordHashingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void loginRehashesPasswordWhenConfiguredCostChanged() throws Exception {
+        String email = "password-rehash@example.com";
+        createUser(email, new BCryptPasswordEncoder(4).encode("password123"));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loginBody(email)))
+                .andExpect(status().isOk());
+
+        String passwordHash = userRepository.findByLoginId(email).orElseThrow().getPasswordHash();
+        assertThat(passwordHash).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches("password123", passwordHash)).isTrue();
+    }
+
+    @Test
+    void loginReturnsServiceUnavailableWhenHashingExecutorIsSaturated() throws Exception {
+        String email = "password-saturated@example.com";
+        createUser(email, passwordEncoder.encode("password123"));
+
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), any());
+
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<MvcResult>> inFlight = List.of(
+                    clients.submit(() -> performLogin(email)),
+                    clients.submit(() -> performLogin(email))
+            );
+            awaitExecutorSaturation();
+
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(loginBody(email)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value("AUTH_TEMPORARILY_UNAVAILABLE"));
+
+            release.countDown();
+            for (Future<MvcResult> result : inFlight) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(200);
+            }
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+        }
+    }
+
+    private void awaitExecutorSaturation() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (System.currentTimeMillis() < deadline) {
+            if (executorGauge("executor.active") >= 1 && executorGauge("executor.queued") >= 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("password hashing executor was not saturated");
+    }
+
+    private double executorGauge(String name) {
+        return meterRegistry.get(name)
+                .tag("name", "passwordHashing")
+                .gauge()
+                .value();
+    }
+
+    private MvcResult performLogin(String email) throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loginBody(email)))
+                .andReturn();
+    }
+
+    private void createUser(String email, String passwordHash) {
+        UserEntity user = userRepository.save(new UserEntity(email, passwordHash, "해시테스터", "ACTIVE"));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+    }
+
+    private String loginBody(String email) throws Exception {
+        return objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+    }
+
+    private record LoginPayload(String id, String password) {
+    }
+}
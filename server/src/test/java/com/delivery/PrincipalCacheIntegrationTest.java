@@ -0,0 +1,151 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PrincipalCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("DRIVER", "기사");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+        upsertRole("SYS_ADMIN", "시스템 관리자");
+    }
+
+    @Test
+    void repeatedRequestsAreServedFromPrincipalCache() throws Exception {
+        TestUser user = createUser("principal-cache-hit@example.com", "USER");
+        double hitsBefore = cacheGets("hit");
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/user/secure")
+                            .header("Authorization", "Bearer " + user.accessToken()))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(cacheGets("hit") - hitsBefore).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void roleGrantAndRevokeEvictCachedPrincipal() throws Exception {
+        TestUser sysAdmin = createUser("principal-cache-sys-admin@example.com", "SYS_ADMIN");
+        TestUser target = createUser("principal-cache-target@example.com", "DRIVER");
+
+        mockMvc.perform(get("/ops-admin/secure")
+                        .header("Authorization", "Bearer " + target.accessToken()))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/sys-admin/users/{userId}/roles/ops-admin", target.id())
+                        .header("Authorization", "Bearer " + sysAdmin.accessToken()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/ops-admin/secure")
+                        .header("Authorization", "Bearer " + target.accessToken()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/sys-admin/users/{userId}/roles/ops-admin", target.id())
+                        .header("Authorization", "Bearer " + sysAdmin.accessToken()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/ops-admin/secure")
+                        .header("Authorization", "Bearer " + target.accessToken()))
+                .andExpect(status().isForbidden());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "authPrincipal")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private TestUser createUser(String email, String roleCode) throws Exception {
+        String password = "password123";
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode(password),
+                "캐시테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, r.id
+                FROM roles r
+                WHERE r.code = ?
+                """,
+                user.getId(),
+                roleCode
+        );
+        return new TestUser(user.getId(), login(email, password));
+    }
+
+    private String login(String email, String password) throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, password));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+
+    private record TestUser(Long id, String accessToken) {
+    }
+}
@@ -0,0 +1,367 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.config.id.IdBlockAllocator;
+import com.delivery.waste.entity.WastePhotoEntity;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.repository.WastePhotoRepository;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.delivery.waste.service.WasteOrderNoPolicy;
+import com.delivery.waste.service.WasteStatusTransitionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.phone-verification.enforcement-enabled=true",
+        "app.id-allocation.block-size=1000"
+})
+class RequestSqlStatementCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteStatusTransitionService wasteStatusTransitionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WastePhotoRepository wastePhotoRepository;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @BeforeEach
+    void setUpRoles() {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", "USER", "일반 사용자");
+    }
+
+    @Test
+    void authenticatedUserRequestResolvesUserOnceAcrossFilters() throws Exception {
+        String email = "sql-count-user@example.com";
+        createVerifiedUser(email);
+        String accessToken = login(email);
+
+        int firstRequestStatements = countStatements(() -> mockMvc.perform(get("/user/secure")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk()));
+        int cachedRequestStatements = countStatements(() -> mockMvc.perform(get("/user/secure")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk()));
+
+        assertThat(firstRequestStatements).isLessThanOrEqualTo(2);
+        assertThat(cachedRequestStatements).isZero();
+    }
+
+    @Test
+    void paymentCompletionPathUsesFewerStatementsThanStepwiseTransitions() throws Exception {
+        String requesterEmail = "sql-count-path-requester@example.com";
+        String actorEmail = "sql-count-path-actor@example.com";
+        UserEntity requester = createVerifiedUser(requesterEmail);
+        createVerifiedUser(actorEmail);
+        Long stepwiseRequestId = createPaymentPendingRequest(requester);
+        Long pathRequestId = createPaymentPendingRequest(requester);
+        idBlockAllocator.next("waste_status_logs");
+
+        int stepwiseStatements = countStatements(() -> transactionTemplate.executeWithoutResult(status -> {
+            wasteStatusTransitionService.transition(stepwiseRequestId, "PAID", actorEmail);
+            wasteStatusTransitionService.transition(stepwiseRequestId, "COMPLETED", actorEmail);
+        }));
+        int pathStatements = countStatements(() -> transactionTemplate.executeWithoutResult(status ->
+                wasteStatusTransitionService.transitionPath(pathRequestId, List.of("PAID", "COMPLETED"), actorEmail)
+        ));
+
+        assertThat(pathStatements).isLessThan(stepwiseStatements);
+        assertThat(pathStatements).isLessThanOrEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM waste_status_logs WHERE request_id = ?",
+                Integer.class,
+                pathRequestId
+        )).isEqualTo(2);
+    }
+
+    @Test
+    void wasteRequestCreationBatchesInsertsWithoutOrderNoUpdate() throws Exception {
+        UserEntity requester = createVerifiedUser("sql-count-create-requester@example.com");
+        idBlockAllocator.next("waste_requests");
+        idBlockAllocator.next("waste_photos");
+        AtomicReference<Long> requestId = new AtomicReference<>();
+
+        int statements = countStatements(() -> transactionTemplate.executeWithoutResult(status -> {
+            WasteRequestEntity request = wasteRequestRepository.save(new WasteRequestEntity(
+                    requester,
+                    "서울시 강남구 선릉로 7",
+                    "010-3333-5555",
+                    null,
+                    "REQUESTED",
+                    "KRW"
+            ));
+            wastePhotoRepository.saveAll(List.of(
+                    new WastePhotoEntity(request, "/uploads/files/reference-1.jpg", "REFERENCE"),
+                    new WastePhotoEntity(request, "/uploads/files/reference-2.jpg", "REFERENCE"),
+                    new WastePhotoEntity(request, "/uploads/files/reference-3.jpg", "REFERENCE")
+            ));
+            requestId.set(request.getId());
+        }));
+
+        assertThat(statements).isEqualTo(2);
+        WasteRequestEntity saved = wasteRequestRepository.findById(requestId.get()).orElseThrow();
+        assertThat(saved.getOrderNo()).isEqualTo(WasteOrderNoPolicy.generate(saved.getId()));
+        assertThat(saved.getVersion()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM waste_photos WHERE request_id = ?",
+                Integer.class,
+                requestId.get()
+        )).isEqualTo(3);
+    }
+
+    @Test
+    void wasteRequestDetailLoadsChildrenInOneQueryAndRevalidatesByVersion() throws Exception {
+        String email = "sql-count-detail-requester@example.com";
+        UserEntity requester = createVerifiedUser(email);
+        WasteRequestEntity request = wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "서울시 강남구 선릉로 9",
+                "010-3333-6666",
+                null,
+                "ASSIGNED",
+                "KRW"
+        ));
+        wastePhotoRepository.saveAll(List.of(
+                new WastePhotoEntity(request, "/uploads/files/detail-1.jpg", "REFERENCE"),
+                new WastePhotoEntity(request, "/uploads/files/detail-2.jpg", "REFERENCE")
+        ));
+        jdbcTemplate.update(
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
+                request.getId(),
+                "REQUESTED",
+                "ASSIGNED",
+                requester.getId()
+        );
+        String accessToken = login(email);
+        mockMvc.perform(get("/user/secure")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        AtomicReference<String> eTag = new AtomicReference<>();
+        int detailStatements = countStatements(() -> eTag.set(mockMvc.perform(get("/waste-requests/{requestId}", request.getId())
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.photos.length()").value(2))
+                .andExpect(jsonPath("$.statusTimeline.length()").value(1))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag")));
+        int notModifiedStatements = countStatements(() -> mockMvc.perform(get("/waste-requests/{requestId}", request.getId())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-None-Match", eTag.get()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag.get())));
+
+        assertThat(eTag.get()).isEqualTo("\"" + request.getId() + "-" + request.getVersion() + "\"");
+        assertThat(detailStatements).isLessThanOrEqualTo(3);
+        assertThat(notModifiedStatements).isLessThanOrEqualTo(2);
+    }
+
+    private int countStatements(ThrowingRunnable runnable) throws Exception {
+        StatementCounter.start();
+        try {
+            runnable.run();
+            return StatementCounter.count();
+        } finally {
+            StatementCounter.stop();
+        }
+    }
+
+    private Long createPaymentPendingRequest(UserEntity requester) {
+        return wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "서울시 강남구 선릉로 5",
+                "010-3333-4444",
+                null,
+                "PAYMENT_PENDING",
+                "KRW"
+        )).getId();
+    }
+
+    private UserEntity createVerifiedUser(String email) {
+        UserEntity user = new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "쿼리카운트",
+                "ACTIVE"
+        );
+        user.markPhoneVerified(
+                "+821012345678",
+                Instant.parse("2026-03-01T00:00:00Z"),
+                "PORTONE_DANAL",
+                "verified-" + email,
+                "ci-value".getBytes(),
+                "di-value".getBytes()
+        );
+        UserEntity saved = userRepository.save(user);
+        authIdentityRepository.save(new AuthIdentityEntity(saved, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, id FROM roles WHERE code = ?
+                """,
+                saved.getId(),
+                "USER"
+        );
+        return saved;
+    }
+
+    private String login(String email) throws Exception {
+        String loginBody = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String loginResponse = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loginBody))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(loginResponse).get("accessToken").asText();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+                        return StatementCounter.wrap(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static final class StatementCounter {
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+        private static final AtomicInteger COUNT = new AtomicInteger();
+        private static volatile Thread trackedThread;
+
+        private StatementCounter() {
+        }
+
+        static void start() {
+            COUNT.set(0);
+            trackedThread = Thread.currentThread();
+        }
+
+        static int count() {
+            return COUNT.get();
+        }
+
+        static void stop() {
+            trackedThread = null;
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return (DataSource) Proxy.newProxyInstance(
+                    DataSource.class.getClassLoader(),
+                    new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(dataSource, method, args);
+                        if (result instanceof Connection connection) {
+                            return wrap(connection);
+                        }
+                        return result;
+                    }
+            );
+        }
+
+        private static Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (STATEMENT_METHODS.contains(method.getName()) && trackedThread == Thread.currentThread()) {
+                            COUNT.incrementAndGet();
+                        }
+                        return invoke(connection, method, args);
+                    }
+            );
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.auth.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.jwt.self-contained-access-token=true",
+        "app.phone-verification.enforcement-enabled=true"
+})
+class SelfContainedAccessTokenIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUpRoles() {
+        upsertRole("USER", "일반 사용자");
+        upsertRole("DRIVER", "기사");
+        upsertRole("OPS_ADMIN", "운영 관리자");
+        upsertRole("SYS_ADMIN", "시스템 관리자");
+    }
+
+    @Test
+    void accessTokenCarriesRolesPhoneVerificationAndSecurityEpoch() throws Exception {
+        createUser("sc-claims@example.com", "DRIVER", true);
+        Tokens tokens = login("sc-claims@example.com");
+
+        Claims claims = jwtTokenProvider.parseClaims(tokens.accessToken());
+        List<?> roles = claims.get("roles", List.class);
+        assertThat(roles.stream().map(String::valueOf).toList()).containsExactly("DRIVER");
+        assertThat(claims.get("phoneVerified", Boolean.class)).isTrue();
+        assertThat(claims.get("securityEpoch", Long.class)).isZero();
+        assertThat(jwtTokenProvider.toPrincipal(claims).email()).isEqualTo("sc-claims@example.com");
+
+        mockMvc.perform(get("/driver/secure")
+                        .header("Authorization", "Bearer " + tokens.accessToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/ops-admin/secure")
+                        .header("Authorization", "Bearer " + tokens.accessToken()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void unverifiedClaimIsBlockedByPhoneVerificationGuard() throws Exception {
+        createUser("sc-unverified@example.com", "USER", false);
+        Tokens tokens = login("sc-unverified@example.com");
+
+        mockMvc.perform(get("/user/secure")
+                        .header("Authorization", "Bearer " + tokens.accessToken()))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("PHONE_VERIFICATION_REQUIRED"));
+    }
+
+    @Test
+    void roleChangeBumpsSecurityEpochAndRejectsStaleAccessToken() throws Exception {
+        createUser("sc-sys-admin@example.com", "SYS_ADMIN", true);
+        Long targetId = createUser("sc-target@example.com", "DRIVER", true);
+        Tokens sysAdmin = login("sc-sys-admin@example.com");
+        Tokens target = login("sc-target@example.com");
+
+        mockMvc.perform(get("/driver/secure")
+                        .header("Authorization", "Bearer " + target.accessToken()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/sys-admin/users/{userId}/roles/ops-admin", targetId)
+                        .header("Authorization", "Bearer " + sysAdmin.accessToken()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/driver/secure")
+                        .header("Authorization", "Bearer " + target.accessToken()))
+                .andExpect(status().isUnauthorized());
+
+        String refreshed = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshPayload(target.refreshToken()))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String refreshedAccessToken = objectMapper.readTree(refreshed).get("accessToken").asText();
+
+        assertThat(jwtTokenProvider.parseClaims(refreshedAccessToken).get("securityEpoch", Long.class)).isEqualTo(1L);
+        mockMvc.perform(get("/ops-admin/secure")
+                        .header("Authorization", "Bearer " + refreshedAccessToken))
+                .andExpect(status().isOk());
+    }
+
+    private Long createUser(String email, String roleCode, boolean verified) {
+        UserEntity user = new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "토큰테스터",
+                "ACTIVE"
+        );
+        if (verified) {
+            user.markPhoneVerified(
+                    "+821012345678",
+                    Instant.parse("2026-03-01T00:00:00Z"),
+                    "PORTONE_DANAL",
+                    "verified-" + email,
+                    "ci-value".getBytes(),
+                    "di-value".getBytes()
+            );
+        }
+        UserEntity saved = userRepository.save(user);
+        authIdentityRepository.save(new AuthIdentityEntity(saved, "LOCAL", email));
+        jdbcTemplate.update(
+                """
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT ?, r.id
+                FROM roles r
+                WHERE r.code = ?
+                """,
+                saved.getId(),
+                roleCode
+        );
+        return saved.getId();
+    }
+
+    private Tokens login(String email) throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginPayload(email, "password123"));
+        String response = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode jsonNode = objectMapper.readTree(response);
+        return new Tokens(jsonNode.get("accessToken").asText(), jsonNode.get("refreshToken").asText());
+    }
+
+    private void upsertRole(String code, String description) {
+        jdbcTemplate.update("MERGE INTO roles (code, description) KEY(code) VALUES (?, ?)", code, description);
+    }
+
+    private record LoginPayload(String email, String password) {
+    }
+
+    private record RefreshPayload(String refreshToken) {
+    }
+
+    private record Tokens(String accessToken, String refreshToken) {
+    }
+}
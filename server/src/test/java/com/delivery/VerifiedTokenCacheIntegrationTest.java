@@ -0,0 +1,66 @@
+package com.delivery;
+
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VerifiedTokenCacheIntegrationTest {
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repeatedParseOfSameTokenIsServedFromVerifiedTokenCache() {
+        String token = jwtTokenProvider.generateAccessToken(
+                new UserEntity("verified-token-cache@example.com", "hash", "토큰캐시", "ACTIVE")
+        );
+        double hitsBefore = cacheGets("hit");
+
+        Claims first = jwtTokenProvider.parseClaims(token);
+        Claims second = jwtTokenProvider.parseClaims(token);
+        Claims third = jwtTokenProvider.parseClaims(token);
+
+        assertThat(first.getSubject()).isEqualTo("verified-token-cache@example.com");
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(cacheGets("hit") - hitsBefore).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenWhenOriginalIsCached() {
+        String token = jwtTokenProvider.generateAccessToken(
+                new UserEntity("verified-token-tampered@example.com", "hash", "토큰캐시", "ACTIVE")
+        );
+        String other = jwtTokenProvider.generateAccessToken(
+                new UserEntity("verified-token-other@example.com", "hash", "토큰캐시", "ACTIVE")
+        );
+        jwtTokenProvider.parseClaims(token);
+
+        String tampered = token.substring(0, token.lastIndexOf('.')) + other.substring(other.lastIndexOf('.'));
+
+        assertThatThrownBy(() -> jwtTokenProvider.parseClaims(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "authVerifiedToken")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -7,6 +7,7 @@ import com.delivery.auth.entity.AuthIdentityEntity;
 import com.delivery.auth.entity.UserEntity;
 import com.delivery.auth.repository.AuthIdentityRepository;
 import com.delivery.auth.repository.UserRepository;
+import com.delivery.config.id.IdBlockAllocator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -56,6 +58,9 @@ class WasteRequestIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
     @MockBean
     private AddressSearchService addressSearchService;
 
@@ -109,6 +114,18 @@ class WasteRequestIntegrationTest {
                 .getContentAsString();
         Long requestId = objectMapper.readTree(createResponse).get("id").asLong();
         String expectedOrderNo = expectedOrderNo(requestId);
+        Long matchedServiceAreaId = jdbcTemplate.queryForObject(
+                "SELECT id FROM service_areas WHERE city = ? AND district = ? AND dong = ?",
+                Long.class,
+                "Seoul",
+                "Mapo-gu",
+                "Seogyo-dong"
+        );
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT service_area_id FROM waste_requests WHERE id = ?",
+                Long.class,
+                requestId
+        )).isEqualTo(matchedServiceAreaId);
 
         mockMvc.perform(get("/waste-requests")
                         .header("Authorization", "Bearer " + user.accessToken()))
@@ -212,26 +229,30 @@ class WasteRequestIntegrationTest {
                 requestId
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_photos (request_id, url, type, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_photos (id, request_id, url, type, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_photos"),
                 requestId,
                 "/uploads/files/detail-photo-1.jpg",
                 "TRASH"
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_photos (request_id, url, type, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_photos (id, request_id, url, type, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_photos"),
                 requestId,
                 "/uploads/files/detail-photo-2.jpg",
                 "SCALE"
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_status_logs (request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
                 requestId,
                 "REQUESTED",
                 "ASSIGNED",
                 driver.getId()
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_status_logs (request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
                 requestId,
                 "ASSIGNED",
                 "MEASURED",
@@ -301,21 +322,24 @@ class WasteRequestIntegrationTest {
                 requestId
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_status_logs (request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
                 requestId,
                 "REQUESTED",
                 "ASSIGNED",
                 driver.getId()
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_status_logs (request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
                 requestId,
                 "ASSIGNED",
                 "MEASURED",
                 driver.getId()
         );
         jdbcTemplate.update(
-                "INSERT INTO waste_status_logs (request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                "INSERT INTO waste_status_logs (id, request_id, from_status, to_status, actor_user_id, created_at) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                idBlockAllocator.next("waste_status_logs"),
                 requestId,
                 "MEASURED",
                 "PAYMENT_PENDING",
@@ -350,6 +374,28 @@ class WasteRequestIntegrationTest {
                 .andExpect(jsonPath("$.bagCount").value(0));
     }
 
+    @Test
+    void unknownDisposalItemIsRejectedWithoutGrowingCatalog() throws Exception {
+        TestUser user = createUserAndLogin("waste-unknown-item@example.com", "USER", true);
+        Integer catalogSize = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM disposal_item_catalog", Integer.class);
+
+        mockMvc.perform(post("/waste-requests")
+                        .header("Authorization", "Bearer " + user.accessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "address": "Seoul Mapo-gu Seogyo-dong Worldcup-ro 1",
+                                  "disposalItems": ["GENERAL", "MATTRESS"],
+                                  "bagCount": 1
+                                }
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_DISPOSAL_ITEM"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM disposal_item_catalog", Integer.class))
+                .isEqualTo(catalogSize);
+    }
+
     @Test
     void orderNoIsGeneratedWithPolicyAndIsUniqueAcrossRequests() throws Exception {
         TestUser user = createUserAndLogin("waste-order-no@example.com", "USER", true);
@@ -0,0 +1,147 @@
+package com.delivery;
+
+import com.delivery.auth.entity.AuthIdentityEntity;
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.auth.repository.AuthIdentityRepository;
+import com.delivery.auth.repository.UserRepository;
+import com.delivery.waste.entity.WasteRequestEntity;
+import com.delivery.waste.exception.WasteRequestConcurrentModificationException;
+import com.delivery.waste.repository.WasteRequestRepository;
+import com.delivery.waste.repository.WasteStatusLogRepository;
+import com.delivery.waste.service.WasteRequestUpdateExecutor;
+import com.delivery.waste.service.WasteStatusTransitionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.waste.concurrency.max-attempts=30",
+        "app.waste.concurrency.retry-backoff-millis=5"
+})
+class WasteRequestOptimisticLockIntegrationTest {
+
+    private static final int CONCURRENT_UPDATES = 20;
+
+    @Autowired
+    private WasteRequestUpdateExecutor wasteRequestUpdateExecutor;
+
+    @Autowired
+    private WasteStatusTransitionService wasteStatusTransitionService;
+
+    @Autowired
+    private WasteRequestRepository wasteRequestRepository;
+
+    @Autowired
+    private WasteStatusLogRepository wasteStatusLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthIdentityRepository authIdentityRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentTransitionsNeverLoseUpdates() throws Exception {
+        UserEntity requester = createUser("optimistic-lock-requester@example.com");
+        UserEntity actor = createUser("optimistic-lock-actor@example.com");
+        WasteRequestEntity request = wasteRequestRepository.save(new WasteRequestEntity(
+                requester,
+                "서울시 강남구 역삼로 10",
+                "010-1111-2222",
+                null,
+                "PAYMENT_PENDING",
+                "KRW"
+        ));
+        Long requestId = request.getId();
+
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger exhausted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        wasteRequestUpdateExecutor.execute("stressToggle", () -> {
+                            String current = wasteRequestRepository.findById(requestId).orElseThrow().getStatus();
+                            String next = "PAYMENT_PENDING".equals(current) ? "PAYMENT_FAILED" : "PAYMENT_PENDING";
+                            return wasteStatusTransitionService.transition(requestId, next, actor.getEmail());
+                        });
+                        successes.incrementAndGet();
+                    } catch (WasteRequestConcurrentModificationException exception) {
+                        exhausted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(successes.get() + exhausted.get()).isEqualTo(CONCURRENT_UPDATES);
+        assertThat(successes.get()).isPositive();
+
+        WasteRequestEntity updated = wasteRequestRepository.findById(requestId).orElseThrow();
+        assertThat(updated.getVersion()).isEqualTo(successes.get());
+        assertThat(wasteStatusLogRepository.findByRequestOrderByCreatedAtAsc(updated)).hasSize(successes.get());
+        assertThat(updated.getStatus()).isEqualTo(successes.get() % 2 == 0 ? "PAYMENT_PENDING" : "PAYMENT_FAILED");
+    }
+
+    @Test
+    void persistentConflictIsRetriedUpToMaxAttemptsThenRejected() {
+        AtomicInteger invocations = new AtomicInteger();
+
+        assertThatThrownBy(() -> wasteRequestUpdateExecutor.execute("alwaysConflicting", () -> {
+            invocations.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(WasteRequestEntity.class, 1L);
+        })).isInstanceOf(WasteRequestConcurrentModificationException.class);
+
+        assertThat(invocations.get()).isEqualTo(30);
+        assertThat(meterRegistry.counter("waste.request.update.conflicts", "operation", "alwaysConflicting").count())
+                .isEqualTo(30.0);
+        assertThat(meterRegistry.counter("waste.request.update.exhausted", "operation", "alwaysConflicting").count())
+                .isEqualTo(1.0);
+    }
+
+    private UserEntity createUser(String email) {
+        UserEntity user = userRepository.save(new UserEntity(
+                email,
+                passwordEncoder.encode("password123"),
+                "낙관적잠금테스터",
+                "ACTIVE"
+        ));
+        authIdentityRepository.save(new AuthIdentityEntity(user, "LOCAL", email));
+        return user;
+    }
+}
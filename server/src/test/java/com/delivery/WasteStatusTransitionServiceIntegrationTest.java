@@ -146,6 +146,47 @@ class WasteStatusTransitionServiceIntegrationTest {
         assertThat(logs.get(3).getToStatus()).isEqualTo("PAYMENT_FAILED");
     }
 
+    @Test
+    void transitionPathAppliesFinalStatusAndWritesLogPerStep() {
+        UserEntity requester = createUser("waste-path-requester@example.com");
+        UserEntity actor = createUser("waste-path-actor@example.com");
+        WasteRequestEntity request = createRequest(requester, "서울시 마포구 월드컵로 20");
+
+        wasteStatusTransitionService.transitionPath(
+                request.getId(),
+                List.of("ASSIGNED", "MEASURED", "PAYMENT_PENDING", "PAID", "COMPLETED"),
+                actor.getEmail()
+        );
+
+        WasteRequestEntity updated = wasteRequestRepository.findById(request.getId()).orElseThrow();
+        assertThat(updated.getStatus()).isEqualTo("COMPLETED");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+
+        List<WasteStatusLogEntity> logs = wasteStatusLogRepository.findByRequestOrderByCreatedAtAsc(updated);
+        assertThat(logs).extracting(WasteStatusLogEntity::getFromStatus)
+                .containsExactly("REQUESTED", "ASSIGNED", "MEASURED", "PAYMENT_PENDING", "PAID");
+        assertThat(logs).extracting(WasteStatusLogEntity::getToStatus)
+                .containsExactly("ASSIGNED", "MEASURED", "PAYMENT_PENDING", "PAID", "COMPLETED");
+        assertThat(logs).allSatisfy(log -> assertThat(log.getActorUser().getId()).isEqualTo(actor.getId()));
+    }
+
+    @Test
+    void transitionPathWithInvalidStepChangesNothing() {
+        UserEntity requester = createUser("waste-path-invalid-requester@example.com");
+        UserEntity actor = createUser("waste-path-invalid-actor@example.com");
+        WasteRequestEntity request = createRequest(requester, "서울시 용산구 한강대로 30");
+
+        assertThatThrownBy(() -> wasteStatusTransitionService.transitionPath(
+                request.getId(),
+                List.of("ASSIGNED", "MEASURED", "PAID"),
+                actor.getEmail()
+        )).isInstanceOf(WasteStatusTransitionConflictException.class);
+
+        WasteRequestEntity unchanged = wasteRequestRepository.findById(request.getId()).orElseThrow();
+        assertThat(unchanged.getStatus()).isEqualTo("REQUESTED");
+        assertThat(wasteStatusLogRepository.findByRequestOrderByCreatedAtAsc(unchanged)).isEmpty();
+    }
+
     private WasteRequestEntity createRequest(UserEntity requester, String address) {
         return wasteRequestRepository.save(new WasteRequestEntity(
                 requester,
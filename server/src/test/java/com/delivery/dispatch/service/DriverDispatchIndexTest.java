@@ -0,0 +1,81 @@
+package com.delivery.dispatch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DriverDispatchIndexTest {
+
+    @Test
+    void decidePrefersLeastLoadedDriverInServiceAreaAndBreaksTiesByDriverId() {
+        DriverDispatchIndex index = new DriverDispatchIndex(10);
+        index.addCoverage(2L, 100L, "서울특별시", "마포구");
+        index.addCoverage(1L, 100L, "서울특별시", "마포구");
+        index.addCoverage(3L, 100L, "서울특별시", "마포구");
+        index.setOpenAssignments(3L, 2);
+
+        assertThat(index.decide(100L).driverId()).isEqualTo(1L);
+        assertThat(index.decide(100L).driverId()).isEqualTo(2L);
+        assertThat(index.decide(100L).driverId()).isEqualTo(1L);
+        assertThat(index.openAssignments(1L)).isEqualTo(2);
+        assertThat(index.openAssignments(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void decideFallsBackToDriversInSameDistrict() {
+        DriverDispatchIndex index = new DriverDispatchIndex(10);
+        index.addCoverage(1L, 100L, "서울특별시", "마포구");
+        index.addServiceArea(101L, "서울특별시", " 마포구 ");
+        index.addServiceArea(200L, "서울특별시", "강남구");
+
+        DriverDispatchIndex.Decision district = index.decide(101L);
+        DriverDispatchIndex.Decision noDriver = index.decide(200L);
+
+        assertThat(district.driverId()).isEqualTo(1L);
+        assertThat(district.matchType()).isEqualTo(DriverDispatchIndex.MATCH_DISTRICT);
+        assertThat(noDriver.isMatched()).isFalse();
+        assertThat(noDriver.unmatchedReason()).isEqualTo(DriverDispatchIndex.UNMATCHED_NO_DRIVER);
+    }
+
+    @Test
+    void decideReportsUnknownAreaAndFullCapacity() {
+        DriverDispatchIndex index = new DriverDispatchIndex(1);
+        index.addCoverage(1L, 100L, "서울특별시", "마포구");
+
+        assertThat(index.decide(null).unmatchedReason()).isEqualTo(DriverDispatchIndex.UNMATCHED_NO_SERVICE_AREA);
+        assertThat(index.decide(999L).unmatchedReason()).isEqualTo(DriverDispatchIndex.UNMATCHED_NO_SERVICE_AREA);
+        assertThat(index.decide(100L).matchType()).isEqualTo(DriverDispatchIndex.MATCH_SERVICE_AREA);
+        assertThat(index.decide(100L).unmatchedReason()).isEqualTo(DriverDispatchIndex.UNMATCHED_DRIVER_CAPACITY_FULL);
+    }
+
+    @Test
+    void decideKeepsLoadBalancedAcrossLargeSyntheticFleet() {
+        int areaCount = 400;
+        int driversPerArea = 5;
+        int decisions = 50_000;
+        DriverDispatchIndex index = new DriverDispatchIndex(Integer.MAX_VALUE);
+        long driverId = 1L;
+        for (long areaId = 1; areaId <= areaCount; areaId++) {
+            for (int i = 0; i < driversPerArea; i++) {
+                index.addCoverage(driverId++, areaId, "city", "district-" + (areaId / 10));
+            }
+        }
+
+        Map<Long, Integer> assignedByDriver = new HashMap<>();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < decisions; i++) {
+            DriverDispatchIndex.Decision decision = index.decide((long) (i % areaCount) + 1);
+            assignedByDriver.merge(decision.driverId(), 1, Integer::sum);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(index.driverCount()).isEqualTo(areaCount * driversPerArea);
+        assertThat(assignedByDriver).hasSize(areaCount * driversPerArea);
+        assertThat(assignedByDriver.values()).allSatisfy(count -> assertThat(count).isBetween(24, 26));
+        assertThat(elapsedMillis).isLessThan(5_000L);
+    }
+}
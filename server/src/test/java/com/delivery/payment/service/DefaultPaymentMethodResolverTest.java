@@ -0,0 +1,156 @@
+package com.delivery.payment.service;
+
+import com.delivery.auth.entity.UserEntity;
+import com.delivery.payment.config.PaymentMethodCacheProperties;
+import com.delivery.payment.entity.PaymentMethodEntity;
+import com.delivery.payment.model.PaymentMethodSnapshot;
+import com.delivery.payment.repository.PaymentMethodRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultPaymentMethodResolverTest {
+
+    @Mock
+    private PaymentMethodRepository paymentMethodRepository;
+
+    private DefaultPaymentMethodResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new DefaultPaymentMethodResolver(
+                paymentMethodRepository,
+                new PaymentMethodCacheProperties(),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void cachesResolvedCardUntilEvicted() {
+        UserEntity user = user(1L);
+        PaymentMethodEntity card = card(user, 10L);
+        when(paymentMethodRepository.findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD"))
+                .thenReturn(Optional.of(card));
+
+        assertThat(resolver.resolve(user)).contains(snapshot(10L));
+        assertThat(resolver.resolve(user)).contains(snapshot(10L));
+        verify(paymentMethodRepository, times(1))
+                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD");
+
+        resolver.evict(1L);
+
+        assertThat(resolver.resolve(user)).contains(snapshot(10L));
+        verify(paymentMethodRepository, times(2))
+                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD");
+    }
+
+    @Test
+    void doesNotCacheMissingCard() {
+        UserEntity user = user(2L);
+        when(paymentMethodRepository.findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD"))
+                .thenReturn(Optional.empty());
+
+        assertThat(resolver.resolve(user)).isEmpty();
+        assertThat(resolver.resolve(user)).isEmpty();
+
+        verify(paymentMethodRepository, times(2))
+                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD");
+    }
+
+    @Test
+    void preloadKeepsLatestCardPerUserAndRefreshesCachedUsers() {
+        UserEntity first = user(3L);
+        UserEntity second = user(4L);
+        PaymentMethodEntity firstLatest = card(first, 31L);
+        PaymentMethodEntity firstOlder = card(first, 30L);
+        PaymentMethodEntity secondCard = card(second, 40L);
+        PaymentMethodEntity firstReplaced = card(first, 32L);
+        when(paymentMethodRepository.findAllByUserIdInAndStatusAndMethodTypeOrderByCreatedAtDesc(
+                List.of(3L, 4L),
+                "ACTIVE",
+                "CARD"
+        )).thenReturn(List.of(firstLatest, secondCard, firstOlder)).thenReturn(List.of(firstReplaced));
+
+        resolver.preload(List.of(3L, 4L, 3L));
+
+        assertThat(resolver.resolve(first)).contains(snapshot(31L));
+        assertThat(resolver.resolve(second)).contains(snapshot(40L));
+
+        resolver.preload(List.of(3L, 4L));
+
+        assertThat(resolver.resolve(first)).contains(snapshot(32L));
+        verify(paymentMethodRepository, times(2))
+                .findAllByUserIdInAndStatusAndMethodTypeOrderByCreatedAtDesc(anyCollection(), eq("ACTIVE"), eq("CARD"));
+        verify(paymentMethodRepository, never())
+                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(any(), any(), any());
+    }
+
+    @Test
+    void attachesSnapshotByReference() {
+        PaymentMethodEntity reference = mock(PaymentMethodEntity.class);
+        when(paymentMethodRepository.getReferenceById(50L)).thenReturn(reference);
+
+        assertThat(resolver.attach(snapshot(50L))).isSameAs(reference);
+    }
+
+    @Test
+    void bypassesCacheWhenDisabled() {
+        PaymentMethodCacheProperties properties = new PaymentMethodCacheProperties();
+        properties.setEnabled(false);
+        DefaultPaymentMethodResolver disabled = new DefaultPaymentMethodResolver(
+                paymentMethodRepository,
+                properties,
+                new SimpleMeterRegistry()
+        );
+        UserEntity user = user(5L);
+        PaymentMethodEntity card = card(user, 50L);
+        when(paymentMethodRepository.findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD"))
+                .thenReturn(Optional.of(card));
+
+        disabled.preload(List.of(5L));
+        disabled.resolve(user);
+        disabled.resolve(user);
+
+        verify(paymentMethodRepository, never())
+                .findAllByUserIdInAndStatusAndMethodTypeOrderByCreatedAtDesc(anyCollection(), any(), any());
+        verify(paymentMethodRepository, times(2))
+                .findFirstByUserAndStatusAndMethodTypeOrderByCreatedAtDesc(user, "ACTIVE", "CARD");
+    }
+
+    private UserEntity user(Long id) {
+        UserEntity user = mock(UserEntity.class);
+        lenient().when(user.getId()).thenReturn(id);
+        return user;
+    }
+
+    private PaymentMethodEntity card(UserEntity user, Long id) {
+        PaymentMethodEntity card = mock(PaymentMethodEntity.class);
+        lenient().when(card.getUser()).thenReturn(user);
+        lenient().when(card.getId()).thenReturn(id);
+        lenient().when(card.getCustomerKey()).thenReturn("customer-" + id);
+        lenient().when(card.getBillingKeyOrToken()).thenReturn("billing-" + id);
+        return card;
+    }
+
+    private PaymentMethodSnapshot snapshot(Long id) {
+        return new PaymentMethodSnapshot(id, "customer-" + id, "billing-" + id);
+    }
+}
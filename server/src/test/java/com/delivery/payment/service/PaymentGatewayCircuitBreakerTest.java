@@ -0,0 +1,47 @@
+package com.delivery.payment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentGatewayCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private final PaymentGatewayCircuitBreaker circuitBreaker = new PaymentGatewayCircuitBreaker(2, 100L, clock::get);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsUntilOpenWindowPasses() {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        clock.addAndGet(100L);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successfulTrialClosesCircuitAndFailedTrialReopensIt() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        clock.addAndGet(100L);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        clock.addAndGet(100L);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.recordSuccess();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,43 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.config.PaymentGatewayStubProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentGatewayStubServiceTest {
+
+    @Test
+    void replaysApprovedResponseForSameIdempotencyKey() {
+        PaymentGatewayStubService stub = stub(0.0d, 0.0d);
+
+        ResponseEntity<Map<String, Object>> first = stub.charge("order-1-0", Map.of("orderId", "order-1", "amount", 1000));
+        ResponseEntity<Map<String, Object>> replayed = stub.charge("order-1-0", Map.of("orderId", "order-1", "amount", 1000));
+        ResponseEntity<Map<String, Object>> next = stub.charge("order-1-1", Map.of("orderId", "order-1", "amount", 1000));
+
+        assertThat(first.getStatusCode().value()).isEqualTo(200);
+        assertThat(first.getBody()).containsEntry("status", "DONE");
+        assertThat(replayed.getBody().get("paymentKey")).isEqualTo(first.getBody().get("paymentKey"));
+        assertThat(next.getBody().get("paymentKey")).isNotEqualTo(first.getBody().get("paymentKey"));
+    }
+
+    @Test
+    void configuredRatesProduceServerErrorsAndDeclines() {
+        assertThat(stub(1.0d, 0.0d).charge("order-2-0", Map.of()).getStatusCode().value()).isEqualTo(500);
+        assertThat(stub(0.0d, 1.0d).charge("order-3-0", Map.of()).getStatusCode().value()).isEqualTo(400);
+    }
+
+    private PaymentGatewayStubService stub(double errorRate, double declineRate) {
+        PaymentGatewayStubProperties properties = new PaymentGatewayStubProperties();
+        properties.setEnabled(true);
+        properties.setMinLatencyMillis(0L);
+        properties.setMaxLatencyMillis(0L);
+        properties.setErrorRate(errorRate);
+        properties.setDeclineRate(declineRate);
+        return new PaymentGatewayStubService(properties, new SimpleMeterRegistry());
+    }
+}
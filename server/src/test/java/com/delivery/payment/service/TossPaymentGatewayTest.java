@@ -0,0 +1,113 @@
+package com.delivery.payment.service;
+
+import com.delivery.payment.config.PaymentGatewayProperties;
+import com.delivery.payment.model.PaymentChargeOutcome;
+import com.delivery.payment.model.PaymentChargeRequest;
+import com.delivery.payment.model.PaymentChargeResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class TossPaymentGatewayTest {
+
+    private static final String BILLING_URL = "https://pay.example.com/v1/billing/billing-key-1";
+
+    private MockRestServiceServer mockServer;
+    private TossPaymentGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+
+        PaymentGatewayProperties properties = new PaymentGatewayProperties();
+        properties.setProvider("TOSS");
+        properties.setBaseUrl("https://pay.example.com/");
+        properties.setSecretKey("test_sk");
+        properties.setCircuitFailureThreshold(2);
+        properties.setCircuitOpenMillis(60_000L);
+
+        gateway = new TossPaymentGateway(restTemplate, properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void approvedChargeSendsIdempotencyKeyAndReturnsPaymentKey() {
+        String basicAuth = "Basic " + Base64.getEncoder().encodeToString("test_sk:".getBytes());
+        mockServer.expect(once(), requestTo(BILLING_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Idempotency-Key", "ORDER-WR-1-abc-0"))
+                .andExpect(header("Authorization", basicAuth))
+                .andExpect(jsonPath("$.orderId").value("ORDER-WR-1-abc"))
+                .andExpect(jsonPath("$.amount").value(12000))
+                .andRespond(withSuccess(
+                        "{\"paymentKey\":\"pk_1\",\"orderId\":\"ORDER-WR-1-abc\",\"status\":\"DONE\"}",
+                        MediaType.APPLICATION_JSON
+                ));
+
+        PaymentChargeResult result = gateway.charge(request());
+
+        assertThat(result.outcome()).isEqualTo(PaymentChargeOutcome.APPROVED);
+        assertThat(result.paymentKey()).isEqualTo("pk_1");
+        mockServer.verify();
+    }
+
+    @Test
+    void clientErrorIsReportedAsDeclineWithProviderCode() {
+        mockServer.expect(once(), requestTo(BILLING_URL))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"code\":\"REJECT_CARD_COMPANY\",\"message\":\"card rejected\"}"));
+
+        PaymentChargeResult result = gateway.charge(request());
+
+        assertThat(result.outcome()).isEqualTo(PaymentChargeOutcome.DECLINED);
+        assertThat(result.failureCode()).isEqualTo("REJECT_CARD_COMPANY");
+        assertThat(result.failureMessage()).isEqualTo("card rejected");
+    }
+
+    @Test
+    void serverErrorsAreUnknownAndOpenCircuitAfterThreshold() {
+        mockServer.expect(times(2), requestTo(BILLING_URL))
+                .andRespond(withServerError());
+
+        assertThat(gateway.charge(request()).outcome()).isEqualTo(PaymentChargeOutcome.UNKNOWN);
+        assertThat(gateway.charge(request()).outcome()).isEqualTo(PaymentChargeOutcome.UNKNOWN);
+
+        PaymentChargeResult rejected = gateway.charge(request());
+
+        assertThat(rejected.outcome()).isEqualTo(PaymentChargeOutcome.UNKNOWN);
+        assertThat(rejected.failureCode()).isEqualTo("PAYMENT_GATEWAY_UNAVAILABLE");
+        mockServer.verify();
+    }
+
+    private PaymentChargeRequest request() {
+        return new PaymentChargeRequest(
+                "ORDER-WR-1-abc-0",
+                "ORDER-WR-1-abc",
+                "customer-key-1",
+                "billing-key-1",
+                12000L,
+                "KRW",
+                "order"
+        );
+    }
+}
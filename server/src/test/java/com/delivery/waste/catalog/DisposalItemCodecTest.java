@@ -0,0 +1,52 @@
+package com.delivery.waste.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DisposalItemCodecTest {
+
+    private final DisposalItemCodec codec = new DisposalItemCodec(Map.of(1, "GENERAL", 2, "BOX", 3, "RECYCLE"));
+
+    @Test
+    void encodeAndDecodeKeepOrderAndDuplicates() {
+        String encoded = codec.encode(List.of("RECYCLE", "GENERAL", "RECYCLE"));
+
+        assertThat(encoded).isEqualTo("3,1,3");
+        assertThat(codec.decode(encoded)).containsExactly("RECYCLE", "GENERAL", "RECYCLE");
+    }
+
+    @Test
+    void emptyListIsEncodedAsEmptyString() {
+        assertThat(codec.encode(List.of())).isEmpty();
+        assertThat(codec.decode("")).isEmpty();
+        assertThat(codec.decode(null)).isEmpty();
+    }
+
+    @Test
+    void decodeReusesInternedListForSameCodes() {
+        List<String> first = codec.decode("1,2");
+        List<String> second = codec.decode(new String("1,2"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.get(0)).isSameAs("GENERAL");
+    }
+
+    @Test
+    void unknownItemsAndCodesAreReportedAsMisses() {
+        assertThat(codec.encode(List.of("GENERAL", "MATTRESS"))).isNull();
+        assertThat(codec.decode("1,4")).isNull();
+        assertThat(codec.decode("1,99999999999")).isNull();
+        assertThat(codec.idOf("BOX")).isEqualTo(2);
+    }
+
+    @Test
+    void malformedCodesAreRejected() {
+        assertThatThrownBy(() -> codec.decode("1,x"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
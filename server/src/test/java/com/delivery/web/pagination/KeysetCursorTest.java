@@ -0,0 +1,38 @@
+package com.delivery.web.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsPosition() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2026-01-02T03:04:05.123456Z"), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode(), IllegalStateException::new)).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(" ", IllegalStateException::new)).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursorWithSuppliedException() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor", IllegalStateException::new))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%", IllegalStateException::new))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void encodesLastRowOnlyWhenMoreRowsFollow() {
+        List<Long> ids = List.of(3L, 2L);
+        Instant at = Instant.parse("2026-01-01T00:00:00Z");
+
+        assertThat(KeysetCursor.next(ids, true, id -> new KeysetCursor(at, id)))
+                .isEqualTo(new KeysetCursor(at, 2L).encode());
+        assertThat(KeysetCursor.next(ids, false, id -> new KeysetCursor(at, id))).isNull();
+    }
+}